@@ -0,0 +1,156 @@
+package benchmarks;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generated fixtures of the benchmarks. The data is generated from a fixed seed, so every run measures the same input
+ * @since 19.10.2026
+ */
+public final class BenchmarkFixtures {
+
+    private static final long SEED = 20261019L;
+    private static final String[] CITIES = {"Haifa", "Rotterdam", "Singapore", "Shanghai", "Hamburg", "Antwerp", "Valencia", "Savannah"};
+    private static final String[] STATUSES = {"Loaded", "Discharged", "In transit", "Gate in", "Gate out", "Empty"};
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Random random() {
+        return new Random(SEED);
+    }
+
+    /**
+     * Date strings in common formats, and one that matches none of DateParser's patterns
+     */
+    public static List<String> dateStrings() {
+        return List.of("2023-03-19", "19/03/2023", "19-03-2023", "2023/03/19", "19.03.2023", "19 Mar 2023", "19 March 2023",
+                "Mar 19, 2023", "2023-03-19 14:00", "19/03/2023 14:00:59", "2023-03-19T14:00:59", "Sun 19/03/23 14:00",
+                "not a date at all");
+    }
+
+    /**
+     * @param size the list size
+     * @param differences the number of elements of the second list that are not in the first
+     * @return two shuffled lists of container numbers
+     */
+    public static List<List<String>> containerLists(int size, int differences) {
+        Random random = random();
+        List<String> first = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            first.add(containerNumber(i));
+        List<String> second = new ArrayList<>(first);
+        for (int i = 0; i < Math.min(differences, size); i++)
+            second.set(random.nextInt(size), containerNumber(size + i));
+        Collections.shuffle(first, random);
+        Collections.shuffle(second, random);
+        return List.of(first, second);
+    }
+
+    /**
+     * @param size the number of entries
+     * @param differences the number of entries with a different value in the second map
+     * @return two maps of container number to status
+     */
+    public static List<Map<String, String>> statusMaps(int size, int differences) {
+        Random random = random();
+        Map<String, String> first = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++)
+            first.put(containerNumber(i), STATUSES[random.nextInt(STATUSES.length)] + " " + CITIES[random.nextInt(CITIES.length)]);
+        Map<String, String> second = new LinkedHashMap<>(first);
+        for (int i = 0; i < Math.min(differences, size); i++)
+            second.put(containerNumber(random.nextInt(size)), "Changed " + i);
+        return List.of(first, second);
+    }
+
+    /**
+     * @param length the text length
+     * @param differencesPerMille the number of changed characters per 1000 characters
+     * @return two texts that differ in scattered characters
+     */
+    public static String[] similarTexts(int length, int differencesPerMille) {
+        Random random = random();
+        StringBuilder first = new StringBuilder(length);
+        while (first.length() < length)
+            first.append(CITIES[random.nextInt(CITIES.length)]).append(' ').append(STATUSES[random.nextInt(STATUSES.length)]).append(' ');
+        first.setLength(length);
+        StringBuilder second = new StringBuilder(first);
+        for (int i = 0; i < Math.max(1, length * differencesPerMille / 1000); i++)
+            second.setCharAt(random.nextInt(length), (char) ('A' + random.nextInt(26)));
+        return new String[]{first.toString(), second.toString()};
+    }
+
+    /**
+     * Write a CSV file of shipment rows, with quoted fields that contain commas
+     * @param rows the number of data rows
+     * @return the file, deleted on exit
+     */
+    public static File csvFile(int rows) throws IOException {
+        File file = File.createTempFile("benchmark_" + rows + "_", ".csv");
+        file.deleteOnExit();
+        Random random = random();
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("Container,Status,Origin,Destination,Weight,Remarks");
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                writer.write(String.join(",", containerNumber(i), STATUSES[random.nextInt(STATUSES.length)],
+                        CITIES[random.nextInt(CITIES.length)], CITIES[random.nextInt(CITIES.length)],
+                        String.valueOf(1000 + random.nextInt(30000)), "\"Remark " + i + ", handled\""));
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Write an XLSX file of shipment rows, streamed so large fixtures do not need the whole workbook in memory
+     * @param rows the number of data rows
+     * @return the file, deleted on exit
+     */
+    public static File xlsxFile(int rows) throws IOException {
+        File file = File.createTempFile("benchmark_" + rows + "_", ".xlsx");
+        file.deleteOnExit();
+        Random random = random();
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        try (OutputStream output = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Shipments");
+            String[] headers = {"Container", "Status", "Origin", "Destination", "Weight", "Date"};
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < headers.length; i++)
+                header.createCell(i).setCellValue(headers[i]);
+            for (int i = 0; i < rows; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue(containerNumber(i));
+                row.createCell(1).setCellValue(STATUSES[random.nextInt(STATUSES.length)]);
+                row.createCell(2).setCellValue(CITIES[random.nextInt(CITIES.length)]);
+                row.createCell(3).setCellValue(CITIES[random.nextInt(CITIES.length)]);
+                row.createCell(4).setCellValue(1000 + random.nextInt(30000));
+                row.createCell(5).setCellValue(String.format("%02d/%02d/2025", 1 + random.nextInt(28), 1 + random.nextInt(12)));
+            }
+            workbook.write(output);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+        return file;
+    }
+
+    private static String containerNumber(int index) {
+        return String.format("ZIMU%07d", index);
+    }
+}
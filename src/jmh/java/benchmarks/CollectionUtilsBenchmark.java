@@ -0,0 +1,62 @@
+package benchmarks;
+
+import collectionUtils.ListUtils;
+import collectionUtils.MapUtils;
+import enumerations.MessageLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ListUtils.getListsDifferences and MapUtils.compareMaps over large collections with a few differences
+ * @since 19.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionUtilsBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private List<String> list1;
+    private List<String> list2;
+    private Map<String, String> map1;
+    private Map<String, String> map2;
+    private Map<String, String> map1Copy;
+
+    @Setup
+    public void setup() {
+        List<List<String>> lists = BenchmarkFixtures.containerLists(size, Math.max(1, size / 100));
+        list1 = lists.get(0);
+        list2 = lists.get(1);
+        List<Map<String, String>> maps = BenchmarkFixtures.statusMaps(size, Math.max(1, size / 100));
+        map1 = maps.get(0);
+        map2 = maps.get(1);
+        map1Copy = new HashMap<>(map1);
+    }
+
+    @Benchmark
+    public HashMap<Integer, List<String>> getListsDifferences() {
+        return ListUtils.getListsDifferences(list1, list2);
+    }
+
+    @Benchmark
+    public boolean compareEqualMaps() {
+        return MapUtils.compareMaps(map1, map1Copy, "Expected", "Actual", MessageLevel.INFO);
+    }
+
+    /**
+     * Includes building the report table of the differences
+     */
+    @Benchmark
+    public boolean compareDifferentMaps() {
+        return MapUtils.compareMaps(map1, map2, "Expected", "Actual", MessageLevel.INFO);
+    }
+}
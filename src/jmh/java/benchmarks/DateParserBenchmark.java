@@ -0,0 +1,56 @@
+package benchmarks;
+
+import dateTimeUtils.DateParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateParser.determineDateFormat over a mix of date formats - the cost of finding the matching pattern
+ * @since 19.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateParserBenchmark {
+
+    private List<String> dates;
+    private List<String> column;
+
+    @Setup
+    public void setup() {
+        dates = BenchmarkFixtures.dateStrings();
+        column = new ArrayList<>(10000);
+        for (int i = 0; i < 10000; i++)
+            column.add(String.format("%02d/%02d/2025 %02d:%02d", 1 + i % 28, 1 + i % 12, i % 24, i % 60));
+    }
+
+    /**
+     * One call per date string of the mix
+     */
+    @Benchmark
+    @OperationsPerInvocation(13)
+    public void determineDateFormat(Blackhole blackhole) {
+        for (String date : dates)
+            blackhole.consume(DateParser.determineDateFormat(date, false));
+    }
+
+    @Benchmark
+    public String determineDateFormatNoMatch() {
+        return DateParser.determineDateFormat("not a date at all", false);
+    }
+
+    /**
+     * The format of a column of 10k dates, determined once
+     */
+    @Benchmark
+    public String determineColumnFormat() {
+        return DateParser.determineDateFormat(column, false);
+    }
+}
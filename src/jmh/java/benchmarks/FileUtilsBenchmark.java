@@ -0,0 +1,52 @@
+package benchmarks;
+
+import fileUtils.CsvUtils;
+import fileUtils.ExcelUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CsvUtils.readAll and ExcelUtils.readExcel of generated shipment files
+ * @since 19.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class FileUtilsBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private File csv;
+    private File xlsx;
+
+    @Setup
+    public void setup() throws IOException {
+        csv = BenchmarkFixtures.csvFile(rows);
+        xlsx = BenchmarkFixtures.xlsxFile(rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        csv.delete();
+        xlsx.delete();
+    }
+
+    @Benchmark
+    public List<String[]> csvReadAll() {
+        return CsvUtils.readAll(csv.getAbsolutePath());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> excelReadExcel() {
+        return ExcelUtils.readExcel(xlsx.getAbsolutePath(), 0);
+    }
+}
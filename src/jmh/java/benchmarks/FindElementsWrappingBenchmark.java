@@ -0,0 +1,79 @@
+package benchmarks;
+
+import drivers.TesnetWebElement;
+import drivers.TesnetWebElementList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static propertyUtils.PropertyUtils.getGlobalProperty;
+
+/**
+ * Per element overhead of wrapping findElements results in TesnetWebElement.<br>
+ * The elements are stubs, so only the wrapping is measured, without a browser.
+ * @since 19.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FindElementsWrappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int elementsCount;
+
+    private List<WebElement> elements;
+
+    @Setup
+    public void setup() {
+        WebElement stub = (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(), new Class[]{WebElement.class},
+                (proxy, method, args) -> method.getReturnType() == boolean.class ? false : null);
+        elements = new ArrayList<>(elementsCount);
+        for (int i = 0; i < elementsCount; i++)
+            elements.add(stub);
+    }
+
+    /**
+     * The previous implementation: every element read the timeout from the properties file
+     */
+    @Benchmark
+    public List<WebElement> eagerWrappingReadingTimeoutPerElement(Blackhole blackhole) {
+        List<WebElement> wrapped = new ArrayList<>();
+        for (WebElement element : elements) {
+            blackhole.consume(Integer.parseInt(getGlobalProperty("timeout")));
+            wrapped.add(new TesnetWebElement(null, element));
+        }
+        return wrapped;
+    }
+
+    @Benchmark
+    public List<WebElement> eagerWrapping() {
+        List<WebElement> wrapped = new ArrayList<>();
+        for (WebElement element : elements)
+            wrapped.add(new TesnetWebElement(null, element));
+        return wrapped;
+    }
+
+    @Benchmark
+    public int lazyWrappingSize() {
+        return new TesnetWebElementList(null, elements).size();
+    }
+
+    @Benchmark
+    public WebElement lazyWrappingFirstElement() {
+        return new TesnetWebElementList(null, elements).get(0);
+    }
+
+    @Benchmark
+    public void lazyWrappingAllElements(Blackhole blackhole) {
+        for (WebElement element : new TesnetWebElementList(null, elements))
+            blackhole.consume(element);
+    }
+}
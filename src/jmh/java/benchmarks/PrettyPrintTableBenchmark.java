@@ -0,0 +1,47 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tableUtils.PrettyPrintTable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PrettyPrintTable.highlightStringsDifferences and highlightWordsDifferences of long texts that differ in scattered characters
+ * @since 19.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrettyPrintTableBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int length;
+
+    //changed characters per 1000
+    @Param({"1", "50"})
+    public int differences;
+
+    private String first;
+    private String second;
+
+    @Setup
+    public void setup() {
+        String[] texts = BenchmarkFixtures.similarTexts(length, differences);
+        first = texts[0];
+        second = texts[1];
+    }
+
+    @Benchmark
+    public List<String> highlightStringsDifferences() {
+        return PrettyPrintTable.highlightStringsDifferences(first, second);
+    }
+
+    @Benchmark
+    public List<String> highlightWordsDifferences() {
+        return PrettyPrintTable.highlightWordsDifferences(first, second);
+    }
+}
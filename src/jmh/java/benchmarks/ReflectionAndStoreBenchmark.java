@@ -0,0 +1,79 @@
+package benchmarks;
+
+import Store.Store;
+import Store.StoreManager;
+import Store.StoreType;
+import objectsUtils.ObjectsUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StoreManager.getStore, single threaded and contended, and ObjectsUtils.newInstance constructor matching
+ * @since 19.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReflectionAndStoreBenchmark {
+
+    @Benchmark
+    public Store getLocalThreadStore() {
+        return StoreManager.getStore(StoreType.LOCAL_THREAD);
+    }
+
+    @Benchmark
+    public Store getGlobalStore() {
+        return StoreManager.getStore(StoreType.GLOBAL);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Store getLocalThreadStoreContended() {
+        return StoreManager.getStore(StoreType.LOCAL_THREAD);
+    }
+
+    @Benchmark
+    public Shipment newInstanceWithoutParams() {
+        return ObjectsUtils.newInstance(Shipment.class);
+    }
+
+    /**
+     * The matching constructor is the last one checked
+     */
+    @Benchmark
+    public Shipment newInstanceWithParams() {
+        return ObjectsUtils.newInstance(Shipment.class, "ZIMU0000001", 24000);
+    }
+
+    /**
+     * A page object like class with several constructors
+     */
+    public static class Shipment {
+        private String container = "";
+        private Number weight = 0;
+
+        public Shipment() {
+        }
+
+        public Shipment(String container) {
+            this.container = container;
+        }
+
+        public Shipment(Number weight) {
+            this.weight = weight;
+        }
+
+        public Shipment(String container, String status) {
+            this.container = container;
+        }
+
+        public Shipment(String container, Number weight) {
+            this.container = container;
+            this.weight = weight;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package Managers;
 
 import com.relevantcodes.extentreports.ExtentTest;
+import reportUtils.AsyncReportWriter;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -28,8 +29,16 @@ public class ReportInstanceManager {
         testMap.put(threadId,test);
     }
 
-    /**get current ExtentTest instance*/
+    /**get current ExtentTest instance.
+     * Messages of the current thread that are queued by the {@link AsyncReportWriter} are written first, so they stay in order*/
     public static ExtentTest getCurrentTestReport()
+    {
+        AsyncReportWriter.flushCurrentThread();
+        return peekCurrentTestReport();
+    }
+
+    /**get current ExtentTest instance without writing the queued messages of the {@link AsyncReportWriter}*/
+    public static ExtentTest peekCurrentTestReport()
     {
         Integer threadId = (int) (Thread.currentThread().getId());
         return testMap.get(threadId);
@@ -81,6 +81,26 @@ public class WebDriverInstanceManager {
         return driverMap.get(threadId);
     }
 
+    /**
+     * Map the current thread to a driver that is already open, e.g. a background thread that runs commands on the test's driver.
+     * The driver is not added to the list of open drivers, so it is not quit twice
+     * @param driver the open driver
+     * @since 19.10.2026
+     */
+    public static void addThreadToDriver(WebDriver driver) {
+        Integer threadId = (int) (Thread.currentThread().getId());
+        driverMap.put(threadId, driver);
+    }
+
+    /**
+     * Remove the current thread from the map, after {@link #addThreadToDriver(WebDriver)}
+     * @since 19.10.2026
+     */
+    public static void removeThreadFromMap() {
+        Integer threadId = (int) (Thread.currentThread().getId());
+        driverMap.remove(threadId);
+    }
+
     public static WebDriver getDriverFromList(int index) {
         return drivers.get(index);
     }
@@ -0,0 +1,461 @@
+package apiUtils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.JsonElement;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Structural comparison of 2 JSON documents. The result is a list of RFC 6902 (JSON Patch) style entries - add, remove and replace,
+ * with a JSON Pointer path - that turn the first document into the second.
+ * Arrays matched by a key (see {@link #setArrayKey(String, String)}) are compared regardless of the order of their items,
+ * so a reordering is not a difference and their entries turn the first array into the second only if the matched items keep their order.<br>
+ * Documents that are given as text, streams or files are read with 2 parsers side by side: objects whose fields are in the same order
+ * and arrays that are compared by position are never held in memory as a whole, only the values that differ are.
+ * An object whose fields are in a different order is read from that point, and arrays matched by a key are read entirely.<br>
+ * Paths are JSON Pointers in which a "*" segment matches any field or index, e.g. "/containers/*&#47;lastUpdate".
+ * Example:
+ * <pre>
+ * List&lt;JsonDiff.PatchEntry&gt; differences = new JsonDiff()
+ *      .addIgnoredPath("/meta/timestamp")
+ *      .setArrayKey("/containers", "containerNumber")
+ *      .setNumericTolerance(0.001)
+ *      .compare(expectedJson, actualJson);
+ * </pre>
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class JsonDiff {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<String[]> ignoredPaths = new ArrayList<>();
+    private final List<Map.Entry<String[], String>> arrayKeys = new ArrayList<>();
+    private BigDecimal numericTolerance = BigDecimal.ZERO;
+
+    /**
+     * Do not compare the value in the given path, and anything under it
+     * @param pointer JSON Pointer, "*" matches any field or index
+     * @return this JsonDiff
+     */
+    public JsonDiff addIgnoredPath(String pointer) {
+        ignoredPaths.add(parsePointer(pointer));
+        return this;
+    }
+
+    /**
+     * Match the items of the array in the given path by the value of a field, instead of by their position
+     * @param arrayPointer JSON Pointer of the array, "*" matches any field or index
+     * @param keyField the field of the items that identifies them
+     * @return this JsonDiff
+     */
+    public JsonDiff setArrayKey(String arrayPointer, String keyField) {
+        arrayKeys.add(new AbstractMap.SimpleEntry<>(parsePointer(arrayPointer), keyField));
+        return this;
+    }
+
+    /**
+     * @param numericTolerance the maximal absolute difference between numbers that are considered equal
+     * @return this JsonDiff
+     */
+    public JsonDiff setNumericTolerance(double numericTolerance) {
+        this.numericTolerance = BigDecimal.valueOf(numericTolerance);
+        return this;
+    }
+
+    /**
+     * Compare 2 JSON texts
+     * @param first the first JSON
+     * @param second the second JSON
+     * @return the patch entries that turn the first document into the second. Empty if they are equal
+     */
+    public List<PatchEntry> compare(String first, String second) {
+        return compare(new ByteArrayInputStream(first.getBytes(StandardCharsets.UTF_8)), new ByteArrayInputStream(second.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Compare 2 JSON files
+     * @param first the first JSON file
+     * @param second the second JSON file
+     * @return the patch entries that turn the first document into the second. Empty if they are equal
+     */
+    public List<PatchEntry> compare(File first, File second) {
+        try (InputStream firstStream = new FileInputStream(first); InputStream secondStream = new FileInputStream(second)) {
+            return compare(firstStream, secondStream);
+        }
+        catch (IOException e) {
+            throw new Error(String.format("Failed to read the JSON files %s and %s<br>Error: %s", first.getPath(), second.getPath(), e.getMessage()));
+        }
+    }
+
+    /**
+     * Compare 2 JSON streams. The streams are read side by side and are not closed
+     * @param first the first JSON
+     * @param second the second JSON
+     * @return the patch entries that turn the first document into the second. Empty if they are equal
+     */
+    public List<PatchEntry> compare(InputStream first, InputStream second) {
+        try (JsonParser firstParser = objectMapper.createParser(first); JsonParser secondParser = objectMapper.createParser(second)) {
+            Comparison comparison = new Comparison();
+            firstParser.nextToken();
+            secondParser.nextToken();
+            comparison.compareStreams(firstParser, secondParser);
+            return comparison.differences;
+        }
+        catch (IOException e) {
+            throw new Error(String.format("Failed to compare the JSON documents<br>Error: %s", e.getMessage()));
+        }
+    }
+
+    /**
+     * Compare 2 Jackson trees
+     * @param first the first JSON
+     * @param second the second JSON
+     * @return the patch entries that turn the first document into the second. Empty if they are equal
+     */
+    public List<PatchEntry> compare(JsonNode first, JsonNode second) {
+        Comparison comparison = new Comparison();
+        comparison.compareNodes(first, second);
+        return comparison.differences;
+    }
+
+    /**
+     * Compare 2 Gson trees
+     * @param first the first JSON
+     * @param second the second JSON
+     * @return the patch entries that turn the first document into the second. Empty if they are equal
+     */
+    public List<PatchEntry> compare(JsonElement first, JsonElement second) {
+        return compare(first.toString(), second.toString());
+    }
+
+    /**
+     * Write the differences as a JSON Patch document (RFC 6902 syntax).
+     * The patch can be applied to the first document, except when an array matched by a key has its matched items in a different order:
+     * the order of those items is not compared, so the patch has no move operations and its indexes do not apply after a reordering
+     * @param differences the result of compare
+     * @return the differences as a JSON Patch document
+     * @since 19.10.2026
+     */
+    public static String toJsonPatch(List<PatchEntry> differences) {
+        ArrayNode patch = objectMapper.createArrayNode();
+        for (PatchEntry entry : differences) {
+            ObjectNode operation = patch.addObject();
+            operation.put("op", entry.getOperation().toString());
+            operation.put("path", entry.getPath());
+            if (entry.getOperation() != Operation.REMOVE)
+                operation.set("value", entry.getValue());
+        }
+        return patch.toString();
+    }
+
+    private static String[] parsePointer(String pointer) {
+        if (pointer.isEmpty() || pointer.equals("/"))
+            return new String[0];
+        if (!pointer.startsWith("/"))
+            throw new Error(String.format("'%s' is not a JSON Pointer. It should start with '/'", pointer));
+
+        String[] segments = pointer.substring(1).split("/", -1);
+        for (int i = 0; i < segments.length; i++)
+            segments[i] = segments[i].replace("~1", "/").replace("~0", "~");
+        return segments;
+    }
+
+    /**
+     * The state of one comparison - the current path and the differences found so far
+     */
+    private class Comparison {
+        private final List<String> path = new ArrayList<>();
+        private final List<PatchEntry> differences = new ArrayList<>();
+
+        /**
+         * Compare the values the parsers point at, and move both parsers to the end of the values
+         */
+        private void compareStreams(JsonParser first, JsonParser second) throws IOException {
+            JsonToken firstToken = first.currentToken();
+            JsonToken secondToken = second.currentToken();
+
+            //Both documents are empty, e.g. the bodies of 204 responses
+            if (firstToken == null && secondToken == null)
+                return;
+
+            if (isIgnored()) {
+                first.skipChildren();
+                second.skipChildren();
+            }
+            else if (firstToken == JsonToken.START_OBJECT && secondToken == JsonToken.START_OBJECT)
+                compareObjectStreams(first, second);
+            else if (firstToken == JsonToken.START_ARRAY && secondToken == JsonToken.START_ARRAY && getArrayKey() == null)
+                compareArrayStreams(first, second);
+            else if (firstToken == secondToken && firstToken.isScalarValue() && first.getText().equals(second.getText())) {
+                //the same value in the same representation, no need to create nodes
+            }
+            else
+                compareNodes(readTree(first), readTree(second));
+        }
+
+        private void compareObjectStreams(JsonParser first, JsonParser second) throws IOException {
+            while (true) {
+                JsonToken firstToken = first.nextToken();
+                JsonToken secondToken = second.nextToken();
+                if (firstToken == JsonToken.END_OBJECT && secondToken == JsonToken.END_OBJECT)
+                    return;
+
+                if (firstToken == JsonToken.FIELD_NAME && secondToken == JsonToken.FIELD_NAME && first.currentName().equals(second.currentName())) {
+                    path.add(first.currentName());
+                    first.nextToken();
+                    second.nextToken();
+                    compareStreams(first, second);
+                    path.remove(path.size() - 1);
+                }
+                else {
+                    //The fields are not in the same order - read the rest of both objects and match the fields by name
+                    compareObjectNodes(readRemainingFields(first), readRemainingFields(second));
+                    return;
+                }
+            }
+        }
+
+        private void compareArrayStreams(JsonParser first, JsonParser second) throws IOException {
+            int index = 0;
+            while (true) {
+                JsonToken firstToken = first.nextToken();
+                JsonToken secondToken = second.nextToken();
+                if (firstToken == JsonToken.END_ARRAY || secondToken == JsonToken.END_ARRAY) {
+                    List<JsonNode> removed = new ArrayList<>();
+                    for (; firstToken != JsonToken.END_ARRAY; firstToken = first.nextToken())
+                        removed.add(readTree(first));
+                    reportRemovedItems(index, removed);
+                    for (; secondToken != JsonToken.END_ARRAY; secondToken = second.nextToken())
+                        reportAtIndex(Operation.ADD, index++, readTree(second), null);
+                    return;
+                }
+                path.add(String.valueOf(index++));
+                compareStreams(first, second);
+                path.remove(path.size() - 1);
+            }
+        }
+
+        private void compareNodes(JsonNode first, JsonNode second) {
+            if (isIgnored())
+                return;
+
+            if (first.isObject() && second.isObject())
+                compareObjectNodes((ObjectNode) first, (ObjectNode) second);
+            else if (first.isArray() && second.isArray()) {
+                String key = getArrayKey();
+                if (key == null)
+                    compareArrayNodes(first, second);
+                else
+                    compareArrayNodesByKey(first, second, key);
+            }
+            else if (first.isNumber() && second.isNumber()) {
+                if (first.decimalValue().subtract(second.decimalValue()).abs().compareTo(numericTolerance) > 0)
+                    report(Operation.REPLACE, second, first);
+            }
+            else if (!first.equals(second))
+                report(Operation.REPLACE, second, first);
+        }
+
+        private void compareObjectNodes(ObjectNode first, ObjectNode second) {
+            for (Iterator<Map.Entry<String, JsonNode>> fields = first.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                path.add(field.getKey());
+                JsonNode secondValue = second.get(field.getKey());
+                if (secondValue == null)
+                    report(Operation.REMOVE, null, field.getValue());
+                else
+                    compareNodes(field.getValue(), secondValue);
+                path.remove(path.size() - 1);
+            }
+            for (Iterator<Map.Entry<String, JsonNode>> fields = second.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!first.has(field.getKey())) {
+                    path.add(field.getKey());
+                    report(Operation.ADD, field.getValue(), null);
+                    path.remove(path.size() - 1);
+                }
+            }
+        }
+
+        private void compareArrayNodes(JsonNode first, JsonNode second) {
+            int common = Math.min(first.size(), second.size());
+            for (int i = 0; i < common; i++) {
+                path.add(String.valueOf(i));
+                compareNodes(first.get(i), second.get(i));
+                path.remove(path.size() - 1);
+            }
+            List<JsonNode> removed = new ArrayList<>();
+            for (int i = common; i < first.size(); i++)
+                removed.add(first.get(i));
+            reportRemovedItems(common, removed);
+            for (int i = common; i < second.size(); i++)
+                reportAtIndex(Operation.ADD, i, second.get(i), null);
+        }
+
+        /**
+         * Match the items by the key field. The paths of matched and removed items have their index in the first array,
+         * the paths of added items have their index in the second array. Items without the key are never matched.
+         * The order of the matched items is not compared
+         */
+        private void compareArrayNodesByKey(JsonNode first, JsonNode second, String key) {
+            Map<JsonNode, Deque<Integer>> secondIndexes = new HashMap<>();
+            for (int i = 0; i < second.size(); i++) {
+                JsonNode keyValue = second.get(i).get(key);
+                if (keyValue != null)
+                    secondIndexes.computeIfAbsent(keyValue, k -> new ArrayDeque<>()).add(i);
+            }
+
+            boolean[] matched = new boolean[second.size()];
+            List<Integer> removedIndexes = new ArrayList<>();
+            for (int i = 0; i < first.size(); i++) {
+                JsonNode keyValue = first.get(i).get(key);
+                Deque<Integer> indexes = keyValue == null ? null : secondIndexes.get(keyValue);
+                if (indexes == null || indexes.isEmpty())
+                    removedIndexes.add(i);
+                else {
+                    int secondIndex = indexes.poll();
+                    matched[secondIndex] = true;
+                    path.add(String.valueOf(i));
+                    compareNodes(first.get(i), second.get(secondIndex));
+                    path.remove(path.size() - 1);
+                }
+            }
+            //Removed from the last, so the indexes of the entries stay valid when applied in order
+            for (int i = removedIndexes.size() - 1; i >= 0; i--)
+                reportAtIndex(Operation.REMOVE, removedIndexes.get(i), null, first.get(removedIndexes.get(i)));
+            for (int i = 0; i < second.size(); i++)
+                if (!matched[i])
+                    reportAtIndex(Operation.ADD, i, second.get(i), null);
+        }
+
+        private void reportRemovedItems(int fromIndex, List<JsonNode> removed) {
+            for (int i = removed.size() - 1; i >= 0; i--)
+                reportAtIndex(Operation.REMOVE, fromIndex + i, null, removed.get(i));
+        }
+
+        private void reportAtIndex(Operation operation, int index, JsonNode value, JsonNode previousValue) {
+            path.add(String.valueOf(index));
+            report(operation, value, previousValue);
+            path.remove(path.size() - 1);
+        }
+
+        private void report(Operation operation, JsonNode value, JsonNode previousValue) {
+            if (!isIgnored())
+                differences.add(new PatchEntry(operation, getPointer(), value, previousValue));
+        }
+
+        private boolean isIgnored() {
+            for (String[] ignoredPath : ignoredPaths)
+                if (matches(ignoredPath))
+                    return true;
+            return false;
+        }
+
+        private String getArrayKey() {
+            for (Map.Entry<String[], String> arrayKey : arrayKeys)
+                if (matches(arrayKey.getKey()))
+                    return arrayKey.getValue();
+            return null;
+        }
+
+        private boolean matches(String[] pattern) {
+            if (pattern.length != path.size())
+                return false;
+            for (int i = 0; i < pattern.length; i++)
+                if (!pattern[i].equals("*") && !pattern[i].equals(path.get(i)))
+                    return false;
+            return true;
+        }
+
+        private String getPointer() {
+            StringBuilder pointer = new StringBuilder();
+            for (String segment : path)
+                pointer.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+            return pointer.toString();
+        }
+    }
+
+    private static JsonNode readTree(JsonParser parser) throws IOException {
+        JsonNode node = objectMapper.readTree(parser);
+        return node == null ? NullNode.getInstance() : node;
+    }
+
+    /**
+     * Read the rest of the object the parser is in, from the field name it points at
+     */
+    private static ObjectNode readRemainingFields(JsonParser parser) throws IOException {
+        ObjectNode fields = objectMapper.createObjectNode();
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            fields.set(name, readTree(parser));
+        }
+        return fields;
+    }
+
+    public enum Operation {
+        ADD, REMOVE, REPLACE;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * One difference: the operation, the JSON Pointer of the value, the value in the second document (add and replace)
+     * and the value in the first document (remove and replace)
+     */
+    public static class PatchEntry {
+        private final Operation operation;
+        private final String path;
+        private final JsonNode value;
+        private final JsonNode previousValue;
+
+        public PatchEntry(Operation operation, String path, JsonNode value, JsonNode previousValue) {
+            this.operation = operation;
+            this.path = path;
+            this.value = value;
+            this.previousValue = previousValue;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public JsonNode getValue() {
+            return value;
+        }
+
+        public JsonNode getPreviousValue() {
+            return previousValue;
+        }
+
+        @Override
+        public String toString() {
+            return switch (operation) {
+                case ADD -> String.format("add %s: %s", path, value);
+                case REMOVE -> String.format("remove %s: %s", path, previousValue);
+                case REPLACE -> String.format("replace %s: %s -> %s", path, previousValue, value);
+            };
+        }
+    }
+}
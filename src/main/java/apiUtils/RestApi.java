@@ -19,6 +19,7 @@ import org.json.simple.parser.JSONParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -423,6 +424,19 @@ public class RestApi {
         return jsonPath.getMap(path);
     }
 
+    /**
+     * Compare the response body to the expected JSON structurally, without converting them to maps
+     * @param response Response object.
+     * @param expectedJson the expected JSON
+     * @param jsonDiff the comparison settings - ignored paths, array keys and numeric tolerance
+     * @return the patch entries that turn the expected JSON into the response body. Empty if they are equal
+     * @since 19.10.2026
+     */
+    public static List<JsonDiff.PatchEntry> getJsonDifferences(Response response, String expectedJson, JsonDiff jsonDiff)
+    {
+        return jsonDiff.compare(new ByteArrayInputStream(expectedJson.getBytes(StandardCharsets.UTF_8)), new ByteArrayInputStream(response.asByteArray()));
+    }
+
     /**
      * Sets the request's header content type.
      * @param headerContentType content type. i.e: json / XML...
@@ -21,10 +21,11 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 
 /**
@@ -58,6 +59,8 @@ import java.util.logging.Logger;
  * site</a></a>. Essentially, this class serves as both listener, which
  * implements the SearchingEventListener interface, and subject (from the
  * observer mechanism), which implements the Subject interface.
+ * <br>
+ * To run tasks in the background also while the test waits (without findElement calls), use {@link AsyncTaskScheduler}.
  *
  * @author Nir Gallner
  */
@@ -66,21 +69,25 @@ public class AsyncListener implements Subject {
     private static final Logger logger = Logger.getLogger(AsyncListener.class.getName());
     private final boolean isDebug = true;
 
-    private LocalDateTime baseTime;
+    //Kept in nanoTime so the check on every findElement does not allocate
+    private volatile long baseTimeNanos;
+    private volatile long intervalNanos;
     private Pair<Integer, ChronoUnit> interval;
 
-    private final List<Observer> observers = new ArrayList<Observer>();
+    private final List<Observer> observers = new CopyOnWriteArrayList<>();
 
 
     public AsyncListener(int dispatchInterval, ChronoUnit timeUnit) {
         interval = new Pair<>(1, ChronoUnit.SECONDS);
+        intervalNanos = Duration.of(1, ChronoUnit.SECONDS).toNanos();
         this.setDispatchInterval(dispatchInterval, timeUnit);
-        baseTime = LocalDateTime.now();
+        baseTimeNanos = System.nanoTime();
     }
 
     public AsyncListener() {
         interval = new Pair<Integer, ChronoUnit>(1, ChronoUnit.SECONDS);
-        baseTime = LocalDateTime.now();
+        intervalNanos = Duration.of(1, ChronoUnit.SECONDS).toNanos();
+        baseTimeNanos = System.nanoTime();
     }
 
     /**
@@ -98,6 +105,7 @@ public class AsyncListener implements Subject {
         if (t1.minus(1, ChronoUnit.SECONDS).isAfter(t)) {
             interval = interval.setAt0(newInterval);
             interval = interval.setAt1(newTimeUnit);
+            intervalNanos = Duration.of(newInterval, newTimeUnit).toNanos();
         }
 
     }
@@ -153,8 +161,7 @@ public class AsyncListener implements Subject {
      * result is true, the method performs unregister(observer)
      */
     public void collectGarbage() {
-        List<Observer> observersCopy = new ArrayList<>(observers);
-        observersCopy.forEach(observer -> {
+        observers.forEach(observer -> {
             if (observer.isDisposed())
                 unregister(observer);
         });
@@ -163,9 +170,9 @@ public class AsyncListener implements Subject {
 
     @Override
     public void beforeFindBy(By by, WebElement element, WebDriver driver) {
-	    LocalDateTime currentTime = LocalDateTime.now();
-        if (currentTime.minus(interval.getValue0(), interval.getValue1()).isAfter(baseTime)) {
-            baseTime = currentTime;
+        long currentTimeNanos = System.nanoTime();
+        if (currentTimeNanos - baseTimeNanos > intervalNanos) {
+            baseTimeNanos = currentTimeNanos;
             notifyObservers();
             collectGarbage();
         }
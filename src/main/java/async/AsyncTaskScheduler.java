@@ -0,0 +1,203 @@
+package async;
+
+import Managers.WebDriverInstanceManager;
+import drivers.TesnetWebDriver;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs async Selenium tasks (e.g. dismissing popups) on a dedicated background thread, each task in its own interval.<br>
+ * Unlike {@link AsyncListener}, the tasks do not depend on the test calling findElement - they keep running during long waits.
+ * WebDriver is not thread safe, so every task run holds the driver lock of the {@link TesnetWebDriver}
+ * (see {@link TesnetWebDriver#getDriverLock()}). The test's commands hold the same lock, so a task always runs
+ * between two commands of the test and never in the middle of one.<br>
+ * The scheduler thread is mapped to the driver in {@link WebDriverInstanceManager} while it runs, so the elements a task finds
+ * work as they do on the test's thread. A failed task run is logged as an error and kept in {@link ScheduledAsyncTask#getLastFailure()}.<br>
+ * When several tasks are due at the same time, the task with the higher priority runs first.<br>
+ * <br>
+ * <b>Example</b><br>
+ * <pre>{@code
+ *      AsyncTaskScheduler scheduler = new AsyncTaskScheduler(driver);
+ *      ScheduledAsyncTask dismissPopup = scheduler.schedule("Dismiss popup", () -> {
+ *          List<WebElement> elements = driver.findElements(By.id("popup-button-dismiss-locator"));
+ *          if (elements.isEmpty())
+ *              return false;
+ *          elements.get(0).click();
+ *          return true;
+ *      }, Duration.ofSeconds(2), 10);
+ *      ...
+ *      dismissPopup.cancel();
+ *      scheduler.shutdown();
+ * }</pre>
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class AsyncTaskScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncTaskScheduler.class);
+    public static final int DEFAULT_PRIORITY = 0;
+
+    private final WebDriver driver;
+    private final ReentrantLock driverLock;
+    private final Object monitor = new Object();
+    private final PriorityQueue<ScheduledAsyncTask> queue = new PriorityQueue<>(
+            Comparator.comparingLong((ScheduledAsyncTask task) -> task.nextRunNanos)
+                    .thenComparing(ScheduledAsyncTask::getPriority, Comparator.reverseOrder()));
+    private final List<ScheduledAsyncTask> tasks = new CopyOnWriteArrayList<>();
+    private final Thread schedulerThread;
+    private volatile boolean running = true;
+
+    /**
+     * Create the scheduler and start its thread
+     * @param driver the driver the tasks use. If it is not a TesnetWebDriver the tasks cannot be serialized with the test's commands
+     */
+    public AsyncTaskScheduler(WebDriver driver) {
+        this.driver = driver;
+        if (driver instanceof TesnetWebDriver) {
+            driverLock = ((TesnetWebDriver) driver).getDriverLock();
+        } else {
+            logger.warn("The driver is not a TesnetWebDriver. Async tasks will not be serialized with the test's commands");
+            driverLock = new ReentrantLock();
+        }
+
+        schedulerThread = new Thread(this::dispatch, "async-task-scheduler");
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+    }
+
+    /**
+     * Schedule a task with the default priority. The first run is after one interval
+     * @param name name of the task for log purposes
+     * @param task the task. It runs repeatedly until it returns true or until it is cancelled
+     * @param interval the time between two runs of the task
+     * @return a handle to cancel the task and to read its execution statistics
+     */
+    public ScheduledAsyncTask schedule(String name, SeleniumTask task, Duration interval) {
+        return schedule(name, task, interval, DEFAULT_PRIORITY);
+    }
+
+    /**
+     * Schedule a task. The first run is after one interval
+     * @param name name of the task for log purposes
+     * @param task the task. It runs repeatedly until it returns true or until it is cancelled
+     * @param interval the time between two runs of the task
+     * @param priority tasks with higher priority run first when several tasks are due at the same time
+     * @return a handle to cancel the task and to read its execution statistics
+     */
+    public ScheduledAsyncTask schedule(String name, SeleniumTask task, Duration interval, int priority) {
+        if (!running)
+            throw new IllegalStateException("The async task scheduler was shut down");
+        if (interval.isNegative() || interval.isZero())
+            throw new IllegalArgumentException("The interval of an async task must be positive");
+
+        ScheduledAsyncTask scheduledTask = new ScheduledAsyncTask(name, task, interval, priority, System.nanoTime() + interval.toNanos());
+        tasks.add(scheduledTask);
+        synchronized (monitor) {
+            queue.add(scheduledTask);
+            monitor.notifyAll();
+        }
+        logger.debug("Scheduled async task: " + name);
+        return scheduledTask;
+    }
+
+    /**
+     * @return all the tasks that were scheduled, including cancelled and done ones
+     */
+    public List<ScheduledAsyncTask> getTasks() {
+        return new ArrayList<>(tasks);
+    }
+
+    /**
+     * Stop the scheduler. A task that is running right now finishes its run, no further runs take place
+     */
+    public void shutdown() {
+        running = false;
+        synchronized (monitor) {
+            queue.clear();
+            monitor.notifyAll();
+        }
+        for (ScheduledAsyncTask task : tasks)
+            logger.debug("Async task statistics: " + task);
+    }
+
+    /**
+     * The thread of the scheduler: map it to the driver, then run the tasks until the scheduler is shut down
+     */
+    private void dispatch() {
+        WebDriverInstanceManager.addThreadToDriver(driver);
+        try {
+            dispatchTasks();
+        } finally {
+            WebDriverInstanceManager.removeThreadFromMap();
+        }
+    }
+
+    /**
+     * The loop of the scheduler thread: wait for the next due tasks, run them by priority and reschedule them
+     */
+    private void dispatchTasks() {
+        while (running) {
+            List<ScheduledAsyncTask> dueTasks = new ArrayList<>();
+            try {
+                synchronized (monitor) {
+                    ScheduledAsyncTask head = queue.peek();
+                    if (head == null) {
+                        monitor.wait();
+                        continue;
+                    }
+                    long waitNanos = head.nextRunNanos - System.nanoTime();
+                    if (waitNanos > 0) {
+                        monitor.wait(Math.max(1, waitNanos / 1_000_000));
+                        continue;
+                    }
+                    long now = System.nanoTime();
+                    while (queue.peek() != null && queue.peek().nextRunNanos - now <= 0)
+                        dueTasks.add(queue.poll());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            dueTasks.sort(Comparator.comparing(ScheduledAsyncTask::getPriority, Comparator.reverseOrder()));
+            for (ScheduledAsyncTask task : dueTasks)
+                runTask(task);
+        }
+    }
+
+    private void runTask(ScheduledAsyncTask task) {
+        if (task.isCancelled() || !running)
+            return;
+
+        boolean done = false;
+        driverLock.lock();
+        try {
+            done = task.run();
+        } catch (Throwable t) {
+            logger.error(String.format("Async task '%s' failed: %s", task.getName(), t), t);
+        } finally {
+            driverLock.unlock();
+        }
+
+        if (done) {
+            logger.debug("Async task is done: " + task);
+            return;
+        }
+
+        synchronized (monitor) {
+            if (running && !task.isCancelled()) {
+                task.nextRunNanos = System.nanoTime() + task.getIntervalNanos();
+                queue.add(task);
+            }
+        }
+    }
+}
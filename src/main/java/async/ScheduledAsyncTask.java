@@ -0,0 +1,132 @@
+package async;
+
+import java.time.Duration;
+
+/**
+ * A task that was scheduled on the {@link AsyncTaskScheduler}.
+ * Serves as a handle to cancel the task and to read its execution statistics.
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class ScheduledAsyncTask {
+
+    private final String name;
+    private final SeleniumTask task;
+    private final long intervalNanos;
+    private final int priority;
+
+    private volatile boolean cancelled = false;
+    private volatile boolean done = false;
+    long nextRunNanos;
+
+    private volatile int executionsCount = 0;
+    private volatile int failuresCount = 0;
+    private volatile long totalExecutionNanos = 0;
+    private volatile long maxExecutionNanos = 0;
+    private volatile Throwable lastFailure = null;
+
+    ScheduledAsyncTask(String name, SeleniumTask task, Duration interval, int priority, long firstRunNanos) {
+        this.name = name;
+        this.task = task;
+        this.intervalNanos = interval.toNanos();
+        this.priority = priority;
+        this.nextRunNanos = firstRunNanos;
+    }
+
+    /**
+     * Run the task once and update its statistics
+     * Only the scheduler thread calls it, so the statistics are written by a single thread
+     * @return true if the task is completed and should not run again
+     */
+    boolean run() {
+        long start = System.nanoTime();
+        try {
+            done = task.doTask();
+        } catch (Throwable t) {
+            failuresCount++;
+            lastFailure = t;
+            throw t;
+        } finally {
+            long executionNanos = System.nanoTime() - start;
+            executionsCount++;
+            totalExecutionNanos += executionNanos;
+            if (executionNanos > maxExecutionNanos)
+                maxExecutionNanos = executionNanos;
+        }
+        return done;
+    }
+
+    /**
+     * Cancel the task. If the task is running right now it will finish its current run and will not run again
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return true if the task reported that it completed (doTask returned true)
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    public int getExecutionsCount() {
+        return executionsCount;
+    }
+
+    public int getFailuresCount() {
+        return failuresCount;
+    }
+
+    /**
+     * @return the exception of the last failed run, or null if no run failed
+     * @since 19.10.2026
+     */
+    public Throwable getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * @return the total time the task ran, in milliseconds
+     */
+    public long getTotalExecutionTimeInMillis() {
+        return totalExecutionNanos / 1_000_000;
+    }
+
+    /**
+     * @return the longest single run of the task, in milliseconds
+     */
+    public long getMaxExecutionTimeInMillis() {
+        return maxExecutionNanos / 1_000_000;
+    }
+
+    /**
+     * @return the average run of the task, in milliseconds
+     */
+    public double getAverageExecutionTimeInMillis() {
+        int executions = executionsCount;
+        return executions == 0 ? 0 : (totalExecutionNanos / 1_000_000.0) / executions;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (priority %d): %d runs, %d failures, avg %.1f ms, max %d ms",
+                name, priority, executionsCount, failuresCount, getAverageExecutionTimeInMillis(), getMaxExecutionTimeInMillis());
+    }
+}
@@ -0,0 +1,295 @@
+package collectionUtils;
+
+import enumerations.AscDescEnum;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Sort items by one or more keys, extracting every key of every item once before sorting (a Schwartzian transform).<br>
+ * The keys are kept in arrays by the items indexes - numeric keys in primitive arrays - and the sort orders an int array of indexes,
+ * so the comparisons read the arrays and never call the key extractors or box numbers.
+ * The sort is stable: items with equal keys keep their original order.<br>
+ * The result can be an index permutation, a sorted view of the list that does not copy the items, or the list itself sorted in place.
+ * Example:
+ * <pre>
+ * KeySorter&lt;Map&lt;String, Object&gt;&gt; sorter = KeySorter.&lt;Map&lt;String, Object&gt;, String&gt;by(row -&gt; (String) row.get("Team"), String.CASE_INSENSITIVE_ORDER)
+ *      .thenByDouble(row -&gt; (Double) row.get("Score"), AscDescEnum.DESC);
+ * List&lt;Map&lt;String, Object&gt;&gt; ranking = sorter.sortedView(rows);
+ * </pre>
+ * @param <T> the items type
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class KeySorter<T> {
+
+    //Below this range size a range is sorted by insertion
+    private static final int INSERTION_SORT_THRESHOLD = 7;
+
+    private final List<SortKey<T>> sortKeys = new ArrayList<>();
+
+    private KeySorter() {
+    }
+
+    /**
+     * Sort by a key, in ascending order. Null keys come first
+     * @param keyExtractor extracts the sort key of an item, called once per item
+     * @param comparator compares the sort keys, in ascending order
+     */
+    public static <T, K> KeySorter<T> by(Function<? super T, ? extends K> keyExtractor, Comparator<? super K> comparator) {
+        return new KeySorter<T>().thenBy(keyExtractor, comparator, AscDescEnum.ASC);
+    }
+
+    /**
+     * Sort by a key. Null keys come first in ascending order
+     * @param keyExtractor extracts the sort key of an item, called once per item
+     * @param comparator compares the sort keys, in ascending order
+     * @param order ASC or DESC
+     */
+    public static <T, K> KeySorter<T> by(Function<? super T, ? extends K> keyExtractor, Comparator<? super K> comparator, AscDescEnum order) {
+        return new KeySorter<T>().thenBy(keyExtractor, comparator, order);
+    }
+
+    /**
+     * Sort by a Comparable key. Null keys come first in ascending order
+     * @param keyExtractor extracts the sort key of an item, called once per item
+     * @param order ASC or DESC
+     */
+    public static <T, K extends Comparable<? super K>> KeySorter<T> by(Function<? super T, ? extends K> keyExtractor, AscDescEnum order) {
+        return new KeySorter<T>().thenBy(keyExtractor, Comparator.<K>naturalOrder(), order);
+    }
+
+    /**
+     * Sort by a numeric key, kept in a double array
+     * @param keyExtractor extracts the sort key of an item, called once per item
+     * @param order ASC or DESC
+     */
+    public static <T> KeySorter<T> byDouble(ToDoubleFunction<? super T> keyExtractor, AscDescEnum order) {
+        return new KeySorter<T>().thenByDouble(keyExtractor, order);
+    }
+
+    /**
+     * Sort by a whole number key, kept in a long array
+     * @param keyExtractor extracts the sort key of an item, called once per item
+     * @param order ASC or DESC
+     */
+    public static <T> KeySorter<T> byLong(ToLongFunction<? super T> keyExtractor, AscDescEnum order) {
+        return new KeySorter<T>().thenByLong(keyExtractor, order);
+    }
+
+    /**
+     * Add a key, to order items whose previous keys are equal
+     * @param keyExtractor extracts the sort key of an item, called once per item
+     * @param comparator compares the sort keys, in ascending order
+     * @param order ASC or DESC. Null keys come first in ascending order
+     * @return this sorter
+     */
+    public <K> KeySorter<T> thenBy(Function<? super T, ? extends K> keyExtractor, Comparator<? super K> comparator, AscDescEnum order) {
+        Comparator<? super K> keysComparator = Comparator.nullsFirst(comparator);
+        sortKeys.add(new SortKey<>(order) {
+            @Override
+            IndexComparator extract(List<? extends T> items) {
+                Object[] keys = new Object[items.size()];
+                int i = 0;
+                for (T item : items)
+                    keys[i++] = keyExtractor.apply(item);
+                return (a, b) -> keysComparator.compare(KeySorter.<K>cast(keys[a]), KeySorter.<K>cast(keys[b]));
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Add a Comparable key, to order items whose previous keys are equal
+     * @param keyExtractor extracts the sort key of an item, called once per item
+     * @param order ASC or DESC. Null keys come first in ascending order
+     * @return this sorter
+     */
+    public <K extends Comparable<? super K>> KeySorter<T> thenBy(Function<? super T, ? extends K> keyExtractor, AscDescEnum order) {
+        return thenBy(keyExtractor, Comparator.<K>naturalOrder(), order);
+    }
+
+    /**
+     * Add a numeric key, to order items whose previous keys are equal
+     * @param keyExtractor extracts the sort key of an item, called once per item
+     * @param order ASC or DESC
+     * @return this sorter
+     */
+    public KeySorter<T> thenByDouble(ToDoubleFunction<? super T> keyExtractor, AscDescEnum order) {
+        sortKeys.add(new SortKey<>(order) {
+            @Override
+            IndexComparator extract(List<? extends T> items) {
+                double[] keys = new double[items.size()];
+                int i = 0;
+                for (T item : items)
+                    keys[i++] = keyExtractor.applyAsDouble(item);
+                return (a, b) -> Double.compare(keys[a], keys[b]);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Add a whole number key, to order items whose previous keys are equal
+     * @param keyExtractor extracts the sort key of an item, called once per item
+     * @param order ASC or DESC
+     * @return this sorter
+     */
+    public KeySorter<T> thenByLong(ToLongFunction<? super T> keyExtractor, AscDescEnum order) {
+        sortKeys.add(new SortKey<>(order) {
+            @Override
+            IndexComparator extract(List<? extends T> items) {
+                long[] keys = new long[items.size()];
+                int i = 0;
+                for (T item : items)
+                    keys[i++] = keyExtractor.applyAsLong(item);
+                return (a, b) -> Long.compare(keys[a], keys[b]);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Sort the indexes of the items. The items are not modified
+     * @param items the items
+     * @return the index permutation - the index in the given list of the item at each sorted position
+     */
+    public int[] sortedIndexes(List<? extends T> items) {
+        int size = items.size();
+        IndexComparator[] comparators = new IndexComparator[sortKeys.size()];
+        for (int i = 0; i < comparators.length; i++)
+            comparators[i] = sortKeys.get(i).extractInOrder(items);
+
+        IndexComparator comparator = comparators.length == 1 ? comparators[0] : (a, b) -> {
+            for (IndexComparator keyComparator : comparators) {
+                int compare = keyComparator.compare(a, b);
+                if (compare != 0)
+                    return compare;
+            }
+            return 0;
+        };
+
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++)
+            indexes[i] = i;
+        if (comparators.length > 0)
+            mergeSort(indexes.clone(), indexes, 0, size, comparator);
+        return indexes;
+    }
+
+    /**
+     * A sorted read-only view of the items. The items are not copied, the view reads the given list through the sorted indexes.
+     * A list without random access (e.g. LinkedList) is copied to an array list once
+     * @param items the items
+     * @return the items in sorted order
+     */
+    public <E extends T> List<E> sortedView(List<E> items) {
+        int[] indexes = sortedIndexes(items);
+        List<E> source = items instanceof RandomAccess ? items : new ArrayList<>(items);
+        return new SortedView<>(source, indexes);
+    }
+
+    /**
+     * Sort the list in place
+     * @param items the list to sort
+     * @return the given list, sorted
+     */
+    public <E extends T, L extends List<E>> L sort(L items) {
+        int[] indexes = sortedIndexes(items);
+        Object[] source = items.toArray();
+        ListIterator<E> iterator = items.listIterator();
+        for (int index : indexes) {
+            iterator.next();
+            iterator.set(KeySorter.<E>cast(source[index]));
+        }
+        return items;
+    }
+
+    //The arrays hold values of the type they were filled with
+    @SuppressWarnings("unchecked")
+    private static <V> V cast(Object value) {
+        return (V) value;
+    }
+
+    /**
+     * Stable merge sort of the range [from, to) of dest. src must hold the same values as dest in the range
+     */
+    private static void mergeSort(int[] src, int[] dest, int from, int to, IndexComparator comparator) {
+        int length = to - from;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                for (int j = i; j > from && comparator.compare(dest[j - 1], dest[j]) > 0; j--) {
+                    int temp = dest[j];
+                    dest[j] = dest[j - 1];
+                    dest[j - 1] = temp;
+                }
+            }
+            return;
+        }
+
+        //sort the halves into src, then merge them into dest
+        int middle = (from + to) >>> 1;
+        mergeSort(dest, src, from, middle, comparator);
+        mergeSort(dest, src, middle, to, comparator);
+
+        //already in order
+        if (comparator.compare(src[middle - 1], src[middle]) <= 0) {
+            System.arraycopy(src, from, dest, from, length);
+            return;
+        }
+
+        for (int i = from, left = from, right = middle; i < to; i++) {
+            if (right >= to || (left < middle && comparator.compare(src[left], src[right]) <= 0))
+                dest[i] = src[left++];
+            else
+                dest[i] = src[right++];
+        }
+    }
+
+    private interface IndexComparator {
+        int compare(int a, int b);
+    }
+
+    private abstract static class SortKey<T> {
+        private final boolean descending;
+
+        SortKey(AscDescEnum order) {
+            if (order == AscDescEnum.NONE)
+                throw new Error("Sort order NONE cannot be sorted by. Use ASC or DESC");
+            this.descending = order == AscDescEnum.DESC;
+        }
+
+        /**
+         * Extract the keys of all the items
+         * @return an ascending comparator of the items indexes
+         */
+        abstract IndexComparator extract(List<? extends T> items);
+
+        IndexComparator extractInOrder(List<? extends T> items) {
+            IndexComparator ascending = extract(items);
+            return descending ? (a, b) -> ascending.compare(b, a) : ascending;
+        }
+    }
+
+    private static final class SortedView<E> extends AbstractList<E> implements RandomAccess {
+        private final List<E> source;
+        private final int[] indexes;
+
+        private SortedView(List<E> source, int[] indexes) {
+            this.source = source;
+            this.indexes = indexes;
+        }
+
+        @Override
+        public E get(int index) {
+            return source.get(indexes[index]);
+        }
+
+        @Override
+        public int size() {
+            return indexes.length;
+        }
+    }
+}
@@ -2,8 +2,8 @@ package collectionUtils;
 
 import Managers.ReportInstanceManager;
 import com.relevantcodes.extentreports.LogStatus;
+import enumerations.AscDescEnum;
 import enumerations.MessageLevel;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,15 +61,19 @@ public class ListUtils {
      * @param <T> values that extends Number object
      * @author genosar.dafna
      * @since 31.08.2025
+     * @since 19.10.2026
      */
     public static <T extends Number & Comparable<T>> T getMinimum(List<T> list) {
 
-        BigDecimal min = list.stream()
-                .map(v -> new BigDecimal(v.toString()))
-                .min(BigDecimal::compareTo)
-                .orElseThrow(() -> new IllegalStateException("Unexpected empty list after filtering"));
-
-        return convertBack(min, list.get(0));
+        if (list.isEmpty())
+            throw new IllegalStateException("Unexpected empty list after filtering");
+
+        //compare the values as they are, no conversion per value
+        T min = list.get(0);
+        for (T value : list)
+            if (value.compareTo(min) < 0)
+                min = value;
+        return min;
     }
 
     /**
@@ -79,14 +83,18 @@ public class ListUtils {
      * @param <T> values that extends Number object
      * @author genosar.dafna
      * @since 31.08.2025
+     * @since 19.10.2026
      */
     public static <T extends Number & Comparable<T>> T getMaximum(List<T> list) {
-        BigDecimal max = list.stream()
-                .map(v -> new BigDecimal(v.toString()))
-                .max(BigDecimal::compareTo)
-                .orElseThrow(() -> new IllegalStateException("Unexpected empty list after filtering"));
 
-        return convertBack(max, list.get(0));
+        if (list.isEmpty())
+            throw new IllegalStateException("Unexpected empty list after filtering");
+
+        T max = list.get(0);
+        for (T value : list)
+            if (value.compareTo(max) > 0)
+                max = value;
+        return max;
     }
 
     /**
@@ -96,11 +104,29 @@ public class ListUtils {
      * @param <T> values that extends Number object
      * @author genosar.dafna
      * @since 31.08.2025
+     * @since 19.10.2026
      */
     public static <T extends Number & Comparable<T>> T getAverage(List<T> list) {
-        BigDecimal sum = list.stream()
-                .map(v -> new BigDecimal(v.toString()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal sum;
+        if (isIntegral(list.get(0))) {
+            //Sum as long, and only convert the sum to BigDecimal
+            long longSum = 0;
+            try {
+                for (T value : list)
+                    longSum = Math.addExact(longSum, value.longValue());
+                sum = BigDecimal.valueOf(longSum);
+            }
+            catch (ArithmeticException e) {
+                sum = list.stream()
+                        .map(v -> BigDecimal.valueOf(v.longValue()))
+                        .reduce(BigDecimal.ZERO, BigDecimal::add);
+            }
+        }
+        else {
+            sum = list.stream()
+                    .map(v -> new BigDecimal(v.toString()))
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
         BigDecimal avg = sum.divide(BigDecimal.valueOf(list.size()), 10, RoundingMode.HALF_UP);
         return convertBack(avg, list.get(0));
     }
@@ -112,24 +138,52 @@ public class ListUtils {
      * @param <T> values that extends Number object
      * @author genosar.dafna
      * @since 31.08.2025
+     * @since 19.10.2026
      */
     public static <T extends Number & Comparable<T>> T getMedian(List<T> list) {
-        List<BigDecimal> sorted = new ArrayList<>();
-        for (T v : list) sorted.add(new BigDecimal(v.toString()));
-        sorted.sort(BigDecimal::compareTo);
-
-        BigDecimal median;
-        int size = sorted.size();
-        if (size % 2 == 1) {
-            median = sorted.get(size / 2);
-        } else {
-            median = sorted.get(size / 2 - 1)
-                    .add(sorted.get(size / 2))
-                    .divide(BigDecimal.valueOf(2), 10, RoundingMode.HALF_UP);
+        int size = list.size();
+        int middle = (size - 1) / 2;
+        BigDecimal lower;
+        BigDecimal upper;
+
+        //Select the middle values from a primitive copy with a quickselect, instead of sorting
+        if (isIntegral(list.get(0))) {
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++)
+                values[i] = list.get(i).longValue();
+            NumericSummary.select(values, 0, size - 1, middle);
+            lower = BigDecimal.valueOf(values[middle]);
+            if (size % 2 == 0)
+                NumericSummary.select(values, middle + 1, size - 1, middle + 1);
+            upper = BigDecimal.valueOf(values[size % 2 == 1 ? middle : middle + 1]);
+        }
+        else if (list.get(0) instanceof Double || list.get(0) instanceof Float) {
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++)
+                values[i] = list.get(i).doubleValue();
+            NumericSummary.select(values, 0, size - 1, middle);
+            lower = new BigDecimal(list.get(0) instanceof Float ? Float.toString((float) values[middle]) : Double.toString(values[middle]));
+            if (size % 2 == 0)
+                NumericSummary.select(values, middle + 1, size - 1, middle + 1);
+            double upperValue = values[size % 2 == 1 ? middle : middle + 1];
+            upper = new BigDecimal(list.get(0) instanceof Float ? Float.toString((float) upperValue) : Double.toString(upperValue));
         }
+        else {
+            List<BigDecimal> sorted = new ArrayList<>();
+            for (T v : list) sorted.add(new BigDecimal(v.toString()));
+            sorted.sort(BigDecimal::compareTo);
+            lower = sorted.get(middle);
+            upper = sorted.get(size % 2 == 1 ? middle : middle + 1);
+        }
+
+        BigDecimal median = size % 2 == 1 ? lower : lower.add(upper).divide(BigDecimal.valueOf(2), 10, RoundingMode.HALF_UP);
         return convertBack(median, list.get(0));
     }
 
+    private static boolean isIntegral(Number sample) {
+        return sample instanceof Integer || sample instanceof Long;
+    }
+
     private static <T extends Number> T convertBack(BigDecimal value, T sample) {
         if (sample instanceof Integer) return (T) Integer.valueOf(value.intValue());
         if (sample instanceof Long) return (T) Long.valueOf(value.longValue());
@@ -599,26 +653,29 @@ public class ListUtils {
      * @param list1 list 1
      * @param list2 list 2
      * @param <T> generic comparable type
-     * @return a HashMap of lists of the differences between the 2 lists
+     * @return a HashMap of lists of the differences between the 2 lists - 1: the items of list1 that are not in list2, 2: the items of list2 that are not in list1
      * @author Dafna Genosar
      * @since 08.06.2022
      * @since 06.03.2024
+     * @since 19.10.2026
      */
     public static <T> HashMap<Integer, List<T>> getListsDifferences(List<T>list1, List<T>list2)
     {
-        HashMap<Integer, List<T>> differences = new HashMap<>();
-
         // Find elements unique to each list
-        List<T> uniqueElementsList1 = new ArrayList<>(list1);
-        uniqueElementsList1.removeAll(list2);
-
-        List<T> uniqueElementsList2 = new ArrayList<>(list2);
-        uniqueElementsList2.removeAll(list1);
-
-        differences.put(1, uniqueElementsList1);
-        differences.put(2, uniqueElementsList2);
+        return MultisetDiff.of(list1, list2).toDifferencesMap();
+    }
 
-        return differences;
+    /**
+     * Find the differences between 2 lists, including items that appear in both lists a different number of times
+     * @param list1 list 1
+     * @param list2 list 2
+     * @param <T> generic type
+     * @return the items removed from list1, added in list2 and whose count changed
+     * @since 19.10.2026
+     */
+    public static <T> MultisetDiff<T> getListsMultisetDifferences(List<T> list1, List<T> list2)
+    {
+        return MultisetDiff.of(list1, list2);
     }
 
     /**
@@ -634,7 +691,13 @@ public class ListUtils {
      */
     public static <T> List<T> getListsDisjunction(List<T>listOne, List<T>listTwo)
     {
-        return new ArrayList<>(CollectionUtils.disjunction(listOne, listTwo));
+        //Each item appears the difference between its counts in the lists
+        List<T> disjunction = new ArrayList<>();
+        getItemsCounts(listOne, listTwo).forEach((item, counts) -> {
+            for (int i = 0; i < Math.abs(counts[0] - counts[1]); i++)
+                disjunction.add(item);
+        });
+        return disjunction;
     }
 
     /**
@@ -648,7 +711,26 @@ public class ListUtils {
      */
     public static <T> List<T> getListsIntersection(List<T>listOne, List<T>listTwo)
     {
-        return new ArrayList<>(CollectionUtils.intersection(listOne, listTwo));
+        //Each item appears the minimum of its counts in the lists
+        List<T> intersection = new ArrayList<>();
+        getItemsCounts(listOne, listTwo).forEach((item, counts) -> {
+            for (int i = 0; i < Math.min(counts[0], counts[1]); i++)
+                intersection.add(item);
+        });
+        return intersection;
+    }
+
+    /**
+     * @return the number of occurrences of every item in each list, in order of first appearance
+     */
+    private static <T> LinkedHashMap<T, int[]> getItemsCounts(List<T> listOne, List<T> listTwo)
+    {
+        LinkedHashMap<T, int[]> counts = new LinkedHashMap<>();
+        for (T item : listOne)
+            counts.computeIfAbsent(item, i -> new int[2])[0]++;
+        for (T item : listTwo)
+            counts.computeIfAbsent(item, i -> new int[2])[1]++;
+        return counts;
     }
 
     /**
@@ -840,12 +922,14 @@ public class ListUtils {
      */
     public static boolean verifyAllDataInListANotInListB(List<String> stringListA ,List<String> stringListB ){
 
-        for(int i=0;i<=stringListA.size()-1;i++){
-            for(int k=0;k<=stringListB.size()-1;k++){
-                if(stringListA.get(i).toUpperCase().trim().equals(stringListB.get(k).toUpperCase().trim())){
-                    reportAndLog(String.format("Same data in 1st list and 2nd List : %s",stringListA.get(i)),MessageLevel.INFO);
-                    return false;
-                }
+        Set<String> listBValues = new HashSet<>();
+        for (String value : stringListB)
+            listBValues.add(value.toUpperCase().trim());
+
+        for (String value : stringListA) {
+            if (listBValues.contains(value.toUpperCase().trim())) {
+                reportAndLog(String.format("Same data in 1st list and 2nd List : %s", value), MessageLevel.INFO);
+                return false;
             }
         }
         return true;
@@ -857,26 +941,19 @@ public class ListUtils {
      * @param StringList is the list of String to check if their text is order in asc/desc order
      * @param sortOrder is the type of sorting to check  - asc or desc
      * @return true if the list is sorted according to the sortOrder or false if it is not
+     * @since 19.10.2026
      */
     public static boolean isStringListSorted(List<String> StringList, String sortOrder)
     {
-        /*copy StringList to temp list, sort the temp list according to the sortOrder
-        and verify if temp list is equal to StringList */
-        List<String> temp = new ArrayList<>(StringList);
-        boolean isSorted = false;
-        switch (sortOrder) {
-            case "asc" -> {
-                Collections.sort(temp);
-                isSorted = temp.equals(StringList);
-            }
-            case "desc" -> {
-                Collections.sort(temp);
-                Collections.reverse(temp);
-                isSorted = temp.equals(StringList);
+        //one pass over the list, no copy and sort
+        return switch (sortOrder) {
+            case "asc" -> SortOrderVerifier.<String>natural().setMaxViolations(0).verify(StringList).isSorted();
+            case "desc" -> SortOrderVerifier.<String>natural().setOrder(AscDescEnum.DESC).setMaxViolations(0).verify(StringList).isSorted();
+            default -> {
+                logger.error("invalid sort order parameter");
+                yield false;
             }
-            default -> logger.error("invalid sort order parameter");
-        }
-        return isSorted;
+        };
     }
 
     /**
@@ -929,18 +1006,25 @@ public class ListUtils {
      * @param dates list of the dates in form dateCurrentFormat
      * @param ascending true if to sort asc. else sort in desc
      * @param dateCurrentFormat the current date format
+     * @since 19.10.2026
      */
     public static void sortDates(List<String> dates, boolean ascending,String dateCurrentFormat) {
         SimpleDateFormat formatter = new SimpleDateFormat(dateCurrentFormat);
-        dates.sort((date1, date2) -> {
+
+        //Parse every date once and sort the parsed dates with their strings
+        List<Map.Entry<Date, String>> parsedDates = new ArrayList<>(dates.size());
+        for (String date : dates) {
             try {
-                Date d1 = formatter.parse(date1);
-                Date d2 = formatter.parse(date2);
-                return ascending ? d1.compareTo(d2) : d2.compareTo(d1);
+                parsedDates.add(new AbstractMap.SimpleImmutableEntry<>(formatter.parse(date), date));
             } catch (ParseException e) {
                 throw new IllegalArgumentException("Invalid date format", e);
             }
-        });
+        }
+        Comparator<Map.Entry<Date, String>> comparator = Map.Entry.comparingByKey();
+        parsedDates.sort(ascending ? comparator : comparator.reversed());
+
+        for (int i = 0; i < parsedDates.size(); i++)
+            dates.set(i, parsedDates.get(i).getValue());
     }
 
     /**
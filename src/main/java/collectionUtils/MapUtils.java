@@ -5,7 +5,9 @@ import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
 import com.relevantcodes.extentreports.LogStatus;
 import dateTimeUtils.DateTime;
+import enumerations.AscDescEnum;
 import enumerations.MessageLevel;
+import objectsUtils.ClassMetadata;
 import org.apache.commons.collections4.map.LinkedMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,13 +16,10 @@ import tableUtils.PrettyPrintTable;
 
 import java.math.BigInteger;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static objectsUtils.StringUtils.removeByteOrderMark;
 import static reportUtils.Report.reportAndLog;
 
-import java.lang.reflect.Field;
-
 /**
  * Utility methods for Map and its child classes like HashMap, LinkedHashMap
  * @author genosar.dafna
@@ -40,20 +39,14 @@ public class MapUtils {
      * @return  a map that holds the given object's variables names and values
      * @author genosar.dafna
      * @since 10.08.2025
+     * @since 19.10.2026
      */
     public static LinkedHashMap<String, Object> objectsVariablesToMap(Object obj) {
 
         LinkedHashMap<String, Object> result = new LinkedHashMap<>();
-        try {
-            Class<?> clazz = obj.getClass();
-            for (Field field : clazz.getDeclaredFields()) {
-                field.setAccessible(true); // Allow access to a protected /private fields
-                result.put(field.getName(), field.get(obj));
-            }
-        }
-        catch (IllegalAccessException e) {
-            throw new RuntimeException("Error accessing fields", e);
-        }
+        //The fields accessors are resolved once per class
+        for (ClassMetadata.FieldAccessor field : ClassMetadata.of(obj.getClass()).getDeclaredFields())
+            result.put(field.getName(), field.get(obj));
         return result;
     }
 
@@ -722,6 +715,26 @@ public class MapUtils {
         return null;
     }
 
+    /**
+     * Index a list of maps by key columns, for repeated lookups of records without scanning the list.
+     * Records with the same key values are kept in their order
+     * @param list List of maps
+     * @param keyColumns the columns that identify a record
+     * @return the records by their key values (in the order of the key columns)
+     * @since 19.10.2026
+     */
+    public static <K, V, T extends Map<K, V>> LinkedHashMap<List<V>, List<T>> indexMapRecords(List<T> list, List<K> keyColumns)
+    {
+        LinkedHashMap<List<V>, List<T>> index = new LinkedHashMap<>(Math.max(16, (int) (list.size() / 0.75f)));
+        for (T record : list) {
+            List<V> key = new ArrayList<>(keyColumns.size());
+            for (K column : keyColumns)
+                key.add(record.get(column));
+            index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(record);
+        }
+        return index;
+    }
+
     /**
      * Retrieve map record from list based on HashMap of data.
      * @param list List of maps
@@ -814,16 +827,13 @@ public class MapUtils {
      * @since 25.12.2022
      * @modifier dafna genosar
      * @since 16.07.2023
+     * @since 19.10.2026
      */
     public static <T extends Map<String, Double>> T sortingMapByValue(T mapToSort){
 
-        Comparator<Double> values = (Double obj1, Double obj2)->obj1.compareTo(obj2);
-
-        LinkedHashMap<String, Double> sortedMap = mapToSort.entrySet().stream()
-                .sorted(Map.Entry.<String, Double>comparingByValue(values))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (e1, e2) -> e1, LinkedHashMap::new));
+        List<Map.Entry<String, Double>> sortedEntries = getSortedEntries(mapToSort, KeySorter.byDouble(Map.Entry::getValue, AscDescEnum.ASC));
 
-        return (T)sortedMap;
+        return (T)toLinkedHashMap(sortedEntries);
     }
 
     /**
@@ -867,37 +877,13 @@ public class MapUtils {
      * @since 11.4.2023
      * @author dafna genosar
      * @since 28.08.2023
+     * @since 19.10.2026
      */
     public static <K, V, T extends Map<K, V>, L extends List<T>> L sortListOfHashMapsAccordingToKey(String keyToSortBy, L listOfMapsToSort){
 
-        //sort the list before comparing them
-        Comparator<T> comparator = new Comparator<T>() {
-            @Override
-            public int compare(T map1, T map2) {
-
-                //Compare two maps based on the value associated with the key keyToSortBy
-                V value1 = map1.get(keyToSortBy);
-                V value2 = map2.get(keyToSortBy);
-
-                if(value1 instanceof String)
-                    return value1.toString().compareToIgnoreCase(value2.toString());
-
-                if(value1 instanceof DateTime)
-                    return ((DateTime)value1).compareTo((DateTime)value2);
-
-                if(value1 instanceof Integer)
-                    return Integer.compare((int)value1, (int)value1);
-
-                if(value1 instanceof Double)
-                    return Double.compare((int)value1, (int)value1);
-
-                throw new Error(String.format("Please add a support for %s in Common Utils - sortListOfHashMapsAccordingToKey()", value1.getClass().toString()));
-            }
-        };
-
-        listOfMapsToSort.sort(comparator);
-
-        return listOfMapsToSort;
+        //The value of every map is read once, then the list is sorted in place
+        return KeySorter.<T, Object>by(map -> map.get(keyToSortBy), typedValuesComparator("sortListOfHashMapsAccordingToKey"))
+                .sort(listOfMapsToSort);
     }
 
     /**
@@ -941,50 +927,14 @@ public class MapUtils {
      * @return sorted map
      * @author genosar.dafna
      * @since 28.08.2023
+     * @since 19.10.2026
      */
     public static <M extends Map<String, Comparable<?>>> M sortMapsByValue(Map<String, Comparable<?>> map){
 
-        //Convert the map to a LinkedHashMap
-        List<Map.Entry<String, Comparable<?>>> entryList = new ArrayList<>(map.entrySet());
+        List<Map.Entry<String, Comparable<?>>> sortedEntries = getSortedEntries(map,
+                KeySorter.<Map.Entry<String, Comparable<?>>, Object>by(Map.Entry::getValue, typedValuesComparator("sortMapsByValue")));
 
-        // Sort the list based on the values
-        Collections.sort(entryList, new Comparator<Map.Entry<String, Comparable<?>>>() {
-            @Override
-            public int compare(Map.Entry<String, Comparable<?>> entry1, Map.Entry<String, Comparable<?>> entry2) {
-
-                //Compare two maps based on the value
-                Comparable<?> value1 = entry1.getValue();
-                Comparable<?> value2 = entry2.getValue();
-
-                if(value1 instanceof String)
-                    return value1.toString().compareToIgnoreCase(value2.toString());
-
-                if(value1 instanceof DateTime)
-                    return ((DateTime)value1).compareTo((DateTime)value2);
-
-                if(value1 instanceof Integer)
-                    return Integer.compare(((Integer) value1).intValue(), ((Integer)value1).intValue());
-
-                if(value1 instanceof BigInteger){
-                    BigInteger bigIntValue1 = new BigInteger(String.valueOf(value1));
-                    BigInteger bigIntValue2 = new BigInteger(String.valueOf(value2));
-                    return bigIntValue1.compareTo(bigIntValue2);
-                }
-
-                if(value1 instanceof Double)
-                    return Double.compare(((Double) value1).doubleValue(), ((Double) value1).doubleValue());
-
-                throw new Error(String.format("Please add a support for %s in Common Utils - sortMapsByValue()", value1.getClass().toString()));
-            }
-        });
-
-        // Create a LinkedHashMap to maintain the order
-        Map<String, Comparable<?>> sortedMap = new LinkedHashMap<>();
-        for (Map.Entry<String, Comparable<?>> entry : entryList) {
-            sortedMap.put(entry.getKey(), entry.getValue());
-        }
-
-        return (M)sortedMap;
+        return (M)toLinkedHashMap(sortedEntries);
     }
 
     /**
@@ -1020,28 +970,77 @@ public class MapUtils {
      * @return the sortted HashMap
      * @author umflat.lior and ChatGPT
      * @since 13.9.2023
+     * @since 19.10.2026
      */
     public static HashMap<String, HashMap<String, Double>> sortByInnerMapKey(HashMap<String, HashMap<String, Double>> map, String innerKey, boolean ascending) {
-        HashMap<String, HashMap<String, Double>> sortedMap = new LinkedHashMap<>();
-
-        // Convert the outer map entries to a list for sorting
-        List<Map.Entry<String, HashMap<String, Double>>> outerList = new ArrayList<>(map.entrySet());
-
-        // Sort the list based on the specified key's value in the inner map
-        outerList.sort((entry1, entry2) -> {
-            HashMap<String, Double> innerMap1 = entry1.getValue();
-            HashMap<String, Double> innerMap2 = entry2.getValue();
-            Double value1 = innerMap1.getOrDefault(innerKey, 0.0); // Default to 0.0 if key not found
-            Double value2 = innerMap2.getOrDefault(innerKey, 0.0); // Default to 0.0 if key not found
-            int comparison = Double.compare(value1, value2);
-            return ascending ? comparison : -comparison; // Adjust for ascending or descending
-        });
 
-        // Populate the sorted map
-        for (Map.Entry<String, HashMap<String, Double>> entry : outerList) {
-            sortedMap.put(entry.getKey(), entry.getValue());
-        }
+        // The inner value of every entry is read once. Default to 0.0 if key not found
+        List<Map.Entry<String, HashMap<String, Double>>> sortedEntries = getSortedEntries(map,
+                KeySorter.byDouble(entry -> entry.getValue().getOrDefault(innerKey, 0.0), ascending ? AscDescEnum.ASC : AscDescEnum.DESC));
+
+        return toLinkedHashMap(sortedEntries);
+    }
+
+    /**
+     * Sort the entries of a map without creating a new map.
+     * The sort keys are extracted once per entry, and the result is a view of the entries in sorted order
+     * Example:
+     * <pre>
+     * List&lt;Map.Entry&lt;String, HashMap&lt;String, Double&gt;&gt;&gt; slowest = MapUtils.getSortedEntries(timings,
+     *      KeySorter.&lt;Map.Entry&lt;String, HashMap&lt;String, Double&gt;&gt;&gt;byDouble(entry -&gt; entry.getValue().get("p95"), AscDescEnum.DESC)
+     *          .thenBy(Map.Entry::getKey, AscDescEnum.ASC));
+     * </pre>
+     * @param map the map. Must not be modified while the view is used
+     * @param sorter the sort keys of the entries
+     * @return a read-only view of the map's entries, in sorted order. Equal entries keep the map's order
+     * @since 19.10.2026
+     */
+    public static <K, V> List<Map.Entry<K, V>> getSortedEntries(Map<K, V> map, KeySorter<? super Map.Entry<K, V>> sorter) {
+        List<Map.Entry<K, V>> entries = new ArrayList<>(map.entrySet());
+        return sorter.sortedView(entries);
+    }
 
-        return sortedMap;
+    /**
+     * Sort the keys of a map by their values, without creating a new map
+     * @param map the map
+     * @param order ASC or DESC. Null values come first in ascending order
+     * @return the keys, in the order of their values. Equal values keep the map's order
+     * @since 19.10.2026
+     */
+    public static <K, V extends Comparable<? super V>> List<K> getKeysSortedByValue(Map<K, V> map, AscDescEnum order) {
+        List<Map.Entry<K, V>> sortedEntries = getSortedEntries(map, KeySorter.by(Map.Entry::getValue, order));
+        List<K> keys = new ArrayList<>(sortedEntries.size());
+        for (Map.Entry<K, V> entry : sortedEntries)
+            keys.add(entry.getKey());
+        return keys;
+    }
+
+    private static <K, V> LinkedHashMap<K, V> toLinkedHashMap(List<Map.Entry<K, V>> entries) {
+        LinkedHashMap<K, V> map = new LinkedHashMap<>((int) (entries.size() / 0.75f) + 1);
+        for (Map.Entry<K, V> entry : entries)
+            map.put(entry.getKey(), entry.getValue());
+        return map;
+    }
+
+    /**
+     * Compare values by the type of the first value: Strings ignoring case, DateTimes, BigIntegers and numbers by their value
+     * @param methodName the calling method, for the error of an unsupported type
+     */
+    private static Comparator<Object> typedValuesComparator(String methodName) {
+        return (value1, value2) -> {
+            if(value1 instanceof String)
+                return value1.toString().compareToIgnoreCase(value2.toString());
+
+            if(value1 instanceof DateTime)
+                return ((DateTime)value1).compareTo((DateTime)value2);
+
+            if(value1 instanceof BigInteger)
+                return ((BigInteger)value1).compareTo(new BigInteger(String.valueOf(value2)));
+
+            if(value1 instanceof Integer || value1 instanceof Double)
+                return Double.compare(((Number)value1).doubleValue(), ((Number)value2).doubleValue());
+
+            throw new Error(String.format("Please add a support for %s in Common Utils - %s()", value1.getClass().toString(), methodName));
+        };
     }
 }
@@ -0,0 +1,431 @@
+package collectionUtils;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Reconciles 2 datasets - lists of maps, like DB results and a UI table or an Excel export - by joining their rows on key columns.<br>
+ * Every row is classified as matched (same key, same values), changed (same key, different values), missing left (only in the right dataset)
+ * or missing right (only in the left dataset). Changed rows have the differences column by column.<br>
+ * The rows are joined with hash indexes, so the order of the rows does not matter and reconciling is O(n+m).
+ * Rows with the same key are paired in their order. Large datasets can be partitioned by key and reconciled in parallel.<br>
+ * Example:
+ * <pre>
+ * MapsListReconciler.Result&lt;String, Object&gt; result = new MapsListReconciler&lt;String, Object&gt;(List.of("Container", "Voyage"))
+ *         .setCompareAsStrings(true)
+ *         .reconcile(dbRows, uiRows);
+ * </pre>
+ * @param <K> the column type
+ * @param <V> the value type
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class MapsListReconciler<K, V> {
+
+    //Below this size partitioning costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 50_000;
+
+    private final List<K> keyColumns;
+    private final Set<K> ignoredColumns = new HashSet<>();
+    private boolean compareAsStrings = false;
+    private boolean parallel = false;
+
+    /**
+     * @param keyColumns the columns that identify a row in both datasets
+     */
+    public MapsListReconciler(List<K> keyColumns) {
+        if (keyColumns == null || keyColumns.isEmpty())
+            throw new Error("Failed to create a reconciler. At least one key column is required");
+        this.keyColumns = new ArrayList<>(keyColumns);
+    }
+
+    /**
+     * @param ignoredColumns columns that are not compared
+     */
+    public MapsListReconciler<K, V> setIgnoredColumns(Collection<K> ignoredColumns) {
+        this.ignoredColumns.clear();
+        this.ignoredColumns.addAll(ignoredColumns);
+        return this;
+    }
+
+    /**
+     * @param compareAsStrings true to compare the values (and keys) as trimmed Strings, null as empty - for datasets from different sources,
+     *                         like a DB number and the text of a UI cell
+     */
+    public MapsListReconciler<K, V> setCompareAsStrings(boolean compareAsStrings) {
+        this.compareAsStrings = compareAsStrings;
+        return this;
+    }
+
+    /**
+     * @param parallel true to partition large datasets by key and reconcile the partitions in parallel
+     */
+    public MapsListReconciler<K, V> setParallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Reconcile the datasets
+     * @param left the left dataset, e.g. the actual data
+     * @param right the right dataset, e.g. the expected data
+     * @return the classified rows, in the order of the left dataset (missing left - of the right dataset)
+     */
+    public <T extends Map<K, V>> Result<K, V> reconcile(List<T> left, List<T> right) {
+        if (!parallel || left.size() + right.size() < PARALLEL_THRESHOLD)
+            return reconcile(left, IntStream.range(0, left.size()).toArray(), right, IntStream.range(0, right.size()).toArray());
+
+        //partition both datasets by the key hash, so every key is in the same partition on both sides
+        int partitions = Runtime.getRuntime().availableProcessors() * 4;
+        int[][] leftPartitions = partition(left, partitions);
+        int[][] rightPartitions = partition(right, partitions);
+        List<Result<K, V>> results = IntStream.range(0, partitions).parallel()
+                .mapToObj(p -> reconcile(left, leftPartitions[p], right, rightPartitions[p]))
+                .collect(Collectors.toList());
+
+        Result<K, V> merged = new Result<>(keyColumns);
+        for (Result<K, V> result : results) {
+            merged.matched.addAll(result.matched);
+            merged.changed.addAll(result.changed);
+            merged.missingLeft.addAll(result.missingLeft);
+            merged.missingRight.addAll(result.missingRight);
+        }
+        merged.sort();
+        return merged;
+    }
+
+    /**
+     * Reconcile the rows at the given indexes
+     */
+    private <T extends Map<K, V>> Result<K, V> reconcile(List<T> left, int[] leftIndexes, List<T> right, int[] rightIndexes) {
+        //hash index of the right rows by key. Rows with the same key are kept in order
+        Map<List<Object>, Deque<Integer>> rightRowsByKey = new HashMap<>(Math.max(16, (int) (rightIndexes.length / 0.75f)));
+        for (int index : rightIndexes)
+            rightRowsByKey.computeIfAbsent(getKey(right.get(index)), k -> new ArrayDeque<>(1)).add(index);
+
+        Result<K, V> result = new Result<>(keyColumns);
+        for (int leftIndex : leftIndexes) {
+            Map<K, V> leftRow = left.get(leftIndex);
+            List<Object> key = getKey(leftRow);
+            Deque<Integer> candidates = rightRowsByKey.get(key);
+            Integer rightIndex = candidates == null ? null : candidates.poll();
+            if (rightIndex == null) {
+                result.missingRight.add(new Row<>(leftIndex, key, leftRow));
+                continue;
+            }
+            Map<K, V> rightRow = right.get(rightIndex);
+            List<FieldDifference<K, V>> differences = compareRows(leftRow, rightRow);
+            if (differences.isEmpty())
+                result.matched.add(new MatchedRow<>(leftIndex, rightIndex, key, leftRow, rightRow));
+            else
+                result.changed.add(new ChangedRow<>(leftIndex, rightIndex, key, leftRow, rightRow, differences));
+        }
+        //right rows that were not paired
+        for (Deque<Integer> remaining : rightRowsByKey.values())
+            for (int rightIndex : remaining)
+                result.missingLeft.add(new Row<>(rightIndex, getKey(right.get(rightIndex)), right.get(rightIndex)));
+        result.sort();
+        return result;
+    }
+
+    private List<FieldDifference<K, V>> compareRows(Map<K, V> leftRow, Map<K, V> rightRow) {
+        List<FieldDifference<K, V>> differences = new ArrayList<>();
+        for (Map.Entry<K, V> entry : leftRow.entrySet()) {
+            K column = entry.getKey();
+            if (ignoredColumns.contains(column))
+                continue;
+            V rightValue = rightRow.get(column);
+            if (!rightRow.containsKey(column) || !valuesEqual(entry.getValue(), rightValue))
+                differences.add(new FieldDifference<>(column, entry.getValue(), rightValue));
+        }
+        //columns of the right row only
+        for (Map.Entry<K, V> entry : rightRow.entrySet()) {
+            if (!leftRow.containsKey(entry.getKey()) && !ignoredColumns.contains(entry.getKey()))
+                differences.add(new FieldDifference<>(entry.getKey(), null, entry.getValue()));
+        }
+        return differences;
+    }
+
+    private boolean valuesEqual(Object left, Object right) {
+        return compareAsStrings ? normalize(left).equals(normalize(right)) : Objects.equals(left, right);
+    }
+
+    private List<Object> getKey(Map<K, V> row) {
+        List<Object> key = new ArrayList<>(keyColumns.size());
+        for (K column : keyColumns)
+            key.add(compareAsStrings ? normalize(row.get(column)) : row.get(column));
+        return key;
+    }
+
+    private static String normalize(Object value) {
+        return value == null ? "" : value.toString().trim();
+    }
+
+    private <T extends Map<K, V>> int[][] partition(List<T> rows, int partitions) {
+        int[] partitionOf = new int[rows.size()];
+        int[] sizes = new int[partitions];
+        IntStream.range(0, rows.size()).parallel().forEach(i -> partitionOf[i] = Math.floorMod(getKey(rows.get(i)).hashCode(), partitions));
+        for (int p : partitionOf)
+            sizes[p]++;
+        int[][] indexes = new int[partitions][];
+        for (int p = 0; p < partitions; p++)
+            indexes[p] = new int[sizes[p]];
+        int[] next = new int[partitions];
+        for (int i = 0; i < partitionOf.length; i++)
+            indexes[partitionOf[i]][next[partitionOf[i]]++] = i;
+        return indexes;
+    }
+
+    /**
+     * A row of one of the datasets
+     */
+    public static class Row<K, V> {
+        private final int index;
+        private final List<Object> key;
+        private final Map<K, V> row;
+
+        private Row(int index, List<Object> key, Map<K, V> row) {
+            this.index = index;
+            this.key = key;
+            this.row = row;
+        }
+
+        /**
+         * @return the row's index in its dataset
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public List<Object> getKey() {
+            return key;
+        }
+
+        public Map<K, V> getRow() {
+            return row;
+        }
+    }
+
+    /**
+     * Rows with the same key and values in both datasets
+     */
+    public static class MatchedRow<K, V> extends Row<K, V> {
+        private final int rightIndex;
+        private final Map<K, V> rightRow;
+
+        private MatchedRow(int leftIndex, int rightIndex, List<Object> key, Map<K, V> leftRow, Map<K, V> rightRow) {
+            super(leftIndex, key, leftRow);
+            this.rightIndex = rightIndex;
+            this.rightRow = rightRow;
+        }
+
+        public int getRightIndex() {
+            return rightIndex;
+        }
+
+        public Map<K, V> getRightRow() {
+            return rightRow;
+        }
+    }
+
+    /**
+     * Rows with the same key and different values
+     */
+    public static class ChangedRow<K, V> extends MatchedRow<K, V> {
+        private final List<FieldDifference<K, V>> differences;
+
+        private ChangedRow(int leftIndex, int rightIndex, List<Object> key, Map<K, V> leftRow, Map<K, V> rightRow, List<FieldDifference<K, V>> differences) {
+            super(leftIndex, rightIndex, key, leftRow, rightRow);
+            this.differences = differences;
+        }
+
+        public List<FieldDifference<K, V>> getDifferences() {
+            return differences;
+        }
+    }
+
+    /**
+     * A column with different values. A value is null if the column is missing in its row
+     */
+    public static class FieldDifference<K, V> {
+        private final K column;
+        private final V leftValue;
+        private final V rightValue;
+
+        private FieldDifference(K column, V leftValue, V rightValue) {
+            this.column = column;
+            this.leftValue = leftValue;
+            this.rightValue = rightValue;
+        }
+
+        public K getColumn() {
+            return column;
+        }
+
+        public V getLeftValue() {
+            return leftValue;
+        }
+
+        public V getRightValue() {
+            return rightValue;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %s -> %s", column, leftValue, rightValue);
+        }
+    }
+
+    /**
+     * The reconciliation result
+     */
+    public static class Result<K, V> {
+        private final List<K> keyColumns;
+        private final List<MatchedRow<K, V>> matched = new ArrayList<>();
+        private final List<ChangedRow<K, V>> changed = new ArrayList<>();
+        private final List<Row<K, V>> missingLeft = new ArrayList<>();
+        private final List<Row<K, V>> missingRight = new ArrayList<>();
+
+        private Result(List<K> keyColumns) {
+            this.keyColumns = keyColumns;
+        }
+
+        public List<MatchedRow<K, V>> getMatched() {
+            return matched;
+        }
+
+        public List<ChangedRow<K, V>> getChanged() {
+            return changed;
+        }
+
+        /**
+         * @return the rows of the right dataset that have no row in the left dataset
+         */
+        public List<Row<K, V>> getMissingLeft() {
+            return missingLeft;
+        }
+
+        /**
+         * @return the rows of the left dataset that have no row in the right dataset
+         */
+        public List<Row<K, V>> getMissingRight() {
+            return missingRight;
+        }
+
+        /**
+         * @return true if all the rows matched
+         */
+        public boolean isMatch() {
+            return changed.isEmpty() && missingLeft.isEmpty() && missingRight.isEmpty();
+        }
+
+        /**
+         * Write the differences as HTML tables, in chunks of a bounded number of rows, so large results do not build one huge String
+         * @param leftName the left dataset's name
+         * @param rightName the right dataset's name
+         * @param rowsPerChunk the maximal number of rows in a chunk
+         * @param maxRows the maximal number of rows to write, the rest are summarized in the last chunk
+         * @param chunkConsumer receives the chunks, e.g. reportAndLog
+         */
+        public void writeHtml(String leftName, String rightName, int rowsPerChunk, int maxRows, Consumer<String> chunkConsumer) {
+            String header = String.format("<table style=\"border: 1px solid black;\"><tr style=\"background-color: #D6EEEE;\">" +
+                    "<th>Key %s</th><th>Column</th><th>%s</th><th>%s</th></tr>", escape(keyColumns), escape(leftName), escape(rightName));
+            HtmlChunks chunks = new HtmlChunks(header, rowsPerChunk, chunkConsumer);
+            int total = changed.size() + missingLeft.size() + missingRight.size();
+            int written = 0;
+
+            for (ChangedRow<K, V> row : changed) {
+                if (written++ >= maxRows)
+                    break;
+                for (FieldDifference<K, V> difference : row.getDifferences())
+                    chunks.add(row.getKey(), difference.getColumn(), difference.getLeftValue(), difference.getRightValue());
+            }
+            for (Row<K, V> row : missingRight) {
+                if (written++ >= maxRows)
+                    break;
+                chunks.add(row.getKey(), "Missing row", row.getRow(), "");
+            }
+            for (Row<K, V> row : missingLeft) {
+                if (written++ >= maxRows)
+                    break;
+                chunks.add(row.getKey(), "Missing row", "", row.getRow());
+            }
+            chunks.flush();
+            if (total > maxRows)
+                chunkConsumer.accept(String.format("%d more different rows are not displayed", total - maxRows));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Matched: %d, Changed: %d, Missing left: %d, Missing right: %d",
+                    matched.size(), changed.size(), missingLeft.size(), missingRight.size());
+        }
+
+        private void sort() {
+            matched.sort(Comparator.comparingInt(Row::getIndex));
+            changed.sort(Comparator.comparingInt(Row::getIndex));
+            missingLeft.sort(Comparator.comparingInt(Row::getIndex));
+            missingRight.sort(Comparator.comparingInt(Row::getIndex));
+        }
+    }
+
+    /**
+     * The values are data, escape them so they are displayed as is and not parsed as HTML
+     */
+    private static String escape(Object value) {
+        String text = String.valueOf(value);
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&#39;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Builds HTML table rows and passes them on in tables of a bounded number of rows
+     */
+    private static class HtmlChunks {
+        private static final String CELL = "<td style=\"border: 1px solid black;\">%s</td>";
+
+        private final String header;
+        private final int rowsPerChunk;
+        private final Consumer<String> consumer;
+        private StringBuilder chunk = new StringBuilder();
+        private int rows = 0;
+
+        private HtmlChunks(String header, int rowsPerChunk, Consumer<String> consumer) {
+            this.header = header;
+            this.rowsPerChunk = Math.max(1, rowsPerChunk);
+            this.consumer = consumer;
+        }
+
+        private void add(Object... cells) {
+            if (rows == 0)
+                chunk.append(header);
+            chunk.append("<tr>");
+            for (Object cell : cells)
+                chunk.append(String.format(CELL, escape(cell)));
+            chunk.append("</tr>");
+            if (++rows == rowsPerChunk)
+                flush();
+        }
+
+        private void flush() {
+            if (rows == 0)
+                return;
+            consumer.accept(chunk.append("</table>").toString());
+            chunk = new StringBuilder();
+            rows = 0;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package collectionUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The differences between 2 lists as multisets - the order of the items is ignored, their number of occurrences is not.<br>
+ * Every item is in one of the results:
+ * removed - in the first list only, added - in the second list only, count changed - in both lists a different number of times.<br>
+ * The lists are compared with counting maps in O(n+m) ({@link #of(Collection, Collection)}), by sorting and merging Comparable items
+ * ({@link #ofSorted(Collection, Collection)}) or with counting maps built in parallel, for very large lists ({@link #ofParallel(Collection, Collection)})
+ * @param <T> the items type
+ * @since 19.10.2026
+ */
+@SuppressWarnings({"unused", "unchecked"})
+public class MultisetDiff<T> {
+
+    //Concurrent maps do not allow null keys
+    private static final Object NULL_ITEM = new Object();
+
+    private final List<T> removed;
+    private final List<T> added;
+    private final Map<T, CountChange> countChanged;
+
+    private MultisetDiff(List<T> removed, List<T> added, Map<T, CountChange> countChanged) {
+        this.removed = removed;
+        this.added = added;
+        this.countChanged = countChanged;
+    }
+
+    /**
+     * Compare 2 lists with a counting map
+     * @param first the first list
+     * @param second the second list
+     * @return the differences. removed and added are in the order of the lists, count changed in order of first appearance
+     */
+    public static <T> MultisetDiff<T> of(Collection<T> first, Collection<T> second) {
+        //counts[0] - occurrences in the first list, counts[1] - in the second
+        Map<T, int[]> counts = new LinkedHashMap<>(Math.max(16, (int) ((first.size() + second.size()) / 0.75f)));
+        for (T item : first)
+            counts.computeIfAbsent(item, i -> new int[2])[0]++;
+        for (T item : second)
+            counts.computeIfAbsent(item, i -> new int[2])[1]++;
+
+        List<T> removed = new ArrayList<>();
+        for (T item : first)
+            if (counts.get(item)[1] == 0)
+                removed.add(item);
+        List<T> added = new ArrayList<>();
+        for (T item : second)
+            if (counts.get(item)[0] == 0)
+                added.add(item);
+        Map<T, CountChange> countChanged = new LinkedHashMap<>();
+        counts.forEach((item, count) -> {
+            if (count[0] != 0 && count[1] != 0 && count[0] != count[1])
+                countChanged.put(item, new CountChange(count[0], count[1]));
+        });
+        return new MultisetDiff<>(removed, added, countChanged);
+    }
+
+    /**
+     * Compare 2 lists of Comparable items by sorting copies of them and merging. Uses no hashing - for items with an expensive or missing hashCode
+     * @param first the first list
+     * @param second the second list
+     * @return the differences, all in sorted order (null first)
+     */
+    public static <T extends Comparable<? super T>> MultisetDiff<T> ofSorted(Collection<T> first, Collection<T> second) {
+        Comparator<T> comparator = Comparator.nullsFirst(Comparator.naturalOrder());
+        List<T> left = new ArrayList<>(first);
+        List<T> right = new ArrayList<>(second);
+        left.sort(comparator);
+        right.sort(comparator);
+
+        List<T> removed = new ArrayList<>();
+        List<T> added = new ArrayList<>();
+        Map<T, CountChange> countChanged = new LinkedHashMap<>();
+        int i = 0;
+        int j = 0;
+        while (i < left.size() || j < right.size()) {
+            int compare = i == left.size() ? 1 : j == right.size() ? -1 : comparator.compare(left.get(i), right.get(j));
+            T item = compare <= 0 ? left.get(i) : right.get(j);
+            //count the run of equal items on each side
+            int leftCount = 0;
+            while (compare <= 0 && i < left.size() && comparator.compare(left.get(i), item) == 0) {
+                i++;
+                leftCount++;
+            }
+            int rightCount = 0;
+            while (compare >= 0 && j < right.size() && comparator.compare(right.get(j), item) == 0) {
+                j++;
+                rightCount++;
+            }
+            if (rightCount == 0)
+                removed.addAll(left.subList(i - leftCount, i));
+            else if (leftCount == 0)
+                added.addAll(right.subList(j - rightCount, j));
+            else if (leftCount != rightCount)
+                countChanged.put(item, new CountChange(leftCount, rightCount));
+        }
+        return new MultisetDiff<>(removed, added, countChanged);
+    }
+
+    /**
+     * Compare 2 lists with counting maps that are built in parallel. Worth it for lists of hundreds of thousands of items
+     * @param first the first list
+     * @param second the second list
+     * @return the differences. removed and added are in the order of the lists, count changed in no specific order
+     */
+    public static <T> MultisetDiff<T> ofParallel(Collection<T> first, Collection<T> second) {
+        ConcurrentMap<Object, Long> firstCounts = countInParallel(first);
+        ConcurrentMap<Object, Long> secondCounts = countInParallel(second);
+
+        List<T> removed = first.parallelStream().filter(item -> !secondCounts.containsKey(wrap(item))).collect(Collectors.toList());
+        List<T> added = second.parallelStream().filter(item -> !firstCounts.containsKey(wrap(item))).collect(Collectors.toList());
+        Map<T, CountChange> countChanged = new LinkedHashMap<>();
+        firstCounts.forEach((item, count) -> {
+            Long secondCount = secondCounts.get(item);
+            if (secondCount != null && !secondCount.equals(count))
+                countChanged.put(item == NULL_ITEM ? null : (T) item, new CountChange(count.intValue(), secondCount.intValue()));
+        });
+        return new MultisetDiff<>(removed, added, countChanged);
+    }
+
+    private static <T> ConcurrentMap<Object, Long> countInParallel(Collection<T> items) {
+        return items.parallelStream().map(MultisetDiff::wrap).collect(Collectors.groupingByConcurrent(Function.identity(), Collectors.counting()));
+    }
+
+    private static Object wrap(Object item) {
+        return item == null ? NULL_ITEM : item;
+    }
+
+    /**
+     * @return the occurrences of the items that are in the first list only
+     */
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * @return the occurrences of the items that are in the second list only
+     */
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * @return the items that are in both lists, a different number of times
+     */
+    public Map<T, CountChange> getCountChanged() {
+        return countChanged;
+    }
+
+    /**
+     * @return true if the lists have the same items the same number of times
+     */
+    public boolean isEqual() {
+        return removed.isEmpty() && added.isEmpty() && countChanged.isEmpty();
+    }
+
+    /**
+     * @return the differences in the format of {@link ListUtils#getListsDifferences(List, List)} - 1: removed, 2: added
+     */
+    public HashMap<Integer, List<T>> toDifferencesMap() {
+        HashMap<Integer, List<T>> differences = new HashMap<>();
+        differences.put(1, removed);
+        differences.put(2, added);
+        return differences;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Removed: %s, Added: %s, Count changed: %s", removed, added, countChanged);
+    }
+
+    /**
+     * The number of occurrences of an item in each list
+     */
+    public static class CountChange {
+        private final int firstCount;
+        private final int secondCount;
+
+        public CountChange(int firstCount, int secondCount) {
+            this.firstCount = firstCount;
+            this.secondCount = secondCount;
+        }
+
+        public int getFirstCount() {
+            return firstCount;
+        }
+
+        public int getSecondCount() {
+            return secondCount;
+        }
+
+        @Override
+        public String toString() {
+            return firstCount + " -> " + secondCount;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package collectionUtils;
+
+import java.util.Arrays;
+
+/**
+ * Accumulates numbers as they arrive, e.g. timing samples, without boxing.
+ * The count, sum, minimum, maximum, mean and standard deviation are updated in O(1) per value (Welford's algorithm).
+ * When created with keepSamples, the values are also kept in a growing primitive array, for percentiles.<br>
+ * Not thread safe
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class NumericAccumulator {
+
+    private final boolean keepSamples;
+    private long count = 0;
+    private double sum = 0;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private double mean = 0;
+    //the sum of the squared distances from the mean
+    private double squares = 0;
+    private double[] samples;
+
+    /**
+     * An accumulator that keeps the samples
+     */
+    public NumericAccumulator() {
+        this(true);
+    }
+
+    /**
+     * @param keepSamples true to keep the values for percentiles
+     */
+    public NumericAccumulator(boolean keepSamples) {
+        this.keepSamples = keepSamples;
+        this.samples = keepSamples ? new double[16] : null;
+    }
+
+    /**
+     * @param value the value to add
+     * @return this accumulator
+     */
+    public NumericAccumulator add(double value) {
+        if (count == 0 || value < min)
+            min = value;
+        if (count == 0 || value > max)
+            max = value;
+        if (keepSamples) {
+            if (count == samples.length)
+                samples = Arrays.copyOf(samples, samples.length * 2);
+            samples[(int) count] = value;
+        }
+        count++;
+        sum += value;
+        double delta = value - mean;
+        mean += delta / count;
+        squares += delta * (value - mean);
+        return this;
+    }
+
+    /**
+     * @param value the value to add
+     * @return this accumulator
+     */
+    public NumericAccumulator add(long value) {
+        return add((double) value);
+    }
+
+    /**
+     * Add the values of another accumulator
+     * @param other the other accumulator
+     * @return this accumulator
+     */
+    public NumericAccumulator merge(NumericAccumulator other) {
+        if (other.count == 0)
+            return this;
+        if (keepSamples) {
+            if (!other.keepSamples)
+                throw new Error("Cannot merge an accumulator without samples into an accumulator that keeps samples");
+            if (count + other.count > samples.length)
+                samples = Arrays.copyOf(samples, (int) Math.max(samples.length * 2L, count + other.count));
+            System.arraycopy(other.samples, 0, samples, (int) count, (int) other.count);
+        }
+        if (count == 0 || other.min < min)
+            min = other.min;
+        if (count == 0 || other.max > max)
+            max = other.max;
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        squares += other.squares + delta * delta * count * other.count / total;
+        mean += delta * other.count / total;
+        sum += other.sum;
+        count = total;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * @return the minimum, NaN if there are no values
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return the maximum, NaN if there are no values
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return the mean, NaN if there are no values
+     */
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * @return the sample standard deviation, 0 for less than 2 values
+     */
+    public double getStdDev() {
+        return count > 1 ? Math.sqrt(squares / (count - 1)) : 0;
+    }
+
+    /**
+     * Nearest rank percentile of the kept samples
+     * @param percentile a percentile between 0 and 100
+     * @return the percentile value
+     */
+    public double getPercentile(double percentile) {
+        return getPercentiles(percentile)[0];
+    }
+
+    /**
+     * Nearest rank percentiles of the kept samples, selected from one copy of the samples
+     * @param percentiles percentiles between 0 and 100
+     * @return the percentiles values, in the order of the given percentiles
+     */
+    public double[] getPercentiles(double... percentiles) {
+        if (!keepSamples)
+            throw new Error("Percentiles are available only when the accumulator keeps the samples");
+        return NumericSummary.selectPercentiles(getSamples(), percentiles);
+    }
+
+    /**
+     * @return a copy of the kept samples, in the order they were added. Empty if the samples are not kept
+     */
+    public double[] getSamples() {
+        return keepSamples ? Arrays.copyOf(samples, (int) count) : new double[0];
+    }
+
+    public NumericSummary toSummary() {
+        return new NumericSummary(count, sum, min, max, getMean(), getStdDev());
+    }
+
+    @Override
+    public String toString() {
+        return toSummary().toString();
+    }
+}
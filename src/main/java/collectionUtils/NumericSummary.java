@@ -0,0 +1,283 @@
+package collectionUtils;
+
+import java.util.Arrays;
+
+/**
+ * Summary statistics of primitive numbers - count, sum, minimum, maximum, mean and sample standard deviation,
+ * and percentiles of primitive arrays with a quickselect instead of a full sort.<br>
+ * The summary is computed in one pass without boxing. To summarize values as they arrive, use {@link NumericAccumulator}
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public final class NumericSummary {
+
+    //Below this range size a range is sorted instead of partitioned
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final long count;
+    private final double sum;
+    private final double min;
+    private final double max;
+    private final double mean;
+    private final double stdDev;
+
+    NumericSummary(long count, double sum, double min, double max, double mean, double stdDev) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+        this.stdDev = stdDev;
+    }
+
+    /**
+     * @param values the values
+     * @return the summary of the values. The minimum, maximum and mean of an empty array are NaN
+     */
+    public static NumericSummary of(double[] values) {
+        NumericAccumulator accumulator = new NumericAccumulator(false);
+        for (double value : values)
+            accumulator.add(value);
+        return accumulator.toSummary();
+    }
+
+    /**
+     * @param values the values
+     * @return the summary of the values. The minimum, maximum and mean of an empty array are NaN
+     */
+    public static NumericSummary of(long[] values) {
+        NumericAccumulator accumulator = new NumericAccumulator(false);
+        for (long value : values)
+            accumulator.add(value);
+        return accumulator.toSummary();
+    }
+
+    /**
+     * Nearest rank percentile. The given array is not modified
+     * @param values the values, not empty
+     * @param percentile a percentile between 0 and 100
+     * @return the smallest value that at least the given percent of the values are less than or equal to
+     */
+    public static double percentile(double[] values, double percentile) {
+        return percentiles(values, percentile)[0];
+    }
+
+    /**
+     * Nearest rank percentile. The given array is not modified
+     * @param values the values, not empty
+     * @param percentile a percentile between 0 and 100
+     * @return the smallest value that at least the given percent of the values are less than or equal to
+     */
+    public static long percentile(long[] values, double percentile) {
+        return percentiles(values, percentile)[0];
+    }
+
+    /**
+     * Nearest rank percentiles, selected from one copy of the values. The given array is not modified
+     * @param values the values, not empty
+     * @param percentiles percentiles between 0 and 100, in any order
+     * @return the values of the percentiles, in the order of the given percentiles
+     */
+    public static double[] percentiles(double[] values, double... percentiles) {
+        return selectPercentiles(values.clone(), percentiles);
+    }
+
+    /**
+     * Nearest rank percentiles. Reorders the given array
+     */
+    static double[] selectPercentiles(double[] copy, double... percentiles) {
+        int[] ranks = ranks(copy.length, percentiles);
+        double[] result = new double[percentiles.length];
+        int from = 0;
+        for (int i : order(ranks)) {
+            //after a selection everything left of the rank is not greater, so the next higher rank is searched right of it
+            select(copy, from, copy.length - 1, ranks[i]);
+            result[i] = copy[ranks[i]];
+            from = ranks[i];
+        }
+        return result;
+    }
+
+    /**
+     * Nearest rank percentiles, selected from one copy of the values. The given array is not modified
+     * @param values the values, not empty
+     * @param percentiles percentiles between 0 and 100, in any order
+     * @return the values of the percentiles, in the order of the given percentiles
+     */
+    public static long[] percentiles(long[] values, double... percentiles) {
+        long[] copy = values.clone();
+        int[] ranks = ranks(copy.length, percentiles);
+        long[] result = new long[percentiles.length];
+        int from = 0;
+        for (int i : order(ranks)) {
+            select(copy, from, copy.length - 1, ranks[i]);
+            result[i] = copy[ranks[i]];
+            from = ranks[i];
+        }
+        return result;
+    }
+
+    /**
+     * The median - the middle value, or the mean of the 2 middle values when the number of values is even. The given array is not modified
+     * @param values the values, not empty
+     * @return the median
+     */
+    public static double median(double[] values) {
+        double[] copy = values.clone();
+        int middle = (copy.length - 1) / 2;
+        select(copy, 0, copy.length - 1, middle);
+        if (copy.length % 2 == 1)
+            return copy[middle];
+        select(copy, middle + 1, copy.length - 1, middle + 1);
+        return (copy[middle] + copy[middle + 1]) / 2;
+    }
+
+    /**
+     * The median - the middle value, or the mean of the 2 middle values when the number of values is even. The given array is not modified
+     * @param values the values, not empty
+     * @return the median
+     */
+    public static double median(long[] values) {
+        long[] copy = values.clone();
+        int middle = (copy.length - 1) / 2;
+        select(copy, 0, copy.length - 1, middle);
+        if (copy.length % 2 == 1)
+            return copy[middle];
+        select(copy, middle + 1, copy.length - 1, middle + 1);
+        return copy[middle] / 2.0 + copy[middle + 1] / 2.0;
+    }
+
+    private static int[] ranks(int length, double[] percentiles) {
+        if (length == 0)
+            throw new Error("Cannot calculate a percentile of no values");
+        int[] ranks = new int[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (percentiles[i] < 0 || percentiles[i] > 100)
+                throw new Error(String.format("Percentile %s is not between 0 and 100", percentiles[i]));
+            int rank = (int) Math.ceil(percentiles[i] / 100 * length);
+            ranks[i] = Math.max(0, Math.min(length - 1, rank - 1));
+        }
+        return ranks;
+    }
+
+    //the indexes of the ranks, in ascending order of the ranks
+    private static Integer[] order(int[] ranks) {
+        Integer[] order = new Integer[ranks.length];
+        for (int i = 0; i < order.length; i++)
+            order[i] = i;
+        Arrays.sort(order, (a, b) -> Integer.compare(ranks[a], ranks[b]));
+        return order;
+    }
+
+    /**
+     * Quickselect: partially order the range so the value at index k is the one that would be there if the range was sorted,
+     * the values left of it are not greater and the values right of it are not smaller.
+     * Falls back to sorting the range if the partitions keep being unbalanced, so the worst case is O(n log n)
+     */
+    static void select(double[] values, int from, int to, int k) {
+        int budget = 2 * (32 - Integer.numberOfLeadingZeros(to - from + 1));
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (budget-- == 0) {
+                Arrays.sort(values, from, to + 1);
+                return;
+            }
+            //median of 3 pivot
+            int middle = (from + to) >>> 1;
+            if (values[middle] < values[from]) swap(values, middle, from);
+            if (values[to] < values[from]) swap(values, to, from);
+            if (values[to] < values[middle]) swap(values, to, middle);
+            double pivot = values[middle];
+
+            int i = from;
+            int j = to;
+            while (i <= j) {
+                while (values[i] < pivot) i++;
+                while (values[j] > pivot) j--;
+                if (i <= j)
+                    swap(values, i++, j--);
+            }
+            if (k <= j)
+                to = j;
+            else if (k >= i)
+                from = i;
+            else
+                return;
+        }
+        Arrays.sort(values, from, to + 1);
+    }
+
+    static void select(long[] values, int from, int to, int k) {
+        int budget = 2 * (32 - Integer.numberOfLeadingZeros(to - from + 1));
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (budget-- == 0) {
+                Arrays.sort(values, from, to + 1);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            if (values[middle] < values[from]) swap(values, middle, from);
+            if (values[to] < values[from]) swap(values, to, from);
+            if (values[to] < values[middle]) swap(values, to, middle);
+            long pivot = values[middle];
+
+            int i = from;
+            int j = to;
+            while (i <= j) {
+                while (values[i] < pivot) i++;
+                while (values[j] > pivot) j--;
+                if (i <= j)
+                    swap(values, i++, j--);
+            }
+            if (k <= j)
+                to = j;
+            else if (k >= i)
+                from = i;
+            else
+                return;
+        }
+        Arrays.sort(values, from, to + 1);
+    }
+
+    private static void swap(double[] values, int i, int j) {
+        double temp = values[i];
+        values[i] = values[j];
+        values[j] = temp;
+    }
+
+    private static void swap(long[] values, int i, int j) {
+        long temp = values[i];
+        values[i] = values[j];
+        values[j] = temp;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * @return the sample standard deviation, 0 for less than 2 values
+     */
+    public double getStdDev() {
+        return stdDev;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, min=%s, max=%s, mean=%s, stdDev=%s", count, min, max, mean, stdDev);
+    }
+}
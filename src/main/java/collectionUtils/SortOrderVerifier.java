@@ -0,0 +1,301 @@
+package collectionUtils;
+
+import enumerations.AscDescEnum;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Verify a list is sorted, in one pass and without copying or sorting it.<br>
+ * The sort key of every item is extracted once (e.g. a date string is parsed once) and each key is compared only to the previous one.
+ * The first violations are kept for the report, the rest are only counted.
+ * Example:
+ * <pre>
+ * SortOrderVerifier.Result&lt;String&gt; result = SortOrderVerifier.dates("dd/MM/yyyy")
+ *      .setOrder(AscDescEnum.DESC)
+ *      .setMaxViolations(10)
+ *      .verify(table.getColumnValues("ETA"));
+ * </pre>
+ * @param <T> the items type
+ * @param <K> the sort key type
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class SortOrderVerifier<T, K> {
+
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final Comparator<? super K> comparator;
+    private AscDescEnum order = AscDescEnum.ASC;
+    private boolean strict = false;
+    private boolean nullsFirst = true;
+    private int maxViolations = 10;
+
+    /**
+     * @param keyExtractor extracts the sort key of an item, called once per item
+     * @param comparator compares the sort keys, in ascending order
+     */
+    public SortOrderVerifier(Function<? super T, ? extends K> keyExtractor, Comparator<? super K> comparator) {
+        this.keyExtractor = keyExtractor;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Sort by a key of the items
+     * @param keyExtractor extracts the sort key of an item, called once per item
+     * @param comparator compares the sort keys, in ascending order
+     */
+    public static <T, K> SortOrderVerifier<T, K> by(Function<? super T, ? extends K> keyExtractor, Comparator<? super K> comparator) {
+        return new SortOrderVerifier<>(keyExtractor, comparator);
+    }
+
+    /**
+     * Natural order of Comparable items
+     */
+    public static <T extends Comparable<? super T>> SortOrderVerifier<T, T> natural() {
+        return new SortOrderVerifier<T, T>(Function.identity(), Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Case-insensitive order of Strings
+     */
+    public static SortOrderVerifier<String, String> caseInsensitive() {
+        return new SortOrderVerifier<>(Function.identity(), String.CASE_INSENSITIVE_ORDER);
+    }
+
+    /**
+     * Order of Strings by the rules of a language, as a UI sorts them. The collation key of every String is created once
+     * @param locale the language
+     */
+    public static SortOrderVerifier<String, CollationKey> localeAware(Locale locale) {
+        Collator collator = Collator.getInstance(locale);
+        return new SortOrderVerifier<>(value -> {
+            synchronized (collator) {
+                return collator.getCollationKey(value);
+            }
+        }, Comparator.naturalOrder());
+    }
+
+    /**
+     * Order of Strings in which runs of digits are compared as numbers - "Item 2" before "Item 10"
+     */
+    public static SortOrderVerifier<String, String> numericAware() {
+        return new SortOrderVerifier<>(Function.identity(), SortOrderVerifier::compareNumericAware);
+    }
+
+    /**
+     * Order of date Strings. Every String is parsed once
+     * @param dateFormat the dates format, e.g. "dd/MM/yyyy HH:mm"
+     */
+    public static SortOrderVerifier<String, Date> dates(String dateFormat) {
+        ThreadLocal<SimpleDateFormat> formatter = ThreadLocal.withInitial(() -> new SimpleDateFormat(dateFormat));
+        return new SortOrderVerifier<>(value -> {
+            try {
+                return value == null ? null : formatter.get().parse(value);
+            }
+            catch (ParseException e) {
+                throw new Error(String.format("'%s' is not a date in format '%s'", value, dateFormat));
+            }
+        }, Comparator.naturalOrder());
+    }
+
+    /**
+     * @param order ASC or DESC. Default is ASC
+     * @return this verifier
+     */
+    public SortOrderVerifier<T, K> setOrder(AscDescEnum order) {
+        if (order == AscDescEnum.NONE)
+            throw new Error("Sort order NONE cannot be verified. Use ASC or DESC");
+        this.order = order;
+        return this;
+    }
+
+    /**
+     * @param strict true if equal adjacent keys are a violation. Default is false
+     * @return this verifier
+     */
+    public SortOrderVerifier<T, K> setStrict(boolean strict) {
+        this.strict = strict;
+        return this;
+    }
+
+    /**
+     * @param nullsFirst true if null keys come before all other keys in ascending order. Default is true
+     * @return this verifier
+     */
+    public SortOrderVerifier<T, K> setNullsFirst(boolean nullsFirst) {
+        this.nullsFirst = nullsFirst;
+        return this;
+    }
+
+    /**
+     * @param maxViolations the number of violations to keep for the report. Default is 10
+     * @return this verifier
+     */
+    public SortOrderVerifier<T, K> setMaxViolations(int maxViolations) {
+        this.maxViolations = maxViolations;
+        return this;
+    }
+
+    /**
+     * Check the items are sorted
+     * @param items the items, in the order to verify
+     * @return the result, with the first violations
+     */
+    public Result<T> verify(Iterable<? extends T> items) {
+        Comparator<? super K> keysComparator = nullsFirst ? Comparator.nullsFirst(comparator) : Comparator.nullsLast(comparator);
+        boolean descending = order == AscDescEnum.DESC;
+
+        List<Violation<T>> violations = new ArrayList<>();
+        int violationsCount = 0;
+        int index = 0;
+        T previous = null;
+        K previousKey = null;
+        for (T item : items) {
+            K key = keyExtractor.apply(item);
+            if (index > 0) {
+                int compare = descending ? keysComparator.compare(key, previousKey) : keysComparator.compare(previousKey, key);
+                if (compare > 0 || (strict && compare == 0)) {
+                    violationsCount++;
+                    if (violations.size() < maxViolations)
+                        violations.add(new Violation<>(index, previous, item));
+                }
+            }
+            previous = item;
+            previousKey = key;
+            index++;
+        }
+        return new Result<>(index, violationsCount, violations);
+    }
+
+    /**
+     * Compare Strings with the runs of digits compared by their numeric value.
+     * Equal numbers with different leading zeros are ordered by the number of zeros
+     */
+    static int compareNumericAware(String first, String second) {
+        int i = 0;
+        int j = 0;
+        while (i < first.length() && j < second.length()) {
+            char c1 = first.charAt(i);
+            char c2 = second.charAt(j);
+            if (Character.isDigit(c1) && Character.isDigit(c2)) {
+                int start1 = i;
+                int start2 = j;
+                while (i < first.length() && first.charAt(i) == '0') i++;
+                while (j < second.length() && second.charAt(j) == '0') j++;
+                int digitsStart1 = i;
+                int digitsStart2 = j;
+                while (i < first.length() && Character.isDigit(first.charAt(i))) i++;
+                while (j < second.length() && Character.isDigit(second.charAt(j))) j++;
+
+                //a longer number without leading zeros is bigger, same length numbers compare digit by digit
+                int length1 = i - digitsStart1;
+                int length2 = j - digitsStart2;
+                if (length1 != length2)
+                    return Integer.compare(length1, length2);
+                for (int k = 0; k < length1; k++) {
+                    int compare = Character.compare(first.charAt(digitsStart1 + k), second.charAt(digitsStart2 + k));
+                    if (compare != 0)
+                        return compare;
+                }
+                int zeros = Integer.compare(digitsStart1 - start1, digitsStart2 - start2);
+                if (zeros != 0)
+                    return zeros;
+            }
+            else {
+                if (c1 != c2)
+                    return Character.compare(c1, c2);
+                i++;
+                j++;
+            }
+        }
+        return Integer.compare(first.length() - i, second.length() - j);
+    }
+
+    /**
+     * Two adjacent items in the wrong order
+     */
+    public static class Violation<T> {
+        private final int index;
+        private final T previous;
+        private final T item;
+
+        public Violation(int index, T previous, T item) {
+            this.index = index;
+            this.previous = previous;
+            this.item = item;
+        }
+
+        /**
+         * @return the index of the item that is out of order relative to the previous item
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public T getPrevious() {
+            return previous;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[%d] '%s' after '%s'", index, item, previous);
+        }
+    }
+
+    /**
+     * The result of a verification
+     */
+    public static class Result<T> {
+        private final int itemsCount;
+        private final int violationsCount;
+        private final List<Violation<T>> violations;
+
+        public Result(int itemsCount, int violationsCount, List<Violation<T>> violations) {
+            this.itemsCount = itemsCount;
+            this.violationsCount = violationsCount;
+            this.violations = violations;
+        }
+
+        public boolean isSorted() {
+            return violationsCount == 0;
+        }
+
+        public int getItemsCount() {
+            return itemsCount;
+        }
+
+        /**
+         * @return the number of all the violations, including the ones that were not kept
+         */
+        public int getViolationsCount() {
+            return violationsCount;
+        }
+
+        /**
+         * @return the first violations, up to the verifier's max violations
+         */
+        public List<Violation<T>> getViolations() {
+            return violations;
+        }
+
+        @Override
+        public String toString() {
+            if (isSorted())
+                return String.format("%d items are sorted", itemsCount);
+            StringBuilder text = new StringBuilder(String.format("%d of %d items are out of order", violationsCount, itemsCount));
+            for (Violation<T> violation : violations)
+                text.append("<br>").append(violation);
+            if (violationsCount > violations.size())
+                text.append(String.format("<br>... and %d more", violationsCount - violations.size()));
+            return text.toString();
+        }
+    }
+}
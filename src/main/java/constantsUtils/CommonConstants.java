@@ -15,6 +15,8 @@ public class CommonConstants
         public static String EXTENT_REPORT_FOLDER = System.getProperty("user.dir") + File.separator + "report" + File.separator;
         public final static String METRIC_REPORT_PATH = System.getProperty("user.dir") + File.separator + "report" + File.separator
                 + "metricsReport" + FileSuffix.JSON;
+        public final static String METRIC_STREAM_REPORT_PATH = System.getProperty("user.dir") + File.separator + "report" + File.separator
+                + "metricsReport" + FileSuffix.NDJSON;
         public static String DOWNLOADS_FOLDER = System.getProperty("user.dir") + File.separator + "Downloads"+ File.separator;
 
         public static String RESOURCES_FOLDER_PATH = System.getProperty("user.dir") + File.separator + "src" + File.separator + "main" + File.separator + "resources" + File.separator;
@@ -30,6 +32,7 @@ public class CommonConstants
 
     public static class FileSuffix {
         public final static String JSON = ".json";
+        public final static String NDJSON = ".ndjson";
     }
 
     public static class FailureClassificationErrors {
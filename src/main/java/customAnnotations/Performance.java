@@ -1,13 +1,49 @@
 package customAnnotations;
 
+import extensions.PerformanceExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-/**this interface describe custom annotation Performance that return the
+/**this interface describe custom annotation Performance that marks performance tests.
+ * The tests are timed by {@link PerformanceExtension} - warmup and measured iterations - and the timings are added to the test's metric.
+ * The tests are compared to a stored baseline only when baseline() is true.
+ * A method annotation overrides the class annotation
 */
-@Target({ElementType.TYPE})
+@Target({ElementType.TYPE, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(PerformanceExtension.class)
 public @interface Performance {
+
+    /**
+     * @return the number of iterations to run before measuring. The extra iterations do not run the before/after each methods,
+     * so a test with @BeforeEach or @AfterEach methods must keep warmup 0 and iterations 1
+     */
+    int warmup() default 0;
+
+    /**
+     * @return the number of measured iterations. At least 2 when baseline() is true
+     */
+    int iterations() default 1;
+
+    /**
+     * @return true to compare the timings to the stored baseline (performanceBaselineFile) and fail the test on a regression.
+     * By default the test is only timed
+     * @since 19.10.2026
+     */
+    boolean baseline() default false;
+
+    /**
+     * @return the percentile compared to the baseline, between 50 and 100. p50, p90, p99 and max (p100) are stored,
+     * other percentiles are interpolated linearly between them
+     */
+    double percentile() default 90;
+
+    /**
+     * @return the allowed increase relative to the baseline, e.g. 0.2 for 20%
+     */
+    double tolerance() default 0.2;
 }
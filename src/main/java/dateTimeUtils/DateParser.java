@@ -1,14 +1,19 @@
 package dateTimeUtils;
 
 import javax.annotation.Nullable;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 /**
  * Contains Maps of date patterns, depends on if they contain dots, like 12.03.2022, slashes like 12/03/2022, dashes like 12-03-2022 or other generic patterns.
  * If you add a new pattern - please make sure you add it to the correct map and debug the regex you provided.
  * The class also contains a method that receives a Date String and returns the date pattern that matches it.
+ * The patterns are compiled once and tried in their order, skipping the patterns that cannot match the String's first character.
  * @author genosar.dafna
  * @since 20.09.2022
  * @since 21.11.2022
@@ -17,14 +22,16 @@ import java.util.regex.Pattern;
 public class DateParser {
 
     /**
-     * Date patterns
+     * Date patterns, in priority order - the first matching pattern wins.
+     * For every separator the day first patterns come before the month first patterns, so a String that fits both
+     * (e.g. 01/02/2023) is read day first unless monthFirst is true
      */
 //  * @author genosar.dafna
 //  * @since 20.09.2022
 //  * @since 24.08.2023
 
 
-    private static final Map<String, String> DATE_FORMAT_REGEX = Map.ofEntries(
+    private static final List<Map.Entry<String, String>> DATE_FORMAT_REGEX = List.of(
             Map.entry("hh:mm | dd MMM yy", "^(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9])\\s[|]\\s((0[1-9]|[12][0-9]|3[01])\\s[a-zA-Z]{3})\\s[0-9][0-9]$"), //05:09 | 22 Aug 23
 
 //
@@ -61,6 +68,12 @@ public class DateParser {
             Map.entry("yyyy-MM-dd'T'HH:mm:ssXXX", "^(19|2[0-9])[0-9]{2}-(0[1-9]|1[012])-(0[1-9]|[12][0-9]|3[01])T(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9]):(0[0-9]|[1-5][0-9])[-+]\\d{2}:\\d{2}$"),  //2001-07-04T12:08:56.235-07:00
 
             //Separated by slashes
+            Map.entry("dd/MM/yy", "^((0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[012])/([0-9])[0-9])$"),                                                                                     //29/02/12
+            Map.entry("dd/MM/yyyy", "^((0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[012])/(19|2[0-9])[0-9]{2})$"),                                                                            //29/02/2012
+            Map.entry("dd/MM/yyyy HH:mm", "^((0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[012])/(19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9])$"),                            //29/02/2012 23:59
+            Map.entry("dd/MM/yyyy HH:mm:ss", "^((0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[012])/(19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9]):(0[0-9]|[1-5][0-9])$"),    //29/02/2012 23:59:59
+            Map.entry("dd/MM/yyyy hh:mm:ss a", "^((0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[012])/(19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):\\d{2}:\\d{2}\\s([AaPp][Mm])$"), //14/07/2001 12:08:56 PM
+
             Map.entry("MM/dd/yyyy", "^((0[1-9]|1[012])[/](0[1-9]|[12][0-9]|3[01])[/](19|2[0-9])[0-9]{2})$"),                                                                            //02/22/2012
             Map.entry("MM/dd/yyyy HH:mm", "^((0[1-9]|1[012])[/](0[1-9]|[12][0-9]|3[01])[/](19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9])$"),                            //02/29/2012 23:59
             Map.entry("MM/dd/yyyy HH:mm a", "^((0[1-9]|1[012])[/](0[1-9]|[12][0-9]|3[01])[/](19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):\\d{2}\\s([AaPp][Mm])$"),                            //02/29/2012 23:59 PM
@@ -68,25 +81,19 @@ public class DateParser {
             Map.entry("MM/dd/yyyy HH:mm:ss", "^((0[1-9]|1[012])[/](0[1-9]|[12][0-9]|3[01])[/](19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9]):(0[0-9]|[1-5][0-9])$"),    //02/29/2012 23:59:59
             Map.entry("MM/dd/yyyy hh:mm:ss a", "^((0[1-9]|1[012])[/](0[1-9]|[12][0-9]|3[01])[/](19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):\\d{2}:\\d{2}\\s([AaPp][Mm])$"), //07/14/2001 12:08:56 PM
 
-            Map.entry("dd/MM/yy", "^((0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[012])/([0-9])[0-9])$"),                                                                                     //29/02/12
-            Map.entry("dd/MM/yyyy", "^((0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[012])/(19|2[0-9])[0-9]{2})$"),                                                                            //29/02/2012
-            Map.entry("dd/MM/yyyy HH:mm", "^((0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[012])/(19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9])$"),                            //29/02/2012 23:59
-            Map.entry("dd/MM/yyyy HH:mm:ss", "^((0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[012])/(19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9]):(0[0-9]|[1-5][0-9])$"),    //29/02/2012 23:59:59
-            Map.entry("dd/MM/yyyy hh:mm:ss a", "^((0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[012])/(19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):\\d{2}:\\d{2}\\s([AaPp][Mm])$"), //14/07/2001 12:08:56 PM
-
             Map.entry("yyyy/MM/dd", "^((19|2[0-9])[0-9]{2})/(0[1-9]|1[012])/(0[1-9]|[12][0-9]|3[01])$"),                                                                            //2012/02/29
             Map.entry("yyyy/MM/dd HH:mm", "^(19|2[0-9])[0-9]{2}/(0[1-9]|1[012])/(0[1-9]|[12][0-9]|3[01])\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9])$"),                            //2012/02/29 23:59
             Map.entry("yyyy/MM/dd HH:mm:ss", "^(19|2[0-9])[0-9]{2}/(0[1-9]|1[012])/(0[1-9]|[12][0-9]|3[01])\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9]):(0[0-9]|[1-5][0-9])$"),    //2012/02/29 23:59:59
 
             //Separated by dots
-            Map.entry("MM.dd.yyyy", "^((0[1-9]|1[012])[.](0[1-9]|[12][0-9]|3[01])[.](19|2[0-9])[0-9]{2})$"),                                         //07.31.2002
-            Map.entry("MM.dd.yyyy HH:mm", "^((0[1-9]|1[012])[.](0[1-9]|[12][0-9]|3[01])[.](19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9])$"), //02.29.2012 23:59
-            Map.entry("MM.dd.yyyy HH:mm:ss", "^((0[1-9]|1[012])[.](0[1-9]|[12][0-9]|3[01])[.](19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9]):(0[0-9]|[1-5][0-9])$"),     //07.31.2002 14:58:59
-
             Map.entry("dd.MM.yyyy", "^((0[1-9]|[12][0-9]|3[01])[.](0[1-9]|1[012])[.](19|2[0-9])[0-9]{2})$"),                                     //31.07.2002
             Map.entry("dd.MM.yyyy HH:mm", "^((0[1-9]|[12][0-9]|3[01])[.](0[1-9]|1[012])[.](19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9])$"),                    //29.02.2012 23:59
             Map.entry("dd.MM.yyyy HH:mm:ss", "^((0[1-9]|[12][0-9]|3[01])[.](0[1-9]|1[012])[.](19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9]):(0[0-9]|[1-5][0-9])$"), //31.07.2002 14:58:59
 
+            Map.entry("MM.dd.yyyy", "^((0[1-9]|1[012])[.](0[1-9]|[12][0-9]|3[01])[.](19|2[0-9])[0-9]{2})$"),                                         //07.31.2002
+            Map.entry("MM.dd.yyyy HH:mm", "^((0[1-9]|1[012])[.](0[1-9]|[12][0-9]|3[01])[.](19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9])$"), //02.29.2012 23:59
+            Map.entry("MM.dd.yyyy HH:mm:ss", "^((0[1-9]|1[012])[.](0[1-9]|[12][0-9]|3[01])[.](19|2[0-9])[0-9]{2})\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9]):(0[0-9]|[1-5][0-9])$"),     //07.31.2002 14:58:59
+
             //General
             Map.entry("yyyyMMdd", "^(19|2[0-9])[0-9]{2}(0[1-9]|1[012])(0[1-9]|[12][0-9]|3[01])$"),                                        //20220929
             Map.entry("yyyyMMddHHmm", "^(19|2[0-9])[0-9]{2}(0[1-9]|1[012])(0[1-9]|[12][0-9]|3[01])(0[0-9]|[1][0-9]|2[0-3])(0[0-9]|[1-5][0-9])$"),                       //202202292359
@@ -131,39 +138,101 @@ public class DateParser {
             Map.entry("EEE dd/MM/yy HH:mm", "^(mon|Mon|MON|tue|Tue|TUE|wed|Wed|WED|thu|Thu|THU|fri|Fri|FRI|sat|Sat|SAT|sun|Sun|SUN)\\s(0[1-9]|[12][0-9]|3[01])[/](0[1-9]|1[012])[/]([0-9][0-9])\\s(0[0-9]|[1][0-9]|2[0-3]):(0[0-9]|[1-5][0-9])$")   //Sun 19/03/23 14:00							                //Mon 19/09/22 10:00
     );
 
+    //The patterns compiled once, in the order of DATE_FORMAT_REGEX
+    private static final Pattern[] DATE_FORMAT_PATTERNS = DATE_FORMAT_REGEX.stream()
+            .map(entry -> Pattern.compile(entry.getValue(), Pattern.CASE_INSENSITIVE))
+            .toArray(Pattern[]::new);
+
+    //For every ASCII first character, the indexes of the patterns that can match a String starting with it
+    private static final int[][] CANDIDATES_BY_FIRST_CHAR = buildFirstCharCandidates();
+    private static final int[] ALL_CANDIDATES = IntStream.range(0, DATE_FORMAT_PATTERNS.length).toArray();
+
     /**
      * Determines which Date pattern matches the Date String that was received
      * @param dateString a Date String in any pattern
-     * @param monthFirst true if the month is before the day, false if the day is before the month
+     * @param monthFirst true if the month is before the day, false if the day is before the month,
+     *                   null to accept both - a Date String that fits both is read day first
      * @return a Date pattern that matches the Date String
      * @author genosar.dafna
      * @since 20.09.2022
      * @since 21.11.2022
+     * @since 19.10.2026
      */
     public static String determineDateFormat(String dateString, @Nullable Boolean monthFirst) {
 
-        for(Map.Entry<String, String> formats : DATE_FORMAT_REGEX.entrySet()){
-            String format = formats.getKey();
-            String regX = formats.getValue();
-
-            Pattern pattern = Pattern.compile(regX, Pattern.CASE_INSENSITIVE);
-            Matcher matcher = pattern.matcher(dateString);
+        for (int index : getCandidates(dateString)) {
+            String format = DATE_FORMAT_REGEX.get(index).getKey();
+            if (isMonthOrderAllowed(format, monthFirst) && DATE_FORMAT_PATTERNS[index].matcher(dateString).matches())
+                return format;
+        }
 
-            if (matcher.matches()) {
-                if(monthFirst != null) {
-                    int indexOfMonth = format.indexOf("M");
-                    int indexOfDay = format.indexOf("d");
+        return null;
+    }
 
-                    //If month and day exists in the format
-                    if (indexOfMonth != -1 && indexOfDay != -1) {
-                        if (((indexOfMonth < indexOfDay) && !monthFirst) || ((indexOfMonth > indexOfDay) && monthFirst))
-                            continue;
-                    }
-                }
-                return format;
+    /**
+     * Determines the Date pattern of a column of Date Strings - the first pattern that matches all of them.
+     * Use it to parse many dates of the same format, instead of determining the format of each date
+     * @param dateStrings Date Strings in the same pattern. null and empty Strings are ignored
+     * @param monthFirst true if the month is before the day, false if the day is before the month,
+     *                   null to accept both - Date Strings that fit both are read day first
+     * @return a Date pattern that matches all the Date Strings, or null if there is none
+     * @since 19.10.2026
+     */
+    public static String determineDateFormat(Collection<String> dateStrings, @Nullable Boolean monthFirst) {
+
+        BitSet remaining = null;
+        for (String dateString : dateStrings) {
+            if (dateString == null || dateString.isEmpty())
+                continue;
+
+            BitSet matching = new BitSet(DATE_FORMAT_PATTERNS.length);
+            for (int index : getCandidates(dateString)) {
+                if ((remaining == null || remaining.get(index)) && isMonthOrderAllowed(DATE_FORMAT_REGEX.get(index).getKey(), monthFirst)
+                        && DATE_FORMAT_PATTERNS[index].matcher(dateString).matches())
+                    matching.set(index);
             }
+            remaining = matching;
+            if (remaining.isEmpty())
+                return null;
         }
 
-        return null;
+        return remaining == null ? null : DATE_FORMAT_REGEX.get(remaining.nextSetBit(0)).getKey();
+    }
+
+    /**
+     * @return false if the format has both month and day, in the other order than requested
+     */
+    private static boolean isMonthOrderAllowed(String format, @Nullable Boolean monthFirst) {
+        if (monthFirst == null)
+            return true;
+        int indexOfMonth = format.indexOf("M");
+        int indexOfDay = format.indexOf("d");
+
+        //If month and day exists in the format
+        if (indexOfMonth != -1 && indexOfDay != -1)
+            return !(((indexOfMonth < indexOfDay) && !monthFirst) || ((indexOfMonth > indexOfDay) && monthFirst));
+        return true;
+    }
+
+    private static int[] getCandidates(String dateString) {
+        if (dateString.isEmpty() || dateString.charAt(0) >= CANDIDATES_BY_FIRST_CHAR.length)
+            return ALL_CANDIDATES;
+        return CANDIDATES_BY_FIRST_CHAR[dateString.charAt(0)];
+    }
+
+    /**
+     * A pattern is a candidate for a first character if matching the character alone succeeds or needs more input (hitEnd).
+     * Otherwise the pattern fails on the first character, and on any String that starts with it
+     */
+    private static int[][] buildFirstCharCandidates() {
+        int[][] candidates = new int[128][];
+        for (char c = 0; c < candidates.length; c++) {
+            String firstChar = String.valueOf(c);
+            candidates[c] = IntStream.range(0, DATE_FORMAT_PATTERNS.length).filter(index -> {
+                Matcher matcher = DATE_FORMAT_PATTERNS[index].matcher(firstChar);
+                return matcher.matches() || matcher.hitEnd();
+            }).toArray();
+        }
+        return candidates;
     }
 }
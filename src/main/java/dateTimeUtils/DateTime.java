@@ -618,6 +618,45 @@ public class DateTime implements Comparable<DateTime>{
         return parse(dateString, format);
     }
 
+    /**
+     * Static method
+     * Converts a column of date Strings in the same format to DateTimes. The format is determined once for the whole column
+     * @param dateStrings Strings that contain a date and time in the same format. null and empty Strings are returned as null
+     * @param usStyle true if the month is before the day, false if the day is before the month, null if unknown
+     * @return DateTime objects that are equivalent to the date Strings, in the same order
+     * @since 19.10.2026
+     */
+    public static List<DateTime> parseAll(List<String> dateStrings, @Nullable Boolean usStyle){
+        if (dateStrings == null){
+            throw new Error("Failed to parse date Strings. dateStrings is null");
+        }
+
+        //Determine the format
+        String format = DateParser.determineDateFormat(dateStrings, usStyle);
+        if (format == null){
+            throw new Error("Failed to parse date Strings. No format matches all of them");
+        }
+
+        logger.info(String.format("Parsing %d date Strings in format : %s", dateStrings.size(), format));
+        SimpleDateFormat sdf = new SimpleDateFormat(format);
+        List<DateTime> dateTimes = new ArrayList<>(dateStrings.size());
+        for (String dateString : dateStrings) {
+            if (dateString == null || dateString.isEmpty()) {
+                dateTimes.add(null);
+                continue;
+            }
+            try {
+                Calendar cal = Calendar.getInstance();
+                cal.setTime(sdf.parse(dateString));
+                dateTimes.add(new DateTime(cal));
+            }
+            catch (ParseException e) {
+                throw new Error(String.format("Failed to parse date String '%s'<br>Error: %s", dateString, e.getMessage()));
+            }
+        }
+        return dateTimes;
+    }
+
     /**
      * Adds/increments the specified number of days to/from the value of this instance.
      * @param value number of days to add/increment. minus number would decrement the days
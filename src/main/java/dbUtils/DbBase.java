@@ -10,6 +10,7 @@ import enumerations.MessageLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reportUtils.Report;
+import tableUtils.DataSet;
 
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -105,6 +106,37 @@ public class DbBase {
         return (L)queryResultsList;
     }
 
+    /**
+     * Return the query result as a columnar DataSet. The rows are read with getString, like getQueryStringResultMap,
+     * but the column names are resolved once and the values are stored by columns, without a map per row
+     * @param resultSet the result set
+     * @return the query result as a DataSet. A repeating column name gets the appendix "1"
+     * @since 19.10.2026
+     */
+    protected DataSet getQueryResultDataSet(ResultSet resultSet) throws SQLException {
+
+        ResultSetMetaData resultMetaData = resultSet.getMetaData();
+
+        int queryColumnCount = resultMetaData.getColumnCount();
+
+        List<String> columnNames = new LinkedList<>();
+        for (int i = 1; i <= queryColumnCount; i++)
+            columnNames.add(resultMetaData.getColumnName(i));
+
+        DataSet.Builder builder = DataSet.builder(columnNames);
+        Object[] rowValues = new Object[queryColumnCount];
+
+        while (resultSet.next()) {
+            for (int i = 1; i <= queryColumnCount; i++)
+                rowValues[i - 1] = resultSet.getString(i);
+            builder.addRow(rowValues);
+        }
+        if(builder.getRowsCount() == 0)
+            reportAndLog(CommonConstants.FailureClassificationErrors.MISSING_DATA,MessageLevel.INFO);
+
+        return builder.build();
+    }
+
     /**
      * Execute the query and report the execution time
      * @param statement Statement object
@@ -0,0 +1,307 @@
+package devToolsUtils;
+
+import drivers.TesnetWebDriver;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v131.network.Network;
+import org.openqa.selenium.devtools.v131.network.model.LoadingFailed;
+import org.openqa.selenium.devtools.v131.network.model.LoadingFinished;
+import org.openqa.selenium.devtools.v131.network.model.MonotonicTime;
+import org.openqa.selenium.devtools.v131.network.model.RequestWillBeSent;
+import org.openqa.selenium.devtools.v131.network.model.ResourceType;
+import org.openqa.selenium.devtools.v131.network.model.ResponseReceived;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import static propertyUtils.PropertyUtils.getGlobalProperty;
+
+/**
+ * Tracks the browser network through DevTools and counts the requests that are in flight.
+ * Use it to wait for the page's XHR/fetch calls to complete instead of waiting for spinners or sleeping.
+ * One tracker is kept per driver and it reuses the driver's DevTools session (see {@link TesnetWebDriver#getDevToolsSession()})
+ * <b>Example</b><br>
+ * <pre>{@code
+ *      NetworkTracker tracker = NetworkTracker.getTracker(driver);
+ *      CompletableFuture<NetworkTracker.RequestTiming> upload = tracker.waitForResponse(url -> url.contains("/upload"));
+ *      uploadButton.click();
+ *      int status = upload.get(30, TimeUnit.SECONDS).getStatusCode();
+ *      tracker.waitForNetworkIdle(Duration.ofMillis(500), Duration.ofSeconds(60));
+ * }</pre>
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class NetworkTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkTracker.class);
+
+    //Long living connections never finish loading, so they are not counted as in flight
+    private static final Set<ResourceType> IGNORED_RESOURCE_TYPES = EnumSet.of(ResourceType.WEBSOCKET, ResourceType.EVENTSOURCE);
+
+    //The completed requests are kept in a ring buffer of this size, so a long session does not keep all of its requests
+    private static final int MAX_COMPLETED_REQUESTS = getMaxCompletedRequests();
+
+    private static final Map<WebDriver, NetworkTracker> trackers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Object lock = new Object();
+    private final Map<String, RequestTiming> inFlightRequests = new ConcurrentHashMap<>();
+    private final ArrayDeque<RequestTiming> completedRequests = new ArrayDeque<>();
+    private final List<PendingResponse> pendingResponses = new CopyOnWriteArrayList<>();
+    private volatile long lastActivityNanos = System.nanoTime();
+
+    private NetworkTracker(DevTools devTools) {
+        devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+        devTools.addListener(Network.requestWillBeSent(), this::onRequestWillBeSent);
+        devTools.addListener(Network.responseReceived(), this::onResponseReceived);
+        devTools.addListener(Network.loadingFinished(), this::onLoadingFinished);
+        devTools.addListener(Network.loadingFailed(), this::onLoadingFailed);
+    }
+
+    /**
+     * Get the network tracker of the driver. The tracker is created and starts listening on the first call
+     * @param driver the driver (must be a TesnetWebDriver of a browser that supports DevTools)
+     * @return the network tracker of the driver
+     * @since 19.10.2026
+     */
+    public static NetworkTracker getTracker(WebDriver driver) {
+        synchronized (trackers) {
+            NetworkTracker tracker = trackers.get(driver);
+            if (tracker == null) {
+                DevTools devTools = ((TesnetWebDriver) driver).getDevToolsSession()
+                        .orElseThrow(() -> new Error("DevTools is not supported for this driver. Network cannot be tracked"));
+                tracker = new NetworkTracker(devTools);
+                trackers.put(driver, tracker);
+            }
+            return tracker;
+        }
+    }
+
+    /**
+     * @return the number of requests that were sent and did not finish or fail yet
+     * @since 19.10.2026
+     */
+    public int getInFlightRequestsCount() {
+        return inFlightRequests.size();
+    }
+
+    /**
+     * @return the timings of the requests that completed since the tracker was created or last reset,
+     * up to the last networkTrackerMaxCompletedRequests (global property) requests
+     * @since 19.10.2026
+     */
+    public List<RequestTiming> getCompletedRequests() {
+        synchronized (completedRequests) {
+            return new ArrayList<>(completedRequests);
+        }
+    }
+
+    /**
+     * Clear the timings of the completed requests
+     * @since 19.10.2026
+     */
+    public void reset() {
+        synchronized (completedRequests) {
+            completedRequests.clear();
+        }
+    }
+
+    /**
+     * Wait until no request is in flight and the network has stayed quiet for the given quiet period
+     * @param quietPeriod the time the network must stay without new requests after the last one completed
+     * @param timeout the maximum time to wait
+     * @throws Error if the network did not become idle before the timeout
+     * @since 19.10.2026
+     */
+    public void waitForNetworkIdle(Duration quietPeriod, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long quietNanos = quietPeriod.toNanos();
+
+        synchronized (lock) {
+            while (true) {
+                long now = System.nanoTime();
+                long quietRemaining = quietNanos - (now - lastActivityNanos);
+                if (inFlightRequests.isEmpty() && quietRemaining <= 0)
+                    return;
+
+                long timeoutRemaining = deadline - now;
+                if (timeoutRemaining <= 0)
+                    throw new Error(String.format("Network was not idle after %d seconds. %d request(s) still in flight: %s",
+                            timeout.getSeconds(), inFlightRequests.size(), getInFlightUrls()));
+
+                long waitNanos = inFlightRequests.isEmpty() ? Math.min(quietRemaining, timeoutRemaining) : timeoutRemaining;
+                try {
+                    lock.wait(Math.max(1, waitNanos / 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new Error("Interrupted while waiting for the network to be idle", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get a future that completes when the next request whose url matches the predicate has finished loading (or failed)
+     * Note: call it before the action that sends the request, so the request is not missed
+     * @param urlPredicate predicate on the request url
+     * @return a future of the timing of the matching request
+     * @since 19.10.2026
+     */
+    public CompletableFuture<RequestTiming> waitForResponse(Predicate<String> urlPredicate) {
+        PendingResponse pendingResponse = new PendingResponse(urlPredicate);
+        pendingResponses.add(pendingResponse);
+        pendingResponse.future.whenComplete((timing, t) -> pendingResponses.remove(pendingResponse));
+        return pendingResponse.future;
+    }
+
+    private String getInFlightUrls() {
+        StringBuilder urls = new StringBuilder();
+        for (RequestTiming timing : inFlightRequests.values()) {
+            if (urls.length() > 0)
+                urls.append(", ");
+            urls.append(timing.getUrl());
+        }
+        return urls.toString();
+    }
+
+    private void onRequestWillBeSent(RequestWillBeSent event) {
+        if (event.getType().isPresent() && IGNORED_RESOURCE_TYPES.contains(event.getType().get()))
+            return;
+
+        RequestTiming timing = new RequestTiming(event.getRequest().getUrl(), event.getRequest().getMethod(),
+                event.getType().map(ResourceType::toString).orElse(""), toMillis(event.getTimestamp()));
+        inFlightRequests.put(event.getRequestId().toString(), timing);
+        signalActivity();
+    }
+
+    private void onResponseReceived(ResponseReceived event) {
+        RequestTiming timing = inFlightRequests.get(event.getRequestId().toString());
+        if (timing != null)
+            timing.statusCode = event.getResponse().getStatus();
+    }
+
+    private void onLoadingFinished(LoadingFinished event) {
+        complete(event.getRequestId().toString(), toMillis(event.getTimestamp()), null);
+    }
+
+    private void onLoadingFailed(LoadingFailed event) {
+        complete(event.getRequestId().toString(), toMillis(event.getTimestamp()), event.getErrorText());
+    }
+
+    private void complete(String requestId, double endTime, String errorText) {
+        RequestTiming timing = inFlightRequests.remove(requestId);
+        if (timing == null)
+            return;
+
+        timing.endTime = endTime;
+        timing.errorText = errorText;
+        synchronized (completedRequests) {
+            if (completedRequests.size() >= MAX_COMPLETED_REQUESTS)
+                completedRequests.pollFirst();
+            completedRequests.addLast(timing);
+        }
+        if (logger.isTraceEnabled())
+            logger.trace(String.format("Request %s %s completed in %.0f ms", timing.getMethod(), timing.getUrl(), timing.getDurationInMillis()));
+
+        for (PendingResponse pendingResponse : pendingResponses) {
+            if (pendingResponse.urlPredicate.test(timing.getUrl()))
+                pendingResponse.future.complete(timing);
+        }
+        signalActivity();
+    }
+
+    private void signalActivity() {
+        synchronized (lock) {
+            lastActivityNanos = System.nanoTime();
+            lock.notifyAll();
+        }
+    }
+
+    private static int getMaxCompletedRequests() {
+        try {
+            return Math.max(1, Integer.parseInt(getGlobalProperty("networkTrackerMaxCompletedRequests").trim()));
+        } catch (Throwable t) {
+            return 1000;
+        }
+    }
+
+    private static double toMillis(MonotonicTime time) {
+        return time.toJson().doubleValue() * 1000;
+    }
+
+    private static class PendingResponse {
+        private final Predicate<String> urlPredicate;
+        private final CompletableFuture<RequestTiming> future = new CompletableFuture<>();
+
+        private PendingResponse(Predicate<String> urlPredicate) {
+            this.urlPredicate = urlPredicate;
+        }
+    }
+
+    /**
+     * Timing and result of a single request
+     */
+    public static class RequestTiming {
+        private final String url;
+        private final String method;
+        private final String resourceType;
+        private final double startTime;
+        private volatile double endTime;
+        private volatile int statusCode;
+        private volatile String errorText;
+
+        private RequestTiming(String url, String method, String resourceType, double startTime) {
+            this.url = url;
+            this.method = method;
+            this.resourceType = resourceType;
+            this.startTime = startTime;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getResourceType() {
+            return resourceType;
+        }
+
+        /**
+         * @return the status code of the response, or 0 if no response was received
+         */
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        /**
+         * @return the error text if the request failed, otherwise null
+         */
+        public String getErrorText() {
+            return errorText;
+        }
+
+        public boolean isFailed() {
+            return errorText != null;
+        }
+
+        /**
+         * @return the time from sending the request until it finished loading, in milliseconds
+         */
+        public double getDurationInMillis() {
+            return endTime - startTime;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s [%d] %.0f ms", method, url, statusCode, getDurationInMillis());
+        }
+    }
+}
@@ -42,9 +42,9 @@ public class NetworkUtils {
 
         Map<String, V> dataToReturn = new HashMap<>();
 
-        //Create devtools session
+        //Get devtools and reuse its session if one is already open
         DevTools devTools = ((HasDevTools) ((TesnetWebDriver)driver).getWrappedDriver()).getDevTools();
-        devTools.createSession();
+        devTools.createSessionIfThereIsNotOne();
 
         devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
 
@@ -0,0 +1,178 @@
+package drivers;
+
+import org.openqa.selenium.*;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Element returned by the {@link ElementCache}.
+ * It remembers how it was located, so when an action fails with StaleElementReferenceException it re-locates itself
+ * and runs the action once more. For the same reason it does not check staleness up front (no getTagName round trip).
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class CachedWebElement extends TesnetWebElement {
+
+    private final ElementCache cache;
+    private final SearchContext rawSearchContext;
+    private final By by;
+    private final SearchContext childrenSearchContext;
+
+    CachedWebElement(WebDriver driver, WebElement element, ElementCache cache, SearchContext rawSearchContext, By by) {
+        super(driver, element);
+        this.cache = cache;
+        this.rawSearchContext = rawSearchContext;
+        this.by = by;
+
+        //Children are located under this element, re-locating it first if it is stale
+        this.childrenSearchContext = new SearchContext() {
+            @Override
+            public WebElement findElement(By childBy) {
+                return withRelocation(() -> localElement.findElement(childBy));
+            }
+
+            @Override
+            public List<WebElement> findElements(By childBy) {
+                return withRelocation(() -> localElement.findElements(childBy));
+            }
+        };
+    }
+
+    /**
+     * @return the locator the element was found by
+     */
+    public By getLocator() {
+        return by;
+    }
+
+    /**
+     * Locate the element again with its locator
+     */
+    private void relocate() {
+        localElement = rawSearchContext.findElement(by);
+        elementAbsoluteXpath = null;
+        cache.onRelocation(by);
+    }
+
+    private <T> T withRelocation(Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (StaleElementReferenceException e) {
+            relocate();
+            return action.get();
+        }
+    }
+
+    private void withRelocation(Runnable action) {
+        try {
+            action.run();
+        } catch (StaleElementReferenceException e) {
+            relocate();
+            action.run();
+        }
+    }
+
+    /**
+     * @return the local element. Unlike TesnetWebElement, staleness is not checked here - a stale element is re-located when it is used
+     */
+    @Override
+    public WebElement getLocalElement() {
+        return localElement;
+    }
+
+    @Override
+    public WebElement findElement(By childBy) {
+        return cache.findElement(this, childrenSearchContext, childBy);
+    }
+
+    @Override
+    public List<WebElement> findElements(By childBy) {
+        return withRelocation(() -> super.findElements(childBy));
+    }
+
+    @Override
+    public void click() {
+        withRelocation(super::click);
+    }
+
+    @Override
+    public void submit() {
+        withRelocation(super::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        withRelocation(() -> super.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        withRelocation(super::clear);
+    }
+
+    @Override
+    public String getTagName() {
+        return withRelocation(super::getTagName);
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return withRelocation(() -> super.getAttribute(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return withRelocation(() -> super.getDomAttribute(name));
+    }
+
+    @Override
+    public boolean isSelected() {
+        return withRelocation(super::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return withRelocation(super::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return withRelocation(super::getText);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return withRelocation(super::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return withRelocation(super::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return withRelocation(super::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return withRelocation(super::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return withRelocation(() -> super.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        return withRelocation(() -> super.getScreenshotAs(target));
+    }
+
+    @Override
+    public String toString() {
+        return "Cached element [" + by + "] " + localElement;
+    }
+}
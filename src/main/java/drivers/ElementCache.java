@@ -0,0 +1,121 @@
+package drivers;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per page cache of located elements, keyed by the locator and the search context (the driver or a parent element).<br>
+ * A repeated findElement of the same locator returns the cached element without a round trip to the browser.
+ * A cached element that became stale re-locates itself with its locator and retries the action (see {@link CachedWebElement}).<br>
+ * The cache is cleared on navigation, window switch and frame switch. After actions that re-render parts of the page
+ * call {@link TesnetWebDriver#invalidateElementCache()}.<br>
+ * Only findElement is cached - findElements results may change in size and are used by waits, so they always go to the browser.
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class ElementCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElementCache.class);
+
+    private final WebDriver driver;
+    private final Map<CacheKey, CachedWebElement> elements = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong relocations = new AtomicLong();
+
+    /**
+     * @param driver the driver the cached elements belong to
+     */
+    ElementCache(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Get the cached element or locate it
+     * @param context the search context the element is searched in, used as part of the key
+     * @param rawSearchContext the search context to locate the element with, on a cache miss or when the element is stale
+     * @param by the locator
+     * @return the cached element
+     */
+    WebElement findElement(Object context, SearchContext rawSearchContext, By by) {
+        CacheKey key = new CacheKey(context, by);
+        CachedWebElement element = elements.get(key);
+        if (element != null) {
+            hits.incrementAndGet();
+            return element;
+        }
+
+        misses.incrementAndGet();
+        element = new CachedWebElement(driver, rawSearchContext.findElement(by), this, rawSearchContext, by);
+        elements.put(key, element);
+        return element;
+    }
+
+    void onRelocation(By by) {
+        relocations.incrementAndGet();
+        logger.debug("Cached element was stale and was re-located: " + by);
+    }
+
+    /**
+     * Clear all the cached elements
+     */
+    public void invalidate() {
+        if (!elements.isEmpty()) {
+            logger.trace("Element cache invalidated. " + this);
+            elements.clear();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getRelocations() {
+        return relocations.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Element cache: %d elements, %d hits, %d misses, %d relocations", elements.size(), hits.get(), misses.get(), relocations.get());
+    }
+
+    /**
+     * Key of a cached element. The context is compared by identity, the locator by value
+     */
+    private static class CacheKey {
+        private final Object context;
+        private final By by;
+
+        private CacheKey(Object context, By by) {
+            this.context = context;
+            this.by = by;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof CacheKey))
+                return false;
+            CacheKey other = (CacheKey) o;
+            return context == other.context && by.equals(other.by);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(context) + by.hashCode();
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package drivers;
 
 import Managers.ReportInstanceManager;
+import Managers.WebDriverInstanceManager;
 import Store.StoreManager;
 import Store.StoreType;
 import com.relevantcodes.extentreports.LogStatus;
 import enumerations.MessageLevel;
 import listeners.WebDriverActionLogger;
 import listeners.WebDriverActionReporter;
+import listeners.WebDriverLockListener;
 import listeners.WebDriverPerformanceLogger;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.*;
@@ -33,6 +35,7 @@ import reportUtils.Report;
 import java.net.URL;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * TesnetWebDriver implements not only WebDriver interface but also TakesScreenshot, JavascriptExecutor and others,
@@ -51,6 +54,10 @@ public class TesnetWebDriver
 
     protected WebDriver driver;
     private static final Logger logger =LoggerFactory.getLogger(TesnetWebDriver.class);
+    //Held for the duration of every command, see WebDriverLockListener
+    private final ReentrantLock driverLock = new ReentrantLock();
+    //Opt-in cache of located elements, null when disabled
+    private volatile ElementCache elementCache = null;
 
     /**
      * Constructor adds listeners to instance of WebDriver (wrapped in EventFiringWebDriver instance)
@@ -61,12 +68,12 @@ public class TesnetWebDriver
         //TODO: after moving to Selenium4 with Appium8 we need to check if the listeners support mobile now as well (in Selenium3 they weren't supported for Appium).
         if (options instanceof EdgeOptions){
             logger.trace("add listener to driver -> WebDriverActionLogger");
-            this.driver = new EventFiringDecorator(new WebDriverActionLogger(), new WebDriverActionReporter(), new WebDriverPerformanceLogger()).decorate(new EdgeDriver((EdgeOptions) options));
+            this.driver = new EventFiringDecorator(new WebDriverLockListener(driverLock), new WebDriverActionLogger(), new WebDriverActionReporter(), new WebDriverPerformanceLogger()).decorate(new EdgeDriver((EdgeOptions) options));
         }
 
         if (options instanceof ChromeOptions) {
             logger.trace("add listener to driver -> WebDriverActionLogger");
-            this.driver = new EventFiringDecorator(new WebDriverActionLogger(), new WebDriverActionReporter(), new WebDriverPerformanceLogger()).decorate(new ChromeDriver((ChromeOptions) options));
+            this.driver = new EventFiringDecorator(new WebDriverLockListener(driverLock), new WebDriverActionLogger(), new WebDriverActionReporter(), new WebDriverPerformanceLogger()).decorate(new ChromeDriver((ChromeOptions) options));
         }
     }
     public TesnetWebDriver(RemoteWebDriver remoteWebDriver) {
@@ -75,7 +82,7 @@ public class TesnetWebDriver
                 remoteWebDriver = (RemoteWebDriver) new Augmenter().augment(remoteWebDriver);
             }
 
-            this.driver = new EventFiringDecorator(new WebDriverActionLogger(), new WebDriverActionReporter(), new WebDriverPerformanceLogger()).decorate(remoteWebDriver);
+            this.driver = new EventFiringDecorator(new WebDriverLockListener(driverLock), new WebDriverActionLogger(), new WebDriverActionReporter(), new WebDriverPerformanceLogger()).decorate(remoteWebDriver);
         }
 
     public Optional<DevTools> getDevTools() {
@@ -89,6 +96,67 @@ public class TesnetWebDriver
         }
     }
 
+    /**
+     * Get the DevTools of the browser with an open session.
+     * The session is created on the first call and reused by all the following calls, so listeners
+     * that were added by previous callers keep working
+     * @return the DevTools with an open session, or an empty Optional if DevTools is not supported for this driver
+     * @since 19.10.2026
+     */
+    public Optional<DevTools> getDevToolsSession() {
+        Optional<DevTools> devTools = getDevTools();
+        devTools.ifPresent(DevTools::createSessionIfThereIsNotOne);
+        return devTools;
+    }
+
+    /**
+     * Get the lock that is held while a driver command runs.
+     * Code that uses the driver from another thread should hold this lock, so it does not interleave with the test's commands
+     * @return the driver lock
+     * @since 19.10.2026
+     */
+    public ReentrantLock getDriverLock() {
+        return driverLock;
+    }
+
+    /**
+     * Enable the element cache: repeated findElement calls with the same locator return the cached element
+     * without a round trip to the browser. Stale cached elements re-locate themselves.
+     * See {@link ElementCache} for when the cache is cleared
+     * @since 19.10.2026
+     */
+    public void enableElementCache() {
+        if (elementCache == null)
+            elementCache = new ElementCache(this);
+    }
+
+    /**
+     * Disable the element cache and clear it
+     * @since 19.10.2026
+     */
+    public void disableElementCache() {
+        invalidateElementCache();
+        elementCache = null;
+    }
+
+    /**
+     * @return the element cache, or null if it is not enabled
+     * @since 19.10.2026
+     */
+    public ElementCache getElementCache() {
+        return elementCache;
+    }
+
+    /**
+     * Clear the element cache, if enabled. Call it after actions that re-render parts of the page
+     * @since 19.10.2026
+     */
+    public void invalidateElementCache() {
+        ElementCache cache = elementCache;
+        if (cache != null)
+            cache.invalidate();
+    }
+
     public WebDriver getOriginalDriver() {
         WebDriver currentDriver = this.driver;
         Report.reportAndLog("This driver: "+this.driver, MessageLevel.INFO);
@@ -113,6 +181,7 @@ public class TesnetWebDriver
     @Override
     public void get(String url) {
         logger.trace("Driver using: get URL -> " + url);
+        invalidateElementCache();
         driver.get(url);
     }
 
@@ -156,17 +225,14 @@ public class TesnetWebDriver
      */
     @Override
     public List<WebElement> findElements(By by) {
-        logger.trace("Driver using: find elements -> " + by.toString());
+        if (logger.isTraceEnabled())
+            logger.trace("Driver using: find elements -> " + by.toString());
         List<WebElement> elements = driver.findElements(by);
-        logger.trace("driver using : findElements " + elements.toString() + " By = " + by + " elements = " + Arrays.toString(elements.toArray()));
-        List<WebElement> newElements = new ArrayList<>();
+        if (logger.isTraceEnabled())
+            logger.trace("driver using : findElements By = " + by + " elements = " + elements);
 
-        for (WebElement e: elements) {
-            TesnetWebElement el = new TesnetWebElement(e);
-            newElements.add(el);
-        }
-
-        return newElements;
+        //Elements are wrapped on access, lists of thousands of nodes are usually only counted or partially read
+        return new TesnetWebElementList(WebDriverInstanceManager.getDriverFromMap(), elements);
     }
 
     /**
@@ -187,6 +253,10 @@ public class TesnetWebDriver
     @Override
     public WebElement findElement(By by) {
         logger.trace("Driver using: find element -> " + by.toString());
+        ElementCache cache = elementCache;
+        if (cache != null)
+            return cache.findElement(this, driver, by);
+
         WebElement e = driver.findElement(by);
         return new TesnetWebElement(e);
     }
@@ -296,6 +366,7 @@ public class TesnetWebDriver
     @Override
     public void close() {
         logger.debug("Driver: Close");
+        invalidateElementCache();
         if(driver != null)
             driver.close();
     }
@@ -306,6 +377,7 @@ public class TesnetWebDriver
     @Override
     public void quit() {
         logger.debug("Driver using: quit -> " + " BrowserName : " + this.getCapabilities().getBrowserName());
+        invalidateElementCache();
         if(driver != null)
             driver.quit();
     }
@@ -735,6 +807,7 @@ public class TesnetWebDriver
         @Override
         public void back() {
             String back = "Driver using: Navigation -> back From : " + getCurrentUrl() + " ";
+            invalidateElementCache();
             driver.navigate().back();
             back += "To : " + getCurrentUrl();
             logger.trace(back);
@@ -743,6 +816,7 @@ public class TesnetWebDriver
         @Override
         public void forward() {
             String forward = "Driver using: Navigation -> forward From : " + getCurrentUrl() + " ";
+            invalidateElementCache();
             driver.navigate().forward();
             forward += "To : " + getCurrentUrl();
             logger.trace(forward);
@@ -751,18 +825,21 @@ public class TesnetWebDriver
         @Override
         public void to(String url) {
             logger.trace("Driver using: Navigation -> to url -> " + url);
+            invalidateElementCache();
             driver.navigate().to(url);
         }
         //TODO:Add Javadoc
         @Override
         public void to(URL url) {
             logger.trace("Driver using: Navigation -> to -> " + String.valueOf(url));
+            invalidateElementCache();
             driver.navigate().to(url);
         }
         //TODO:Add Javadoc
         @Override
         public void refresh() {
             logger.trace("Driver using: Navigation -> refresh URL: " + getCurrentUrl());
+            invalidateElementCache();
             driver.navigate().refresh();
         }
     }
@@ -772,30 +849,35 @@ public class TesnetWebDriver
         @Override
         public WebDriver frame(int index) {
             logger.trace("Driver using: switchTo -> frame -> frameIndex : " + index);
+            invalidateElementCache();
             return driver.switchTo().frame(index);
         }
         //TODO:Add Javadoc
         @Override
         public WebDriver frame(String nameOrId) {
             logger.trace("Driver using: switchTo -> frame -> frameName : " + nameOrId);
+            invalidateElementCache();
             return driver.switchTo().frame(nameOrId);
         }
         //TODO:Add Javadoc
         @Override
         public WebDriver frame(WebElement frameElement) {
             logger.trace("Driver using: switchTo -> frame -> frameElement : " + frameElement.toString());
+            invalidateElementCache();
             return driver.switchTo().frame(frameElement);
         }
         //TODO:Add Javadoc
         @Override
         public WebDriver parentFrame() {
             logger.trace("Driver using: switchTo -> parentFrame");
+            invalidateElementCache();
             return driver.switchTo().parentFrame();
         }
         //TODO:Add Javadoc
         @Override
         public WebDriver window(String nameOrHandle) {
             logger.trace("Driver using: switchTo -> window " + nameOrHandle);
+            invalidateElementCache();
             driver = driver.switchTo().window(nameOrHandle);
             if (ReportInstanceManager.getCurrentTestReport() != null)
                 ReportInstanceManager.getCurrentTestReport().log(LogStatus.INFO, "Switched to window" + nameOrHandle);
@@ -815,6 +897,7 @@ public class TesnetWebDriver
         @Override
         public WebDriver newWindow(WindowType typeHint) {
             logger.trace("Driver using: switchTo -> new window " + typeHint);
+            invalidateElementCache();
             driver = driver.switchTo().newWindow(typeHint);
             if (ReportInstanceManager.getCurrentTestReport() != null)
                 ReportInstanceManager.getCurrentTestReport().log(LogStatus.INFO, "Switched to  new window " + typeHint);
@@ -825,6 +908,7 @@ public class TesnetWebDriver
         @Override
         public WebDriver defaultContent() {
             logger.trace("Driver using: switchTo -> defaultContent");
+            invalidateElementCache();
             return driver.switchTo().defaultContent();
         }
         //TODO:Add Javadoc
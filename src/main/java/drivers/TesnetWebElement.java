@@ -1,8 +1,7 @@
 package drivers;
 
 import Managers.WebDriverInstanceManager;
-import dateTimeUtils.DateUtils;
-import org.apache.commons.io.FileUtils;
+import imageUtils.ScreenCaptureUtils;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Coordinates;
 import org.openqa.selenium.interactions.Locatable;
@@ -11,8 +10,6 @@ import org.slf4j.LoggerFactory;
 import seleniumUtils.ElementWrapper;
 
 import javax.annotation.Nullable;
-import java.io.File;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -57,11 +54,23 @@ public class TesnetWebElement implements WebElement, Locatable,WrapsElement {
     }
 
     private int getTimeout(){
-        try{
-            return Integer.parseInt(getGlobalProperty("timeout"));
-        }
-        catch (Throwable t){
-            return 5;
+        return TimeoutConfig.TIMEOUT;
+    }
+
+    /**
+     * The timeout from the global properties, read once and shared by all elements
+     * (reading it per element loaded the properties file for every element that was found)
+     */
+    private static final class TimeoutConfig {
+        private static final int TIMEOUT = readTimeout();
+
+        private static int readTimeout(){
+            try{
+                return Integer.parseInt(getGlobalProperty("timeout"));
+            }
+            catch (Throwable t){
+                return 5;
+            }
         }
     }
 
@@ -383,13 +392,9 @@ public class TesnetWebElement implements WebElement, Locatable,WrapsElement {
         logger.debug("element using : findElements");
         this.localElement = getLocalElement();
         List<WebElement> elements = this.localElement.findElements(by);
-        logger.debug("element using : findElements " + localElement.toString() + " By = " + by.toString() + " elements = " + Arrays.toString(elements.toArray()));
-        List<WebElement> newElements = new ArrayList<>();
-        for (WebElement e: elements) {
-            TesnetWebElement el = new TesnetWebElement(e);
-            newElements.add(el);
-        }
-        return newElements;
+        if (logger.isDebugEnabled())
+            logger.debug("element using : findElements " + localElement.toString() + " By = " + by.toString() + " elements = " + elements);
+        return new TesnetWebElementList(WebDriverInstanceManager.getDriverFromMap(), elements);
     }
 
     /**
@@ -595,28 +600,7 @@ public class TesnetWebElement implements WebElement, Locatable,WrapsElement {
      */
     public String takeElementScreenShot(WebDriver driver, @Nullable String elementName)
     {
-        String screenShotPath;
-
-        try
-        {
-            screenShotPath = "images" + File.separator +  DateUtils.getUniqueTimestamp() +".png" ;
-
-            //Capture the element screenshot
-            File screenshot = localElement.getScreenshotAs(OutputType.FILE);
-
-            FileUtils.copyFile(screenshot, new File("report" + File.separator + screenShotPath));
-            logger.info(screenShotPath);
-        }
-
-        //if invalid session id exception exists - take driver from map
-        catch (Exception exc) {
-            if(elementName == null)
-                throw new Error(String.format("Error taking the element's screenshot<br>Error: %s", exc.getMessage()));
-            else
-                throw new Error(String.format("Error taking a screenshot or element '%s'<br>Error: %s", elementName, exc.getMessage()));
-        }
-
-        return screenShotPath;
+        return ScreenCaptureUtils.takeElementScreenShot(driver, localElement, elementName);
     }
 
     /**
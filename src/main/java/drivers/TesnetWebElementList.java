@@ -0,0 +1,79 @@
+package drivers;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List of the elements returned by findElements that wraps each element in a {@link TesnetWebElement} only when it is accessed.
+ * Code that checks the size of the list or reads a few of its elements does not pay for wrapping all of them.
+ * The list is mutable: the first modification copies the wrapped elements to a regular list.
+ * @since 19.10.2026
+ */
+public class TesnetWebElementList extends AbstractList<WebElement> implements RandomAccess {
+
+    private final WebDriver driver;
+    private final List<WebElement> elements;
+    private final WebElement[] wrappedElements;
+    private List<WebElement> modifiedElements = null;
+
+    /**
+     * @param driver the driver the elements belong to
+     * @param elements the elements returned by the driver
+     */
+    public TesnetWebElementList(WebDriver driver, List<WebElement> elements) {
+        this.driver = driver;
+        this.elements = elements;
+        this.wrappedElements = new WebElement[elements.size()];
+    }
+
+    @Override
+    public WebElement get(int index) {
+        if (modifiedElements != null)
+            return modifiedElements.get(index);
+
+        WebElement wrappedElement = wrappedElements[index];
+        if (wrappedElement == null) {
+            wrappedElement = new TesnetWebElement(driver, elements.get(index));
+            wrappedElements[index] = wrappedElement;
+        }
+        return wrappedElement;
+    }
+
+    @Override
+    public int size() {
+        return modifiedElements != null ? modifiedElements.size() : wrappedElements.length;
+    }
+
+    @Override
+    public WebElement set(int index, WebElement element) {
+        return getModifiableElements().set(index, element);
+    }
+
+    @Override
+    public void add(int index, WebElement element) {
+        getModifiableElements().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public WebElement remove(int index) {
+        WebElement removed = getModifiableElements().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    private List<WebElement> getModifiableElements() {
+        if (modifiedElements == null) {
+            List<WebElement> copy = new ArrayList<>(wrappedElements.length);
+            for (int i = 0; i < wrappedElements.length; i++)
+                copy.add(get(i));
+            modifiedElements = copy;
+        }
+        return modifiedElements;
+    }
+}
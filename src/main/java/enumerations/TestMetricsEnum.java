@@ -4,5 +4,5 @@ package enumerations;
  * Enum for test metrics used by the Elastic Metric Report
  */
 public enum TestMetricsEnum {
-    TOTAL_TESTS_ON_PLAN,TEST_START_TIME,TEST_END_TIME,REPORT_STATUS, TEST_REPORT_EXCEPTION,WARNING_EXISTS,WARNING_MESSAGE
+    TOTAL_TESTS_ON_PLAN,TEST_START_TIME,TEST_END_TIME,REPORT_STATUS, TEST_REPORT_EXCEPTION,WARNING_EXISTS,WARNING_MESSAGE,RETRY_STATISTICS,COMMAND_LATENCY_STATISTICS,PERFORMANCE_STATISTICS
 }
@@ -12,12 +12,16 @@ import dateTimeUtils.DateTime;
 import dateTimeUtils.DateUtils;
 import enumerations.TestFailureReasonEnum;
 import io.github.artsok.RepeatedIfExceptionsTest;
+import listeners.CommandLatencyStatistics;
 import metricsReport.MetricReport;
+import metricsReport.MetricsStreamExporter;
+import metricsReport.PerformanceTimer;
 import metricsReport.TestMetric;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import waitUtils.RetryStatistics;
 
 import java.io.File;
 import java.lang.annotation.Annotation;
@@ -80,6 +84,7 @@ public class ElasticMetricsReportExtension implements TestWatcher,AfterTestExecu
             TestMetric testMetric = populateMetrics(context);
             testMetric.setTestResult(TestResultStatus.DISABLED.toString());
             metricReport.addTest(testMetric);
+            MetricsStreamExporter.getExporter().export(testMetric);
 
         } catch (Exception e) {
             logger.info("Failed to add Disabled Test to ELK report");
@@ -96,6 +101,7 @@ public class ElasticMetricsReportExtension implements TestWatcher,AfterTestExecu
         MetricReport metricReport = MetricReport.getReport();
         TestMetric testMetric = metricReport.getTest(context.getUniqueId());
         testMetric.setTestResult(TestResultStatus.SUCCESSFUL.toString());
+        MetricsStreamExporter.getExporter().export(testMetric);
     }
 
     /**
@@ -114,11 +120,13 @@ public class ElasticMetricsReportExtension implements TestWatcher,AfterTestExecu
             int currAttempts = testRepeatCounter.get(context.getRequiredTestMethod().getName());
             RepeatedIfExceptionsTest n = context.getTestMethod().get().getAnnotation(RepeatedIfExceptionsTest.class);
             if ((currAttempts-1)==n.repeats()) {
+                MetricsStreamExporter.getExporter().export(testMetric);
                 return;
             }
             metricReport.removeTest(testMetric);
-
+            return;
         }
+        MetricsStreamExporter.getExporter().export(testMetric);
 
 
 
@@ -145,6 +153,7 @@ public class ElasticMetricsReportExtension implements TestWatcher,AfterTestExecu
         }
         testMetric.setTestResult(TestResultStatus.FAILED.toString());
         setFailureCategorization(testMetric);
+        MetricsStreamExporter.getExporter().export(testMetric);
     }
 
     /**
@@ -183,6 +192,10 @@ public class ElasticMetricsReportExtension implements TestWatcher,AfterTestExecu
     public void beforeEach(ExtensionContext extensionContext)  {
         //test start time
         StoreManager.getStore(StoreType.LOCAL_THREAD).putValueInStore(TEST_START_TIME,System.currentTimeMillis());
+        //retries are counted per test
+        RetryStatistics.resetCurrentTestStatistics();
+        CommandLatencyStatistics.resetCurrentTestStatistics();
+        PerformanceTimer.resetCurrentTestTimer();
 
         //if repeated test then increment by 1 num of attempts
         if (repeatTagExists(extensionContext) && testRepeatCounter.get(extensionContext.getRequiredTestMethod().getName()) != null) {
@@ -310,6 +323,20 @@ public class ElasticMetricsReportExtension implements TestWatcher,AfterTestExecu
         File file = new File(projectPath);
         String projectName = file.getName();
         testMetric.setProject(projectName);
+        //retries that took place during the test
+        RetryStatistics retryStatistics = StoreManager.getStore(StoreType.LOCAL_THREAD).getValueFromStore(RETRY_STATISTICS);
+        if (retryStatistics != null) {
+            testMetric.setRetryCount(retryStatistics.getRetries());
+            testMetric.setRetryTimeLost(retryStatistics.getTimeLostInMillis());
+        }
+        CommandLatencyStatistics commandLatencyStatistics = StoreManager.getStore(StoreType.LOCAL_THREAD).getValueFromStore(COMMAND_LATENCY_STATISTICS);
+        if (commandLatencyStatistics != null) {
+            testMetric.setCommandLatencies(commandLatencyStatistics.getSummaries());
+            testMetric.setSlowCommandCount(commandLatencyStatistics.getSlowCommands());
+        }
+        PerformanceTimer performanceTimer = StoreManager.getStore(StoreType.LOCAL_THREAD).getValueFromStore(PERFORMANCE_STATISTICS);
+        if (performanceTimer != null)
+            testMetric.setPerformanceTimings(performanceTimer.getSummaries());
         testMetric.setReportStatus(StoreManager.getStore(StoreType.LOCAL_THREAD).getValueFromStore(REPORT_STATUS));
         testMetric.setTestReportException(StoreManager.getStore(StoreType.LOCAL_THREAD).getValueFromStore(TEST_REPORT_EXCEPTION));
         //set download and logs links
@@ -336,7 +363,8 @@ public class ElasticMetricsReportExtension implements TestWatcher,AfterTestExecu
             if (!warningMessageExists)
                 testMetric.setEmptyQueryResults(emptyDataQuery);
             //check the report for performance failure
-            Annotation performanceAnnotation = extensionContext.getRequiredTestClass().getAnnotation(Performance.class);
+            Annotation performanceAnnotation = extensionContext.getRequiredTestMethod().isAnnotationPresent(Performance.class) ?
+                    extensionContext.getRequiredTestMethod().getAnnotation(Performance.class) : extensionContext.getRequiredTestClass().getAnnotation(Performance.class);
             if (performanceAnnotation != null){
                 boolean performanceFailure = ReportInstanceManager.getCurrentTestReport().getTest().getLogList().stream().anyMatch(t -> t.getDetails().contains(CommonConstants.FailureClassificationErrors.PERFORMANCE_BASELINE_EXCEEDED));
                 if (!warningMessageExists)
@@ -7,15 +7,18 @@ import Store.StoreType;
 import com.relevantcodes.extentreports.LogStatus;
 import constantsUtils.CommonConstants;
 import customAnnotations.TestDescription;
+import imageUtils.ScreenshotWriter;
 import enumerations.MessageLevel;
 import org.apache.commons.lang3.SystemUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reportUtils.AsyncReportWriter;
 import reportUtils.ExtentReportUtils;
 
 import java.io.File;
+import java.time.Duration;
 
 import static enumerations.TestMetricsEnum.REPORT_STATUS;
 import static enumerations.TestMetricsEnum.TEST_REPORT_EXCEPTION;
@@ -118,23 +121,27 @@ public class JunitReportExtension implements AfterTestExecutionCallback, BeforeE
     }
 
     /**
-     * close the ExtentTest afterEach.
+     * write the queued report messages and close the ExtentTest afterEach.
      * @author - Lior Umflat
      * @since - 24.5.2021
      */
     @Override
     public void afterEach(ExtensionContext extensionContext) {
+        AsyncReportWriter.flushAndReleaseCurrentThread();
         String classDisplayName = extensionContext.getRequiredTestClass().getAnnotation(DisplayName.class).value();
         ExtentReportUtils.endTestReport(ExtentReportInstanceManager.getCurrentExtentReport(classDisplayName));
     }
 
     /**
-     * close the ExtentReport afterAll
+     * write the queued report messages and screenshots and close the ExtentReport afterAll
      * @author - Lior Umflat
      * @since - 24.5.2021
      */
     @Override
     public void afterAll(ExtensionContext extensionContext) {
+        AsyncReportWriter.flushAll();
+        //the report links to the screenshots, they should be written before it is
+        ScreenshotWriter.drain(Duration.ofSeconds(60));
         String classDisplayName = extensionContext.getRequiredTestClass().getAnnotation(DisplayName.class).value();
         ExtentReportUtils.finalizeExtentReport(ExtentReportInstanceManager.getCurrentExtentReport(classDisplayName));
 
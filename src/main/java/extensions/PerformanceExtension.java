@@ -0,0 +1,133 @@
+package extensions;
+
+import AssertionsWithReport.AssertsWithReport;
+import constantsUtils.CommonConstants;
+import customAnnotations.Performance;
+import metricsReport.PerformanceBaseline;
+import metricsReport.PerformanceSummary;
+import metricsReport.PerformanceTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static constantsUtils.CommonConstants.BREAK_ROW;
+
+/**
+ * Extension of {@link Performance} tests, registered by the annotation.<br>
+ * Runs the test method warmup() times without recording, then iterations() times while timing the method and its
+ * {@link PerformanceTimer#step(String, Runnable)} steps. Only the last iteration is the real JUnit invocation -
+ * the other iterations call the method directly, without the before/after each methods and callbacks.
+ * Extra iterations of a test class with @BeforeEach or @AfterEach methods are rejected.<br>
+ * The summaries are added to the test's metric in the Elastic report. With baseline() the timings are compared to the
+ * {@link PerformanceBaseline} and the test fails if the test or one of its steps regressed; the baseline file is saved once per test class.
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class PerformanceExtension implements InvocationInterceptor, AfterAllCallback {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceExtension.class);
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        Performance performance = AnnotationSupport.findAnnotation(invocationContext.getExecutable(), Performance.class)
+                .orElseGet(() -> AnnotationSupport.findAnnotation(extensionContext.getRequiredTestClass(), Performance.class).orElse(null));
+        if (performance == null) {
+            invocation.proceed();
+            return;
+        }
+        if (performance.iterations() < 1 || performance.warmup() < 0)
+            throw new Error(String.format("Invalid @Performance of %s: warmup %d, iterations %d",
+                    invocationContext.getExecutable().getName(), performance.warmup(), performance.iterations()));
+        if (performance.baseline())
+            PerformanceSummary.validatePercentile(performance.percentile());
+        if (performance.baseline() && performance.iterations() < 2)
+            throw new Error(String.format("@Performance of %s compares to the baseline with %d iteration. Set iterations to at least 2 to test the regression significance",
+                    invocationContext.getExecutable().getName(), performance.iterations()));
+        if (performance.warmup() > 0 || performance.iterations() > 1)
+            rejectLifecycleMethods(extensionContext.getRequiredTestClass(), invocationContext.getExecutable());
+
+        PerformanceTimer timer = PerformanceTimer.resetCurrentTestTimer();
+        timer.setRecording(false);
+        for (int i = 0; i < performance.warmup(); i++)
+            invokeDirectly(invocationContext);
+        timer.setRecording(true);
+
+        for (int i = 0; i < performance.iterations() - 1; i++) {
+            long start = System.nanoTime();
+            invokeDirectly(invocationContext);
+            timer.record(PerformanceTimer.TEST, System.nanoTime() - start);
+        }
+        long start = System.nanoTime();
+        invocation.proceed();
+        timer.record(PerformanceTimer.TEST, System.nanoTime() - start);
+
+        summarize(timer, performance, extensionContext);
+    }
+
+    /**
+     * Save the baselines compared by the class's tests
+     */
+    @Override
+    public void afterAll(ExtensionContext extensionContext) {
+        PerformanceBaseline.getBaseline().save();
+    }
+
+    private void summarize(PerformanceTimer timer, Performance performance, ExtensionContext extensionContext) {
+        String testKey = extensionContext.getRequiredTestClass().getName() + "#" + extensionContext.getRequiredTestMethod().getName();
+        List<PerformanceSummary> summaries = new ArrayList<>();
+        List<String> regressions = new ArrayList<>();
+        for (String name : timer.getNames()) {
+            PerformanceSummary summary = timer.summarize(name);
+            String key = name.equals(PerformanceTimer.TEST) ? testKey : testKey + "/" + name;
+            if (performance.baseline() && PerformanceBaseline.getBaseline().compare(key, summary, performance.percentile(), performance.tolerance()))
+                regressions.add(String.format("%s: p%s %.2fms, baseline %.2fms", name, formatPercentile(performance.percentile()),
+                        summary.getPercentileMillis(performance.percentile()), summary.getBaselineMillis()));
+            logger.info(summary.toString());
+            summaries.add(summary);
+        }
+        timer.setSummaries(summaries);
+
+        if (!regressions.isEmpty())
+            AssertsWithReport.assertTrue(false, null, CommonConstants.FailureClassificationErrors.PERFORMANCE_BASELINE_EXCEEDED
+                    + String.format(" (tolerance %.0f%%)", performance.tolerance() * 100) + BREAK_ROW + String.join(BREAK_ROW, regressions));
+    }
+
+    /**
+     * The warmup and extra iterations call the method directly, so before/after each methods would not run between them
+     */
+    private static void rejectLifecycleMethods(Class<?> testClass, Method testMethod) {
+        List<Method> lifecycleMethods = new ArrayList<>(AnnotationSupport.findAnnotatedMethods(testClass, BeforeEach.class, HierarchyTraversalMode.TOP_DOWN));
+        lifecycleMethods.addAll(AnnotationSupport.findAnnotatedMethods(testClass, AfterEach.class, HierarchyTraversalMode.TOP_DOWN));
+        if (!lifecycleMethods.isEmpty())
+            throw new Error(String.format("@Performance of %s has warmup or extra iterations, which do not run the before/after each methods %s. " +
+                            "Move the setup into the test or use warmup 0 and iterations 1",
+                    testMethod.getName(), lifecycleMethods.stream().map(Method::getName).toList()));
+    }
+
+    private static void invokeDirectly(ReflectiveInvocationContext<Method> invocationContext) throws Throwable {
+        Method method = invocationContext.getExecutable();
+        method.setAccessible(true);
+        try {
+            method.invoke(invocationContext.getTarget().orElse(null), invocationContext.getArguments().toArray());
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,74 @@
+package extensions;
+
+import Managers.ReportInstanceManager;
+import Managers.WebDriverInstanceManager;
+import Store.StoreManager;
+import Store.StoreType;
+import com.relevantcodes.extentreports.LogStatus;
+import listeners.RingBufferRecorder;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+
+import static propertyUtils.PropertyUtils.getGlobalProperty;
+
+/**
+ * Records the test into an in-memory ring buffer of its last frames and saves the video only if the test failed
+ * (see {@link RingBufferRecorder}). A lighter alternative to {@link ScreenRecorderExtension} - passing tests write nothing to disk.<br>
+ * The number of kept frames is videoRingBufferFrames in the global properties.
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class RingBufferRecorderExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final Logger logger = LoggerFactory.getLogger(RingBufferRecorderExtension.class);
+    private static final String RECORDER_KEY = "ringBufferRecorder";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext extensionContext) {
+        RingBufferRecorder recorder = RingBufferRecorder.start(WebDriverInstanceManager.getDriverFromMap(), getCapacity());
+        StoreManager.getStore(StoreType.LOCAL_THREAD).putValueInStore(RECORDER_KEY, recorder);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext extensionContext) {
+        RingBufferRecorder recorder = StoreManager.getStore(StoreType.LOCAL_THREAD).getValueFromStore(RECORDER_KEY);
+        if (recorder == null)
+            return;
+        recorder.stop();
+
+        //same as ScreenRecorderExtension - a repeated attempt is not kept
+        boolean failed = extensionContext.getExecutionException().isPresent()
+                && (extensionContext.getExecutionException().get().getMessage() == null
+                || !extensionContext.getExecutionException().get().getMessage().contains("repeat"));
+        if (!failed) {
+            recorder.discard();
+            return;
+        }
+
+        try {
+            File video = recorder.save(extensionContext.getRequiredTestMethod().getName());
+            if (video == null) {
+                logger.info("No frames were recorded");
+                return;
+            }
+            String lineToReport = String.format("<a href='%s'>Link to recording</a>", video.getAbsolutePath());
+            if (ReportInstanceManager.getCurrentTestReport() != null)
+                ReportInstanceManager.getCurrentTestReport().log(LogStatus.FAIL, lineToReport);
+        } catch (Exception e) {
+            logger.error("Failed to save the recording: " + e.getMessage());
+        }
+    }
+
+    private static int getCapacity() {
+        try {
+            return Integer.parseInt(getGlobalProperty("videoRingBufferFrames").trim());
+        } catch (Throwable t) {
+            return 300;
+        }
+    }
+}
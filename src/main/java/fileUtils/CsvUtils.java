@@ -13,6 +13,7 @@ import org.apache.commons.csv.CSVRecord;
 import org.apache.commons.io.input.BOMInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tableUtils.DataSet;
 
 import java.io.*;
 import java.net.URL;
@@ -175,6 +176,38 @@ public class CsvUtils {
         return allRows;
     }
 
+    /**
+     * Read a CSV file as a columnar DataSet. The first line is the header.
+     * The lines are encoded into the DataSet's columns as they are read, without keeping the lines or a map per line.
+     * A value missing at the end of a short line is null
+     * @param filePath the path of the file to read
+     * @return the file as a DataSet
+     * @since 19.10.2026
+     */
+    public static DataSet readAsDataSet(String filePath) {
+
+        try (CSVReader reader = new CSVReader(Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8))) {
+
+            String[] header = reader.readNext();
+            if (header == null)
+                return DataSet.builder().build();
+
+            List<String> columnNames = new ArrayList<>(header.length);
+            for (String column : header)
+                columnNames.add(removeByteOrderMark(column));
+
+            DataSet.Builder builder = DataSet.builder(columnNames);
+            String[] line;
+            while ((line = reader.readNext()) != null)
+                builder.addRow((Object[]) line);
+
+            return builder.build();
+        }
+        catch (IOException | CsvValidationException e) {
+            throw new RuntimeException("Failed to read CSV file %s: %s".formatted(filePath, e.getMessage()));
+        }
+    }
+
     /**
      * Return all lines of text from CSV file as a list of hashmaps
      * @return all lines of text from CSV file as a list of hashmaps
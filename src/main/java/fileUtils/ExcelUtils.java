@@ -20,6 +20,7 @@ import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reportUtils.Report;
+import tableUtils.DataSet;
 
 import javax.annotation.Nullable;
 import java.io.*;
@@ -1557,6 +1558,49 @@ public class ExcelUtils {
         return (L)dataList;
     }
 
+    /**
+     * Read an Excel sheet as a columnar DataSet. The first row is the header.
+     * The values are the cells' text, like readExcel, and an empty cell is null
+     * @param filePath file path
+     * @param sheetIndexOrName the sheet index or name. index starts at 0
+     * @return the sheet as a DataSet
+     * @since 19.10.2026
+     */
+    public static <S> DataSet readExcelAsDataSet(String filePath, S sheetIndexOrName) {
+
+        try (FileInputStream fileInputStream = new FileInputStream(filePath);
+             Workbook workbook = new XSSFWorkbook(fileInputStream)) {
+
+            //Get the sheet
+            Sheet sheet = getSheetObject(workbook, sheetIndexOrName);
+
+            Row headerRow = sheet.getRow(0);            //header row
+            int numColumns = headerRow.getLastCellNum();  //number of cells
+
+            List<String> headers = new ArrayList<>(numColumns);
+            for (int j = 0; j < numColumns; j++) {
+                Cell headerCell = headerRow.getCell(j);
+                headers.add(headerCell == null ? EMPTY_STRING : headerCell.getStringCellValue());
+            }
+
+            DataSet.Builder builder = DataSet.builder(headers);
+            Object[] rowValues = new Object[numColumns];
+
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                for (int j = 0; j < numColumns; j++) {
+                    Cell cell = row == null ? null : row.getCell(j);
+                    rowValues[j] = cell == null || cell.getCellType() == CellType.BLANK ? null : cell.toString();
+                }
+                builder.addRow(rowValues);
+            }
+            return builder.build();
+        }
+        catch (IOException e) {
+            throw new Error(String.format("Failed to read Excel file %s<br>Error: %s", filePath, e.getMessage()));
+        }
+    }
+
     /**
      * Read selected columns and rows from Excel file as a list of hashmaps
      * @param filePath file path
@@ -0,0 +1,462 @@
+package imageUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static propertyUtils.PropertyUtils.getGlobalProperty;
+
+/**
+ * Image comparison with a perceptual hash first pass and a parallel tiled pixel diff.<br>
+ * The images are first compared by their difference hash (dHash, 64 bits). If the hash distance is within the threshold
+ * the images are reported equal without comparing their pixels. Otherwise the pixels are compared tile by tile on the common
+ * fork-join pool, reading the raster int data directly, including the alpha channel, and the differing regions are reported.<br>
+ * Baselines read from disk are decoded once and cached until the file changes. The cache keeps the most recently used baselines
+ * up to imageBaselineCacheSizeMB of decoded pixels (global properties).<br>
+ * <b>Example</b><br>
+ * <pre>{@code
+ *      ImageComparisonResult result = new ImageComparator()
+ *              .setPixelTolerance(8)
+ *              .addIgnoreRegion(new Rectangle(0, 0, 200, 40))
+ *              .compare(actualImage, "src/test/resources/baselines/logo.png");
+ * }</pre>
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class ImageComparator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageComparator.class);
+
+    private static final long BASELINE_CACHE_MAX_BYTES = readCacheSizeMB() * 1024 * 1024;
+    //In access order, the least recently used baseline is evicted first
+    private static final LinkedHashMap<String, Baseline> baselineCache = new LinkedHashMap<>(16, 0.75f, true);
+    private static long baselineCacheBytes = 0;
+
+    private int hashThreshold = 0;
+    private int pixelTolerance = 0;
+    private int tileSize = 64;
+    private final List<Rectangle> ignoreRegions = new ArrayList<>();
+
+    /**
+     * @param hashThreshold the hash distance (0-64) up to which images are reported equal without comparing their pixels.
+     *                      Images further apart are compared by their pixels, which decide if they differ and where.
+     *                      The default 0 only skips the pixels of images with identical hashes - the hash is coarse (8x8 brightness gradients),
+     *                      so a small change that does not flip a gradient, e.g. a different text or icon color, is not detected.
+     *                      A negative threshold skips the hash pass and always compares the pixels, use it to detect every pixel change
+     */
+    public ImageComparator setHashThreshold(int hashThreshold) {
+        this.hashThreshold = hashThreshold;
+        return this;
+    }
+
+    /**
+     * @param pixelTolerance the maximum difference of a color or alpha channel (0-255) of pixels that are considered equal. Default 0
+     */
+    public ImageComparator setPixelTolerance(int pixelTolerance) {
+        this.pixelTolerance = pixelTolerance;
+        return this;
+    }
+
+    /**
+     * @param tileSize the size of the square tiles the pixel diff is split to. Default 64
+     */
+    public ImageComparator setTileSize(int tileSize) {
+        if (tileSize < 8)
+            throw new IllegalArgumentException("Tile size must be at least 8");
+        this.tileSize = tileSize;
+        return this;
+    }
+
+    /**
+     * @param region an area to ignore in both images, in pixels
+     */
+    public ImageComparator addIgnoreRegion(Rectangle region) {
+        ignoreRegions.add(new Rectangle(region));
+        return this;
+    }
+
+    /**
+     * Compare an image to a baseline file. The decoded baseline is cached until the file changes
+     * @param actual the actual image
+     * @param baselinePath the path of the expected image
+     * @return the comparison result
+     */
+    public ImageComparisonResult compare(BufferedImage actual, String baselinePath) {
+        return compare(new Pixels(actual), getBaseline(baselinePath));
+    }
+
+    /**
+     * Compare two images
+     * @param actual the actual image
+     * @param expected the expected image
+     * @return the comparison result
+     */
+    public ImageComparisonResult compare(BufferedImage actual, BufferedImage expected) {
+        Pixels expectedPixels = new Pixels(expected);
+        return compare(new Pixels(actual), new Baseline(expectedPixels, 0, 0));
+    }
+
+    /**
+     * Remove all the cached baselines
+     */
+    public static void clearBaselineCache() {
+        synchronized (baselineCache) {
+            baselineCache.clear();
+            baselineCacheBytes = 0;
+        }
+    }
+
+    private ImageComparisonResult compare(Pixels actual, Baseline baseline) {
+        Pixels expected = baseline.pixels;
+        if (actual.width != expected.width || actual.height != expected.height) {
+            logger.debug(String.format("Image sizes differ: %dx%d / %dx%d", actual.width, actual.height, expected.width, expected.height));
+            Rectangle all = new Rectangle(0, 0, Math.max(actual.width, expected.width), Math.max(actual.height, expected.height));
+            return new ImageComparisonResult(true, 0, -1, (long) all.width * all.height, false, List.of(all));
+        }
+
+        boolean[] ignored = getIgnoredMask(actual.width, actual.height);
+        int hashDistance = -1;
+        if (hashThreshold >= 0) {
+            long expectedHash = ignored == null ? baseline.getHash() : differenceHash(expected, ignored);
+            hashDistance = Long.bitCount(differenceHash(actual, ignored) ^ expectedHash);
+            //the images look alike, their pixels are not compared
+            if (hashDistance <= hashThreshold)
+                return new ImageComparisonResult(false, 1 - hashDistance / 64.0, hashDistance, 0, false, List.of());
+        }
+
+        List<Rectangle> tiles = new ArrayList<>();
+        for (int y = 0; y < actual.height; y += tileSize) {
+            for (int x = 0; x < actual.width; x += tileSize)
+                tiles.add(new Rectangle(x, y, Math.min(tileSize, actual.width - x), Math.min(tileSize, actual.height - y)));
+        }
+        TileDiff diff = ForkJoinPool.commonPool().invoke(new TileDiffTask(actual, expected, ignored, tiles, 0, tiles.size()));
+
+        long compared = (long) actual.width * actual.height - countIgnored(ignored);
+        double similarity = compared == 0 ? 1 : 1 - (double) diff.diffPixels / compared;
+        List<Rectangle> regions = mergeRegions(diff.regions);
+        return new ImageComparisonResult(diff.diffPixels > 0, similarity, hashDistance, diff.diffPixels, true, regions);
+    }
+
+    private Baseline getBaseline(String baselinePath) {
+        File file = new File(baselinePath);
+        String path = file.getAbsolutePath();
+        long lastModified = file.lastModified();
+        long length = file.length();
+        synchronized (baselineCache) {
+            Baseline cached = baselineCache.get(path);
+            if (cached != null && cached.lastModified == lastModified && cached.length == length)
+                return cached;
+        }
+
+        //decoded outside the lock, so threads comparing other baselines do not wait
+        Baseline baseline;
+        try {
+            BufferedImage image = ImageIO.read(file);
+            if (image == null)
+                throw new Error("Not an image file: " + baselinePath);
+            baseline = new Baseline(new Pixels(image), lastModified, length);
+        } catch (IOException e) {
+            throw new Error(String.format("Error reading image file: %s<br>Error: %s", baselinePath, e.getMessage()));
+        }
+        cacheBaseline(path, baseline);
+        return baseline;
+    }
+
+    private static void cacheBaseline(String path, Baseline baseline) {
+        long bytes = baseline.getBytes();
+        synchronized (baselineCache) {
+            Baseline replaced = baselineCache.remove(path);
+            if (replaced != null)
+                baselineCacheBytes -= replaced.getBytes();
+            if (bytes > BASELINE_CACHE_MAX_BYTES)
+                return;
+            Iterator<Baseline> leastRecentlyUsed = baselineCache.values().iterator();
+            while (baselineCacheBytes + bytes > BASELINE_CACHE_MAX_BYTES && leastRecentlyUsed.hasNext()) {
+                baselineCacheBytes -= leastRecentlyUsed.next().getBytes();
+                leastRecentlyUsed.remove();
+            }
+            baselineCache.put(path, baseline);
+            baselineCacheBytes += bytes;
+        }
+    }
+
+    //A bad value must not fail the class initialization, the default size is used instead
+    private static long readCacheSizeMB() {
+        String value;
+        try {
+            value = getGlobalProperty("imageBaselineCacheSizeMB");
+        } catch (Throwable t) {
+            value = null;
+        }
+        if (value == null || value.isBlank())
+            return 256;
+        try {
+            long size = Long.parseLong(value.trim());
+            if (size >= 0)
+                return size;
+        } catch (NumberFormatException ignored) {
+        }
+        logger.warn(String.format("imageBaselineCacheSizeMB '%s' is not a positive number. Using 256", value));
+        return 256;
+    }
+
+    private boolean[] getIgnoredMask(int width, int height) {
+        if (ignoreRegions.isEmpty())
+            return null;
+        boolean[] ignored = new boolean[width * height];
+        Rectangle bounds = new Rectangle(0, 0, width, height);
+        for (Rectangle region : ignoreRegions) {
+            Rectangle r = region.intersection(bounds);
+            for (int y = r.y; y < r.y + r.height; y++) {
+                for (int x = r.x; x < r.x + r.width; x++)
+                    ignored[y * width + x] = true;
+            }
+        }
+        return ignored;
+    }
+
+    private static long countIgnored(boolean[] ignored) {
+        if (ignored == null)
+            return 0;
+        long count = 0;
+        for (boolean b : ignored) {
+            if (b)
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Difference hash: the image is scaled to 9x8 gray cells and each bit tells if a cell is brighter than its right neighbour.
+     * Ignored pixels are left out of the cells' averages
+     */
+    private static long differenceHash(Pixels pixels, boolean[] ignored) {
+        double[] sums = new double[9 * 8];
+        int[] counts = new int[9 * 8];
+        for (int y = 0; y < pixels.height; y++) {
+            int cellY = y * 8 / pixels.height;
+            int row = y * pixels.width;
+            for (int x = 0; x < pixels.width; x++) {
+                if (ignored != null && ignored[row + x])
+                    continue;
+                int rgb = pixels.data[row + x];
+                int cell = cellY * 9 + x * 9 / pixels.width;
+                sums[cell] += ((rgb >> 16) & 0xFF) * 0.299 + ((rgb >> 8) & 0xFF) * 0.587 + (rgb & 0xFF) * 0.114;
+                counts[cell]++;
+            }
+        }
+
+        long hash = 0;
+        for (int cellY = 0; cellY < 8; cellY++) {
+            for (int cellX = 0; cellX < 8; cellX++) {
+                int cell = cellY * 9 + cellX;
+                double left = counts[cell] == 0 ? 0 : sums[cell] / counts[cell];
+                double right = counts[cell + 1] == 0 ? 0 : sums[cell + 1] / counts[cell + 1];
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Merge overlapping or touching regions, until no two regions touch
+     */
+    private static List<Rectangle> mergeRegions(List<Rectangle> regions) {
+        List<Rectangle> merged = regions;
+        while (true) {
+            List<Rectangle> next = mergeTouchingRegions(merged);
+            //a merged region may touch regions its parts did not touch
+            if (next.size() == merged.size())
+                return next;
+            merged = next;
+        }
+    }
+
+    /**
+     * One pass: the regions are swept by x, so each region is only checked against the regions that start before it ends,
+     * and the touching regions are grouped with a union-find
+     */
+    private static List<Rectangle> mergeTouchingRegions(List<Rectangle> regions) {
+        List<Rectangle> sorted = new ArrayList<>(regions);
+        sorted.sort(Comparator.comparingInt(region -> region.x));
+        int[] parents = new int[sorted.size()];
+        for (int i = 0; i < parents.length; i++)
+            parents[i] = i;
+
+        for (int i = 0; i < sorted.size(); i++) {
+            Rectangle grown = new Rectangle(sorted.get(i));
+            grown.grow(1, 1);
+            for (int j = i + 1; j < sorted.size() && sorted.get(j).x < grown.x + grown.width; j++) {
+                if (grown.intersects(sorted.get(j)))
+                    parents[findRoot(parents, j)] = findRoot(parents, i);
+            }
+        }
+
+        Map<Integer, Rectangle> groups = new LinkedHashMap<>();
+        for (int i = 0; i < sorted.size(); i++)
+            groups.merge(findRoot(parents, i), sorted.get(i), Rectangle::union);
+        return new ArrayList<>(groups.values());
+    }
+
+    private static int findRoot(int[] parents, int i) {
+        while (parents[i] != i) {
+            parents[i] = parents[parents[i]];
+            i = parents[i];
+        }
+        return i;
+    }
+
+    /**
+     * The ARGB pixels of an image, read from the raster when it is a packed int image
+     */
+    private static class Pixels {
+        private final int width;
+        private final int height;
+        private final int[] data;
+        //OR-ed into the pixels of an image without alpha, whose raster ints have no alpha bits
+        private final int alphaMask;
+
+        private Pixels(BufferedImage image) {
+            this.width = image.getWidth();
+            this.height = image.getHeight();
+            this.data = readPixels(image);
+            this.alphaMask = image.getColorModel().hasAlpha() ? 0 : 0xFF000000;
+        }
+
+        private static int[] readPixels(BufferedImage image) {
+            int type = image.getType();
+            if ((type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB)
+                    && image.getRaster().getDataBuffer() instanceof DataBufferInt
+                    && image.getRaster().getSampleModel() instanceof SinglePixelPackedSampleModel
+                    && ((SinglePixelPackedSampleModel) image.getRaster().getSampleModel()).getScanlineStride() == image.getWidth()
+                    && image.getRaster().getSampleModelTranslateX() == 0 && image.getRaster().getSampleModelTranslateY() == 0
+                    && ((DataBufferInt) image.getRaster().getDataBuffer()).getOffset() == 0)
+                return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+        }
+    }
+
+    private static class Baseline {
+        private final Pixels pixels;
+        private final long lastModified;
+        private final long length;
+        private volatile Long hash = null;
+
+        private Baseline(Pixels pixels, long lastModified, long length) {
+            this.pixels = pixels;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        private long getBytes() {
+            return (long) pixels.data.length * Integer.BYTES;
+        }
+
+        private long getHash() {
+            if (hash == null)
+                hash = differenceHash(pixels, null);
+            return hash;
+        }
+    }
+
+    private static class TileDiff {
+        private long diffPixels = 0;
+        private final List<Rectangle> regions = new ArrayList<>();
+    }
+
+    /**
+     * Compares a range of tiles, splitting it while it is large
+     */
+    private class TileDiffTask extends RecursiveTask<TileDiff> {
+        private static final long serialVersionUID = 1L;
+
+        private final Pixels actual;
+        private final Pixels expected;
+        private final boolean[] ignored;
+        private final List<Rectangle> tiles;
+        private final int from;
+        private final int to;
+
+        private TileDiffTask(Pixels actual, Pixels expected, boolean[] ignored, List<Rectangle> tiles, int from, int to) {
+            this.actual = actual;
+            this.expected = expected;
+            this.ignored = ignored;
+            this.tiles = tiles;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TileDiff compute() {
+            if (to - from > 4) {
+                int middle = (from + to) >>> 1;
+                TileDiffTask left = new TileDiffTask(actual, expected, ignored, tiles, from, middle);
+                left.fork();
+                TileDiff result = new TileDiffTask(actual, expected, ignored, tiles, middle, to).compute();
+                TileDiff leftResult = left.join();
+                result.diffPixels += leftResult.diffPixels;
+                result.regions.addAll(leftResult.regions);
+                return result;
+            }
+
+            TileDiff result = new TileDiff();
+            for (int i = from; i < to; i++)
+                compareTile(tiles.get(i), result);
+            return result;
+        }
+
+        private void compareTile(Rectangle tile, TileDiff result) {
+            int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = -1, maxY = -1;
+            long count = 0;
+            int width = actual.width;
+            for (int y = tile.y; y < tile.y + tile.height; y++) {
+                int row = y * width;
+                for (int x = tile.x; x < tile.x + tile.width; x++) {
+                    int index = row + x;
+                    if (ignored != null && ignored[index])
+                        continue;
+                    if (!isSamePixel(actual.data[index] | actual.alphaMask, expected.data[index] | expected.alphaMask)) {
+                        count++;
+                        minX = Math.min(minX, x);
+                        minY = Math.min(minY, y);
+                        maxX = Math.max(maxX, x);
+                        maxY = Math.max(maxY, y);
+                    }
+                }
+            }
+            if (count > 0) {
+                result.diffPixels += count;
+                result.regions.add(new Rectangle(minX, minY, maxX - minX + 1, maxY - minY + 1));
+            }
+        }
+
+        private boolean isSamePixel(int a, int b) {
+            if (a == b)
+                return true;
+            //fully transparent pixels look the same whatever their color
+            if ((a >>> 24) == 0 && (b >>> 24) == 0)
+                return true;
+            if (pixelTolerance == 0)
+                return false;
+            return Math.abs((a >>> 24) - (b >>> 24)) <= pixelTolerance
+                    && Math.abs(((a >> 16) & 0xFF) - ((b >> 16) & 0xFF)) <= pixelTolerance
+                    && Math.abs(((a >> 8) & 0xFF) - ((b >> 8) & 0xFF)) <= pixelTolerance
+                    && Math.abs((a & 0xFF) - (b & 0xFF)) <= pixelTolerance;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package imageUtils;
+
+import java.awt.Rectangle;
+import java.util.List;
+
+/**
+ * Result of an {@link ImageComparator} comparison
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class ImageComparisonResult {
+
+    private final boolean hasDiff;
+    private final double similarity;
+    private final int hashDistance;
+    private final long diffPixels;
+    private final boolean pixelDiffDone;
+    private final List<Rectangle> diffRegions;
+
+    ImageComparisonResult(boolean hasDiff, double similarity, int hashDistance, long diffPixels, boolean pixelDiffDone, List<Rectangle> diffRegions) {
+        this.hasDiff = hasDiff;
+        this.similarity = similarity;
+        this.hashDistance = hashDistance;
+        this.diffPixels = diffPixels;
+        this.pixelDiffDone = pixelDiffDone;
+        this.diffRegions = List.copyOf(diffRegions);
+    }
+
+    /**
+     * @return true if the images differ
+     */
+    public boolean hasDiff() {
+        return hasDiff;
+    }
+
+    /**
+     * @return the share of equal pixels out of the compared (not ignored) pixels, between 0 and 1.
+     * When the pixel diff was skipped by the hash pass it is estimated from the hash distance
+     */
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    /**
+     * @return the number of differing bits of the perceptual hashes (0-64), or -1 if hashes were not compared
+     */
+    public int getHashDistance() {
+        return hashDistance;
+    }
+
+    /**
+     * @return the number of differing pixels, 0 when the pixel diff was skipped
+     */
+    public long getDiffPixels() {
+        return diffPixels;
+    }
+
+    /**
+     * @return true if the pixels were compared / false if the sizes differ or the hash pass found the images alike
+     */
+    public boolean isPixelDiffDone() {
+        return pixelDiffDone;
+    }
+
+    /**
+     * @return the bounding rectangles of the differing areas
+     */
+    public List<Rectangle> getDiffRegions() {
+        return diffRegions;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Image comparison: %s, similarity %.4f, hash distance %d, %d different pixels in %d regions",
+                hasDiff ? "different" : "equal", similarity, hashDistance, diffPixels, diffRegions.size());
+    }
+}
@@ -6,11 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.yandex.qatools.ashot.AShot;
 import ru.yandex.qatools.ashot.Screenshot;
-import ru.yandex.qatools.ashot.comparison.ImageDiff;
-import ru.yandex.qatools.ashot.comparison.ImageDiffer;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -123,22 +119,29 @@ public class ImageUtils {
      * @since 1.1.2022
      */
     public static boolean verifyImageElement(WebElement imageElement, String ExpectedImagePath) throws Exception {
-        BufferedImage expectedImage;
-        try
-        {
-            expectedImage = ImageIO.read(new File(ExpectedImagePath));
-        }
-        catch (Exception e)
+        //always compare the pixels, like AShot's ImageDiffer did
+        return compareImageElement(imageElement, ExpectedImagePath, new ImageComparator().setHashThreshold(-1)).hasDiff();
+    }
+
+    /**
+     * Compare a screenshot of an image element to an expected image, see {@link #verifyImageElement(WebElement, String)} for
+     * how to create the expected image. The decoded expected image is cached between calls
+     * @param imageElement the element of the image
+     * @param expectedImagePath the path of the image to compare to
+     * @param comparator the comparator, with its hash threshold, pixel tolerance and ignored regions
+     * @return the comparison result, with the similarity score and the regions that differ
+     * @since 19.10.2026
+     */
+    public static ImageComparisonResult compareImageElement(WebElement imageElement, String expectedImagePath, ImageComparator comparator) throws Exception {
+        if (!new File(expectedImagePath).isFile())
         {
-            logger.info("Error Reading Image File: " + ExpectedImagePath);
-            throw new Exception("Error Reading Image File: " + ExpectedImagePath);
+            logger.info("Error Reading Image File: " + expectedImagePath);
+            throw new Exception("Error Reading Image File: " + expectedImagePath);
         }
 
         Screenshot imageScreenShot = new AShot().takeScreenshot(WebDriverInstanceManager.getDriverFromMap(),imageElement);
-        BufferedImage actualImage = imageScreenShot.getImage();
-        ImageDiffer imageDiff = new ImageDiffer();
-        ImageDiff diff = imageDiff.makeDiff(actualImage,expectedImage);
-        //return true if there is a difference or false if not
-        return diff.hasDiff();
+        ImageComparisonResult result = comparator.compare(imageScreenShot.getImage(), expectedImagePath);
+        logger.debug(result.toString());
+        return result;
     }
 }
@@ -2,7 +2,6 @@ package imageUtils;
 
 import Managers.WebDriverInstanceManager;
 import dateTimeUtils.DateUtils;
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,7 +40,8 @@ public class ScreenCaptureUtils {
     }
 
     /**
-     * take screenshot for reporting
+     * take screenshot for reporting.
+     * The file is written in the background by the {@link ScreenshotWriter}, the path is returned right away
      * @param driver WebDriver instance
      * @return SSpath string new location of file
      */
@@ -51,23 +51,18 @@ public class ScreenCaptureUtils {
 
         try
         {
-            SSpath= "images" + File.separator +  DateUtils.getUniqueTimestamp() +".png" ;
-            File scrFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            FileUtils.copyFile(scrFile, new File("report" + File.separator + SSpath));
+            SSpath = getNewScreenShotPath();
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            ScreenshotWriter.write(screenshot, new File("report" + File.separator + SSpath));
             logger.info(SSpath);
         }
 
         //if invalid session id exception exists - take driver from map
         catch (NoSuchSessionException exc) {
-            try {
-                SSpath= "images" + File.separator +  DateUtils.getUniqueTimestamp() +".png" ;
-                File scrFile = ((TakesScreenshot) WebDriverInstanceManager.getDriverFromMap()).getScreenshotAs(OutputType.FILE);
-                FileUtils.copyFile(scrFile, new File("report" + File.separator + SSpath));
-                logger.info(SSpath);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-
+            SSpath = getNewScreenShotPath();
+            byte[] screenshot = ((TakesScreenshot) WebDriverInstanceManager.getDriverFromMap()).getScreenshotAs(OutputType.BYTES);
+            ScreenshotWriter.write(screenshot, new File("report" + File.separator + SSpath));
+            logger.info(SSpath);
         }
         catch(Exception e)
         {
@@ -78,7 +73,8 @@ public class ScreenCaptureUtils {
     }
 
     /**
-     * take screenshot of the given element for reporting
+     * take screenshot of the given element for reporting.
+     * The file is written in the background by the {@link ScreenshotWriter}, the path is returned right away
      * @param driver WebDriver instance
      * @param element the element
      * @return screenShotPath string new location of file
@@ -91,12 +87,12 @@ public class ScreenCaptureUtils {
 
         try
         {
-            screenShotPath = "images" + File.separator +  DateUtils.getUniqueTimestamp() +".png" ;
+            screenShotPath = getNewScreenShotPath();
 
             //Capture the element screenshot
-            File screenshot = element.getScreenshotAs(OutputType.FILE);
+            byte[] screenshot = element.getScreenshotAs(OutputType.BYTES);
 
-            FileUtils.copyFile(screenshot, new File("report" + File.separator + screenShotPath));
+            ScreenshotWriter.write(screenshot, new File("report" + File.separator + screenShotPath));
             logger.info(screenShotPath);
         }
 
@@ -110,4 +106,12 @@ public class ScreenCaptureUtils {
 
         return screenShotPath;
     }
+
+    /**
+     * @return a new unique screenshot path, relative to the report folder
+     */
+    private static String getNewScreenShotPath()
+    {
+        return "images" + File.separator + DateUtils.getUniqueTimestamp() + "." + ScreenshotWriter.getExtension();
+    }
 }
@@ -0,0 +1,161 @@
+package imageUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static propertyUtils.PropertyUtils.getGlobalProperty;
+
+/**
+ * Bounded pool that encodes and writes screenshots off the test thread.<br>
+ * The test gets the screenshot's path right away and continues while the file is written. With screenshotFormat=jpg in the
+ * global properties the PNG from the driver is re-encoded as JPEG with screenshotQuality (0-1), otherwise the PNG bytes are written as is.<br>
+ * When the pool's queue is full the test thread writes the screenshot itself.
+ * Call {@link #drain(Duration)} before the report that links to the screenshots is written.
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class ScreenshotWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScreenshotWriter.class);
+
+    private static final String format = readProperty("screenshotFormat", "png").toLowerCase();
+    private static final float quality = readQuality();
+    private static final AtomicInteger pending = new AtomicInteger();
+    private static final Object drainMonitor = new Object();
+    private static final ExecutorService pool = new ThreadPoolExecutor(2, 2, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(32), runnable -> {
+                Thread thread = new Thread(runnable, "screenshot-writer");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+    static {
+        ((ThreadPoolExecutor) pool).allowCoreThreadTimeOut(true);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> drain(Duration.ofSeconds(30)), "screenshot-writer-drain"));
+    }
+
+    private ScreenshotWriter(){}
+
+    /**
+     * @return the file extension of the written screenshots, without the dot
+     */
+    public static String getExtension() {
+        return format.equals("jpg") || format.equals("jpeg") ? "jpg" : "png";
+    }
+
+    /**
+     * Write the screenshot asynchronously
+     * @param png the screenshot as returned by the driver
+     * @param file the file to write, its extension should be {@link #getExtension()}
+     */
+    public static void write(byte[] png, File file) {
+        pending.incrementAndGet();
+        pool.execute(() -> {
+            try {
+                writeNow(png, file);
+            } catch (Throwable t) {
+                logger.error(String.format("Failed to write screenshot %s: %s", file.getPath(), t.getMessage()));
+            } finally {
+                if (pending.decrementAndGet() == 0) {
+                    synchronized (drainMonitor) {
+                        drainMonitor.notifyAll();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Wait until all the submitted screenshots are written
+     * @param timeout the maximum time to wait
+     * @return true if all the screenshots are written / false if the timeout passed first
+     */
+    public static boolean drain(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (drainMonitor) {
+            while (pending.get() > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    logger.warn(String.format("%d screenshots were not written yet", pending.get()));
+                    return false;
+                }
+                try {
+                    drainMonitor.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void writeNow(byte[] png, File file) throws IOException {
+        if (file.getParentFile() != null)
+            file.getParentFile().mkdirs();
+
+        if (getExtension().equals("png")) {
+            Files.write(file.toPath(), png);
+            return;
+        }
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        //JPEG has no alpha channel
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(file)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    //A bad value must not fail the class initialization, the screenshots are written with the default quality instead
+    private static float readQuality() {
+        String value = readProperty("screenshotQuality", "0.8");
+        try {
+            float quality = Float.parseFloat(value);
+            if (quality >= 0 && quality <= 1)
+                return quality;
+        } catch (NumberFormatException ignored) {
+        }
+        logger.warn(String.format("screenshotQuality '%s' is not a number between 0 and 1. Using 0.8", value));
+        return 0.8f;
+    }
+
+    private static String readProperty(String key, String defaultValue) {
+        try {
+            String value = getGlobalProperty(key);
+            return value == null || value.isBlank() ? defaultValue : value.trim();
+        } catch (Throwable t) {
+            return defaultValue;
+        }
+    }
+}
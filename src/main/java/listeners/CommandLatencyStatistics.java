@@ -0,0 +1,147 @@
+package listeners;
+
+import Store.Store;
+import Store.StoreManager;
+import Store.StoreType;
+import metricsReport.CommandLatencySummary;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static enumerations.TestMetricsEnum.COMMAND_LATENCY_STATISTICS;
+
+/**
+ * HDR histograms of the WebDriver command latencies of a single test, per command type and per locator
+ * (see {@link WebDriverPerformanceLogger}). The first 200 locators get their own histogram, the rest are folded into one per command.
+ * The statistics are kept in the test thread's store, so the Elastic metrics report can attach them to the test
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class CommandLatencyStatistics {
+
+    //Latencies are recorded in microseconds, up to an hour, with 2 significant digits.
+    //The histograms auto-resize, so they only grow to the range of the recorded values
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+    //Locators after this number of distinct locators are recorded in one "other locators" histogram per command
+    private static final int MAX_LOCATORS = 200;
+    private static final String OTHER_LOCATORS = "(other locators)";
+    //Only the slowest locators are exported, so the report stays small
+    private static final int EXPORTED_LOCATORS = 10;
+
+    private final Map<String, LatencyHistogram> commands = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> locators = new ConcurrentHashMap<>();
+    private final AtomicLong slowCommands = new AtomicLong();
+
+    /**
+     * Get the command latency statistics of the test running on the current thread. Creates them if they do not exist yet
+     * @return the command latency statistics of the current test
+     */
+    public static CommandLatencyStatistics getCurrentTestStatistics() {
+        //The store belongs to the current thread, no other thread creates its statistics, so no lock is needed
+        Store store = StoreManager.getStore(StoreType.LOCAL_THREAD);
+        CommandLatencyStatistics statistics = store.getValueFromStore(COMMAND_LATENCY_STATISTICS);
+        if (statistics == null) {
+            statistics = new CommandLatencyStatistics();
+            store.putValueInStore(COMMAND_LATENCY_STATISTICS, statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Start new command latency statistics for the test running on the current thread
+     */
+    public static void resetCurrentTestStatistics() {
+        StoreManager.getStore(StoreType.LOCAL_THREAD).putValueInStore(COMMAND_LATENCY_STATISTICS, new CommandLatencyStatistics());
+    }
+
+    /**
+     * Record a command
+     * @param command the command type
+     * @param locator the locator of a find command, or null
+     * @param nanos the command's duration
+     * @param slow true if the command exceeded its slow threshold
+     */
+    void record(String command, String locator, long nanos, boolean slow) {
+        long micros = Math.max(1, Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+        commands.computeIfAbsent(command, c -> new LatencyHistogram()).record(micros, slow);
+        if (locator != null)
+            getLocatorHistogram(command, locator).record(micros, slow);
+        if (slow)
+            slowCommands.incrementAndGet();
+    }
+
+    private LatencyHistogram getLocatorHistogram(String command, String locator) {
+        String key = command + " " + locator;
+        LatencyHistogram histogram = locators.get(key);
+        if (histogram != null)
+            return histogram;
+        if (locators.size() >= MAX_LOCATORS)
+            key = command + " " + OTHER_LOCATORS;
+        return locators.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    /**
+     * @return the number of commands that exceeded their slow threshold
+     */
+    public long getSlowCommands() {
+        return slowCommands.get();
+    }
+
+    /**
+     * @return a summary per command type, followed by the summaries of the slowest locators (by p99)
+     */
+    public List<CommandLatencySummary> getSummaries() {
+        List<CommandLatencySummary> summaries = new ArrayList<>();
+        commands.forEach((command, histogram) -> summaries.add(histogram.toSummary(command, null)));
+        summaries.sort(Comparator.comparing(CommandLatencySummary::getCommand));
+
+        List<CommandLatencySummary> locatorSummaries = new ArrayList<>();
+        locators.forEach((key, histogram) -> {
+            int space = key.indexOf(' ');
+            locatorSummaries.add(histogram.toSummary(key.substring(0, space), key.substring(space + 1)));
+        });
+        locatorSummaries.sort(Comparator.comparingDouble(CommandLatencySummary::getP99Millis).reversed());
+        summaries.addAll(locatorSummaries.subList(0, Math.min(EXPORTED_LOCATORS, locatorSummaries.size())));
+        return summaries;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Command latencies:");
+        for (CommandLatencySummary summary : getSummaries())
+            builder.append(System.lineSeparator()).append(summary);
+        return builder.toString();
+    }
+
+    private static class LatencyHistogram {
+        private final Histogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final AtomicLong slow = new AtomicLong();
+
+        private void record(long micros, boolean isSlow) {
+            histogram.recordValue(micros);
+            if (isSlow)
+                slow.incrementAndGet();
+        }
+
+        private CommandLatencySummary toSummary(String command, String locator) {
+            return new CommandLatencySummary()
+                    .setCommand(command)
+                    .setLocator(locator)
+                    .setCount(histogram.getTotalCount())
+                    .setMeanMillis(histogram.getMean() / 1000)
+                    .setP50Millis(histogram.getValueAtPercentile(50) / 1000.0)
+                    .setP90Millis(histogram.getValueAtPercentile(90) / 1000.0)
+                    .setP99Millis(histogram.getValueAtPercentile(99) / 1000.0)
+                    .setMaxMillis(histogram.getMaxValue() / 1000.0)
+                    .setSlowCount(slow.get());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import constantsUtils.CommonConstants;
 import dateTimeUtils.DateUtils;
 import metricsReport.MetricReport;
+import metricsReport.MetricsStreamExporter;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestPlan;
 import org.slf4j.Logger;
@@ -21,6 +22,7 @@ import java.util.Date;
  * @author tzvika.sela
  * @since 31.01.2023
  * Junit Listener to create the json report for the Elastic once all tests are done
+ * and to close the streamed (NDJSON) metrics report
  *
  */
 public class ElasticMetricsListener implements TestExecutionListener {
@@ -69,6 +71,9 @@ public class ElasticMetricsListener implements TestExecutionListener {
             objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
             objectMapper.writeValue(new FileWriter(CommonConstants.EnvironmentParams.METRIC_REPORT_PATH),MetricReport.getReport());
 
+            logger.info("Closing metrics stream");
+            MetricsStreamExporter.getExporter().close();
+
         }catch(Exception e){
             logger.error("Failed to create tests metrics json report!",e);
         }
@@ -0,0 +1,294 @@
+package listeners;
+
+import dateTimeUtils.DateUtils;
+import drivers.TesnetWebDriver;
+import org.monte.media.avi.AVIOutputStream;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v131.page.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Records the last frames of a test into an in-memory ring buffer and writes them to a video only when asked to (when the test failed).<br>
+ * Browser tests are recorded with the DevTools screencast, the browser sends downscaled JPEG frames only when the page changes.
+ * Without DevTools the screen is captured with Robot at a low frame rate, downscaled and JPEG encoded.<br>
+ * The video is a Motion JPEG AVI - the JPEG frames are written as they are, without re-encoding.
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class RingBufferRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(RingBufferRecorder.class);
+
+    private static final int MAX_WIDTH = 1280;
+    private static final int MAX_HEIGHT = 800;
+    private static final int JPEG_QUALITY = 60;
+    private static final long ROBOT_FRAME_INTERVAL_MILLIS = 500;
+
+    //The screencast listener is added once per driver, it writes to the driver's current recorder
+    private static final Map<DevTools, RingBufferRecorder[]> screencastTargets = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ExecutorService ackExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "screencast-ack");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final FrameRingBuffer buffer;
+    private DevTools devTools = null;
+    private ScheduledExecutorService robotCapture = null;
+    private volatile boolean recording = false;
+
+    private RingBufferRecorder(int capacity) {
+        this.buffer = new FrameRingBuffer(capacity);
+    }
+
+    /**
+     * Start recording
+     * @param driver the test's driver. If it is a TesnetWebDriver with DevTools the browser screencast is recorded, otherwise the screen
+     * @param capacity the number of last frames to keep
+     * @return the recorder
+     */
+    public static RingBufferRecorder start(WebDriver driver, int capacity) {
+        RingBufferRecorder recorder = new RingBufferRecorder(capacity);
+        recorder.recording = true;
+        if (!recorder.startScreencast(driver))
+            recorder.startRobotCapture();
+        return recorder;
+    }
+
+    /**
+     * Stop recording. The frames are kept until {@link #save(String)} or {@link #discard()}
+     */
+    public void stop() {
+        recording = false;
+        if (devTools != null) {
+            try {
+                devTools.send(Page.stopScreencast());
+            } catch (Throwable t) {
+                logger.debug("Failed to stop the screencast: " + t.getMessage());
+            }
+            RingBufferRecorder[] target = screencastTargets.get(devTools);
+            if (target != null && target[0] == this)
+                target[0] = null;
+        }
+        if (robotCapture != null)
+            robotCapture.shutdownNow();
+    }
+
+    /**
+     * Write the buffered frames to report/videos
+     * @param name the name of the video, a unique timestamp is added to it
+     * @return the video file, or null if there were no frames
+     */
+    public File save(String name) throws IOException {
+        List<Frame> frames = buffer.snapshot();
+        buffer.clear();
+        if (frames.isEmpty())
+            return null;
+
+        File folder = new File("./report/videos/");
+        folder.mkdirs();
+        File file = new File(folder, name + "_" + DateUtils.getUniqueTimestamp() + ".avi");
+
+        Dimension size = getJpegSize(frames.get(0).jpeg);
+        double seconds = Math.max(1e-3, (frames.get(frames.size() - 1).nanos - frames.get(0).nanos) / 1e9);
+        //the frames are not evenly spaced, the average rate keeps the video's length right
+        long frameRate = Math.max(1, Math.round((frames.size() - 1) / seconds));
+
+        AVIOutputStream output = new AVIOutputStream(file);
+        try {
+            int track = output.addVideoTrack("MJPG", 1, frameRate, size.width, size.height, 24, 1);
+            for (Frame frame : frames)
+                output.writeSample(track, frame.jpeg, 0, frame.jpeg.length, true);
+        } finally {
+            output.close();
+        }
+        logger.info(String.format("Saved %d frames to %s", frames.size(), file.getAbsolutePath()));
+        return file;
+    }
+
+    /**
+     * Drop the buffered frames
+     */
+    public void discard() {
+        buffer.clear();
+    }
+
+    /**
+     * @return the number of buffered frames
+     */
+    public int getFrameCount() {
+        return buffer.size();
+    }
+
+    private boolean startScreencast(WebDriver driver) {
+        if (!(driver instanceof TesnetWebDriver))
+            return false;
+        try {
+            Optional<DevTools> session = ((TesnetWebDriver) driver).getDevToolsSession();
+            if (session.isEmpty())
+                return false;
+            DevTools tools = session.get();
+            RingBufferRecorder[] target = screencastTargets.computeIfAbsent(tools, t -> {
+                RingBufferRecorder[] holder = new RingBufferRecorder[1];
+                t.addListener(Page.screencastFrame(), frame -> {
+                    //the browser sends the next frame only after this one is acknowledged
+                    ackExecutor.execute(() -> {
+                        try {
+                            t.send(Page.screencastFrameAck(frame.getSessionId()));
+                        } catch (Throwable e) {
+                            logger.debug("Failed to acknowledge a screencast frame: " + e.getMessage());
+                        }
+                    });
+                    RingBufferRecorder recorder = holder[0];
+                    if (recorder != null && recorder.recording)
+                        recorder.buffer.add(Base64.getDecoder().decode(frame.getData()));
+                });
+                return holder;
+            });
+            target[0] = this;
+            tools.send(Page.enable());
+            tools.send(Page.startScreencast(Optional.of(Page.StartScreencastFormat.JPEG), Optional.of(JPEG_QUALITY),
+                    Optional.of(MAX_WIDTH), Optional.of(MAX_HEIGHT), Optional.of(1)));
+            devTools = tools;
+            return true;
+        } catch (Throwable t) {
+            logger.debug("DevTools screencast is not available, recording the screen: " + t.getMessage());
+            return false;
+        }
+    }
+
+    private void startRobotCapture() {
+        if (GraphicsEnvironment.isHeadless()) {
+            logger.info("No display to record");
+            return;
+        }
+        try {
+            Robot robot = new Robot();
+            Rectangle screen = new Rectangle(Toolkit.getDefaultToolkit().getScreenSize());
+            robotCapture = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ring-buffer-recorder");
+                thread.setDaemon(true);
+                return thread;
+            });
+            robotCapture.scheduleWithFixedDelay(() -> {
+                try {
+                    buffer.add(toJpeg(robot.createScreenCapture(screen)));
+                } catch (Throwable t) {
+                    logger.debug("Failed to capture the screen: " + t.getMessage());
+                }
+            }, 0, ROBOT_FRAME_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (AWTException e) {
+            logger.info("Failed to start recording the screen: " + e.getMessage());
+        }
+    }
+
+    private static byte[] toJpeg(BufferedImage capture) throws IOException {
+        double scale = Math.min(1, Math.min((double) MAX_WIDTH / capture.getWidth(), (double) MAX_HEIGHT / capture.getHeight()));
+        int width = (int) Math.round(capture.getWidth() * scale);
+        int height = (int) Math.round(capture.getHeight() * scale);
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(capture, 0, 0, width, height, null);
+        graphics.dispose();
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY / 100f);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(scaled, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Read the size of a JPEG from its header, without decoding it
+     */
+    private static Dimension getJpegSize(byte[] jpeg) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(jpeg))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext())
+                throw new IOException("Frame is not a JPEG image");
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static class Frame {
+        private final byte[] jpeg;
+        private final long nanos;
+
+        private Frame(byte[] jpeg, long nanos) {
+            this.jpeg = jpeg;
+            this.nanos = nanos;
+        }
+    }
+
+    /**
+     * Fixed size buffer of the last frames, the oldest frame is overwritten
+     */
+    private static class FrameRingBuffer {
+        private final Frame[] frames;
+        private int next = 0;
+        private int size = 0;
+
+        private FrameRingBuffer(int capacity) {
+            if (capacity < 1)
+                throw new IllegalArgumentException("Capacity must be at least 1");
+            this.frames = new Frame[capacity];
+        }
+
+        private synchronized void add(byte[] jpeg) {
+            frames[next] = new Frame(jpeg, System.nanoTime());
+            next = (next + 1) % frames.length;
+            size = Math.min(size + 1, frames.length);
+        }
+
+        private synchronized List<Frame> snapshot() {
+            List<Frame> snapshot = new ArrayList<>(size);
+            int start = (next - size + frames.length) % frames.length;
+            for (int i = 0; i < size; i++)
+                snapshot.add(frames[(start + i) % frames.length]);
+            return snapshot;
+        }
+
+        private synchronized void clear() {
+            Arrays.fill(frames, null);
+            next = 0;
+            size = 0;
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+    }
+}
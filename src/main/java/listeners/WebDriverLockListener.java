@@ -0,0 +1,42 @@
+package listeners;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Listener to WebDriver that holds the driver lock for the duration of every driver / element command.
+ * Background tasks (see {@link async.AsyncTaskScheduler}) take the same lock, so they run between the test's commands
+ * and never in the middle of one. The lock is reentrant, so nested calls on the same thread are not blocked.
+ * @since 19.10.2026
+ */
+public class WebDriverLockListener implements WebDriverListener {
+
+    private final ReentrantLock driverLock;
+
+    public WebDriverLockListener(ReentrantLock driverLock) {
+        this.driverLock = driverLock;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        driverLock.lock();
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        unlock();
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        unlock();
+    }
+
+    private void unlock() {
+        if (driverLock.isHeldByCurrentThread())
+            driverLock.unlock();
+    }
+}
@@ -7,70 +7,143 @@ import org.openqa.selenium.support.events.WebDriverListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import static propertyUtils.PropertyUtils.getGlobalProperty;
+
 /**
- * Listener to WebDriver that writes to log how long an action takes (e.g. click, refresh etc.).
+ * Listener to WebDriver that measures how long an action takes (find, click, executeScript, getText and navigation).
+ * The durations are recorded in the {@link CommandLatencyStatistics} of the running test, per command type and per locator,
+ * and exported with the test's metric.<br>
+ * Each thread keeps its own stack of start times, so nested and concurrent commands are timed correctly.<br>
+ * A command that takes longer than its threshold is logged as slow and passed to the slow command listeners.
+ * The thresholds are slowCommandMillis (default for all the commands) and slowCommandMillis.&lt;command&gt; in the global properties.
  * @author plot.ofek
  * @since 04.05.2021
  */
 public class WebDriverPerformanceLogger implements WebDriverListener {
 
-    long startTime, endTime;
-    private Logger logger = LoggerFactory.getLogger(WebDriverPerformanceLogger.class);
-    @Override
-    public void beforeRefresh(WebDriver.Navigation navigation) {
-        startTime = System.currentTimeMillis();
-    }
+    public static final String FIND = "find";
+    public static final String CLICK = "click";
+    public static final String EXECUTE_SCRIPT = "executeScript";
+    public static final String GET_TEXT = "getText";
+    public static final String NAVIGATE = "navigate";
 
-    @Override
-    public void afterRefresh(WebDriver.Navigation navigation) {
-        endTime = System.currentTimeMillis();
-        logger.info("Page load time was (in milliseconds) : " + (endTime - startTime));
-    }
+    private static final Logger logger = LoggerFactory.getLogger(WebDriverPerformanceLogger.class);
+    private static final Map<String, Long> slowThresholdsNanos = Map.of(
+            FIND, readThresholdNanos(FIND),
+            CLICK, readThresholdNanos(CLICK),
+            EXECUTE_SCRIPT, readThresholdNanos(EXECUTE_SCRIPT),
+            GET_TEXT, readThresholdNanos(GET_TEXT),
+            NAVIGATE, readThresholdNanos(NAVIGATE));
+    private static final List<BiConsumer<String, Long>> slowCommandListeners = new CopyOnWriteArrayList<>();
 
-    @Override
-    public void beforeFindElement(WebDriver driver, By locator) {
-        startTime = System.currentTimeMillis();
-    }
+    private final ThreadLocal<Deque<long[]>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
 
-    @Override
-    public void afterFindElement(WebDriver driver, By locator, WebElement result) {
-        endTime = System.currentTimeMillis();
-        logger.trace("Time to find element (in milliseconds) : " + (endTime - startTime));
+    /**
+     * Add a listener that is called with the command and its duration in milliseconds when a command exceeds its threshold
+     * @param listener the listener
+     */
+    public static void addSlowCommandListener(BiConsumer<String, Long> listener) {
+        slowCommandListeners.add(listener);
     }
 
     @Override
-    public void beforeClick(WebElement element) {
-        startTime = System.currentTimeMillis();
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (getCommand(target, method) != null)
+            startTimes.get().push(new long[]{System.nanoTime()});
     }
 
     @Override
-    public void afterClick(WebElement element) {
-        endTime = System.currentTimeMillis();
-        logger.trace("Time to complete click on element " + element.toString() +" (in milliseconds) : " + (endTime - startTime));
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        String command = getCommand(target, method);
+        if (command != null)
+            record(command, method, args);
     }
 
     @Override
-    public void beforeExecuteScript(WebDriver driver, String script, Object[] args) {
-        startTime = System.currentTimeMillis();
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        //failed commands are timed too, so the stack stays balanced
+        String command = getCommand(target, method);
+        if (command != null)
+            record(command, method, args);
     }
 
-    @Override
-    public void afterExecuteScript(WebDriver driver, String script, Object[] args, Object result) {
-        endTime = System.currentTimeMillis();
-        logger.trace("Time to execute script (in milliseconds) : " + (endTime - startTime));
-    }
+    private void record(String command, Method method, Object[] args) {
+        long[] start = startTimes.get().poll();
+        if (start == null)
+            return;
+        long nanos = System.nanoTime() - start[0];
+        String locator = (args != null && args.length > 0 && args[0] instanceof By) ? args[0].toString() : null;
+        boolean slow = nanos > slowThresholdsNanos.get(command);
 
+        CommandLatencyStatistics.getCurrentTestStatistics().record(command, locator, nanos, slow);
 
+        if (slow) {
+            long millis = nanos / 1_000_000;
+            String description = method.getName() + (locator == null ? "" : " " + locator);
+            logger.warn(String.format("Slow %s command: %s took %d milliseconds", command, description, millis));
+            for (BiConsumer<String, Long> listener : slowCommandListeners)
+                listener.accept(description, millis);
+        }
+        else if (command.equals(NAVIGATE) && method.getName().equals("refresh"))
+            logger.info("Page load time was (in milliseconds) : " + nanos / 1_000_000);
+        else if (logger.isTraceEnabled())
+            logger.trace(String.format("Time to %s%s (in milliseconds) : %d", method.getName(), locator == null ? "" : " " + locator, nanos / 1_000_000));
+    }
 
-    @Override
-    public void beforeGetText(WebElement element) {
-        startTime = System.currentTimeMillis();
+    /**
+     * @return the command type of a call, or null if it is not timed
+     */
+    private static String getCommand(Object target, Method method) {
+        switch (method.getName()) {
+            case "findElement":
+            case "findElements":
+                return FIND;
+            case "click":
+                return target instanceof WebElement ? CLICK : null;
+            case "executeScript":
+            case "executeAsyncScript":
+                return EXECUTE_SCRIPT;
+            case "getText":
+                return target instanceof WebElement ? GET_TEXT : null;
+            case "get":
+                return target instanceof WebDriver ? NAVIGATE : null;
+            case "to":
+            case "back":
+            case "forward":
+            case "refresh":
+                return target instanceof WebDriver.Navigation ? NAVIGATE : null;
+            default:
+                return null;
+        }
     }
 
-    @Override
-    public void afterGetText(WebElement element, String result) {
-        endTime = System.currentTimeMillis();
-        logger.trace("Time to get text of element " + element.toString() +" (in milliseconds) : " + (endTime - startTime));
+    private static long readThresholdNanos(String command) {
+        String value = readProperty("slowCommandMillis." + command);
+        if (value == null)
+            value = readProperty("slowCommandMillis");
+        try {
+            return value == null ? Long.MAX_VALUE : Long.parseLong(value.trim()) * 1_000_000;
+        } catch (NumberFormatException e) {
+            logger.warn(String.format("Invalid slow command threshold of %s: %s", command, value));
+            return Long.MAX_VALUE;
+        }
     }
 
+    private static String readProperty(String key) {
+        try {
+            String value = getGlobalProperty(key);
+            return value == null || value.isBlank() ? null : value;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
 }
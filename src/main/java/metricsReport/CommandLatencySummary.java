@@ -0,0 +1,107 @@
+package metricsReport;
+
+/**
+ * Latency summary of one WebDriver command type, or of one locator, during a test.
+ * Exported with the test's metric to the Elastic report
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class CommandLatencySummary {
+    private String command;
+    //null for the summary of all the calls of the command
+    private String locator;
+    private long count;
+    private double meanMillis;
+    private double p50Millis;
+    private double p90Millis;
+    private double p99Millis;
+    private double maxMillis;
+    private long slowCount;
+
+    public String getCommand() {
+        return command;
+    }
+
+    public CommandLatencySummary setCommand(String command) {
+        this.command = command;
+        return this;
+    }
+
+    public String getLocator() {
+        return locator;
+    }
+
+    public CommandLatencySummary setLocator(String locator) {
+        this.locator = locator;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public CommandLatencySummary setCount(long count) {
+        this.count = count;
+        return this;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public CommandLatencySummary setMeanMillis(double meanMillis) {
+        this.meanMillis = meanMillis;
+        return this;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public CommandLatencySummary setP50Millis(double p50Millis) {
+        this.p50Millis = p50Millis;
+        return this;
+    }
+
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    public CommandLatencySummary setP90Millis(double p90Millis) {
+        this.p90Millis = p90Millis;
+        return this;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public CommandLatencySummary setP99Millis(double p99Millis) {
+        this.p99Millis = p99Millis;
+        return this;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public CommandLatencySummary setMaxMillis(double maxMillis) {
+        this.maxMillis = maxMillis;
+        return this;
+    }
+
+    public long getSlowCount() {
+        return slowCount;
+    }
+
+    public CommandLatencySummary setSlowCount(long slowCount) {
+        this.slowCount = slowCount;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s%s: count=%d mean=%.1fms p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms slow=%d", command,
+                locator == null ? "" : " [" + locator + "]", count, meanMillis, p50Millis, p90Millis, p99Millis, maxMillis, slowCount);
+    }
+}
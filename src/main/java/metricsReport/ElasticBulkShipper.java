@@ -0,0 +1,173 @@
+package metricsReport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import waitUtils.RetryPolicy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ships JSON documents to an Elastic index with the _bulk API from a background thread.<br>
+ * Documents are queued in a bounded queue. When the queue is full, {@link #ship(String)} waits up to the offer timeout
+ * and then drops the document (backpressure without stalling the tests).
+ * A failed batch is retried with exponential backoff on IO errors, 429 and 5xx responses.
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class ElasticBulkShipper {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElasticBulkShipper.class);
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 500;
+    private static final Duration BATCH_WAIT = Duration.ofSeconds(2);
+    private static final Duration OFFER_TIMEOUT = Duration.ofSeconds(1);
+
+    private final URI bulkUri;
+    private final String index;
+    private final String authorization;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final RetryPolicy retryPolicy = new RetryPolicy()
+            .setMaxAttempts(5)
+            .setInitialDelay(Duration.ofSeconds(1))
+            .setMaxDelay(Duration.ofSeconds(15))
+            //the shipper thread runs no test - do not record into its thread store
+            .setRecordStatistics(false)
+            .retryOn(IOException.class, RetryableStatusException.class);
+    private final Thread shipperThread;
+    private final AtomicLong shipped = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed = false;
+
+    /**
+     * @param baseUrl the Elastic base url, e.g. https://host:443
+     * @param index the index to ship the documents to
+     * @param username the Elastic user
+     * @param password the Elastic password
+     */
+    public ElasticBulkShipper(String baseUrl, String index, String username, String password) {
+        this.bulkUri = URI.create(baseUrl.replaceAll("/+$", "") + "/_bulk");
+        this.index = index;
+        this.authorization = "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        this.shipperThread = new Thread(this::shipLoop, "elastic-bulk-shipper");
+        this.shipperThread.setDaemon(true);
+        this.shipperThread.start();
+    }
+
+    /**
+     * Queue a document to be shipped
+     * @param jsonDocument the document as a single line of JSON
+     * @return true if the document was queued / false if it was dropped because the queue stayed full or the shipper is closed
+     */
+    public boolean ship(String jsonDocument) {
+        if (closed)
+            return false;
+        try {
+            if (queue.offer(jsonDocument, OFFER_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+                return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.incrementAndGet() % 100 == 1)
+            logger.warn(String.format("Elastic bulk queue is full, %d metrics documents were dropped so far", dropped.get()));
+        return false;
+    }
+
+    /**
+     * Ship the queued documents and stop the background thread
+     * @param timeout the maximum time to wait for the queued documents to be shipped
+     */
+    public void close(Duration timeout) {
+        //not interrupting - an interrupted request or retry delay would lose its batch
+        closed = true;
+        try {
+            shipperThread.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (shipperThread.isAlive() || !queue.isEmpty())
+            logger.warn(String.format("Elastic bulk shipper closed with %d metrics documents not shipped", queue.size()));
+        logger.info(String.format("Elastic bulk shipper: %d documents shipped, %d dropped", shipped.get(), dropped.get()));
+    }
+
+    public long getShipped() {
+        return shipped.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    private void shipLoop() {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                String first = queue.poll(BATCH_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+            } catch (InterruptedException e) {
+                return;
+            }
+            shipBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void shipBatch(List<String> batch) {
+        StringBuilder body = new StringBuilder();
+        String action = "{\"index\":{\"_index\":\"" + index + "\"}}\n";
+        for (String document : batch)
+            body.append(action).append(document).append('\n');
+
+        HttpRequest request = HttpRequest.newBuilder(bulkUri)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/x-ndjson")
+                .header("Authorization", authorization)
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        try {
+            HttpResponse<String> response = retryPolicy.call(() -> {
+                HttpResponse<String> r = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (r.statusCode() == 429 || r.statusCode() >= 500)
+                    throw new RetryableStatusException(r.statusCode());
+                return r;
+            });
+            if (response.statusCode() >= 300)
+                logger.warn(String.format("Elastic bulk request of %d documents failed with status %d: %s", batch.size(), response.statusCode(), response.body()));
+            else {
+                shipped.addAndGet(batch.size());
+                if (response.body().contains("\"errors\":true"))
+                    logger.warn("Elastic bulk request completed with item errors: " + response.body());
+            }
+        } catch (Throwable t) {
+            logger.warn(String.format("Failed to ship %d metrics documents to Elastic: %s", batch.size(), t.getMessage()));
+        }
+    }
+
+    /**
+     * A response status worth retrying (429 or 5xx)
+     */
+    private static class RetryableStatusException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private RetryableStatusException(int status) {
+            super("Elastic responded with status " + status);
+        }
+    }
+}
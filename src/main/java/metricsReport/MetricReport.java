@@ -1,27 +1,47 @@
 package metricsReport;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static listeners.ElasticMetricsListener.testPlanEndTime;
 import static listeners.ElasticMetricsListener.testPlanStartTime;
 
 /**
- * Singleton Class to hold the test plan's metrics
+ * Singleton Class to hold the test plan's metrics.
+ * The tests are kept in insertion order and indexed by test id, by class#method and by method name,
+ * so lookups do not scan the report and parallel tests do not contend on a single lock.
  * @author sela.zvika
  * @since  02.01.2023
  */
 public class MetricReport {
 
-
-    private ArrayList<TestMetric> tests;
+    //Insertion sequence -> test. Iteration is weakly consistent and does not block writers
+    @JsonIgnore
+    private final ConcurrentSkipListMap<Long, TestMetric> testsInOrder = new ConcurrentSkipListMap<>();
+    @JsonIgnore
+    private final Map<TestMetric, Long> sequences = new ConcurrentHashMap<>();
+    @JsonIgnore
+    private final Map<String, TestMetric> testsById = new ConcurrentHashMap<>();
+    //class#method -> tests in insertion order. Updates of the same method are serialized by compute
+    @JsonIgnore
+    private final Map<String, List<TestMetric>> testsByClassAndMethod = new ConcurrentHashMap<>();
+    @JsonIgnore
+    private final Map<String, Set<TestMetric>> testsByMethodName = new ConcurrentHashMap<>();
+    @JsonIgnore
+    private final AtomicLong sequence = new AtomicLong();
 
 
         private static MetricReport instance =null;
 
         private MetricReport(){
-              tests = new ArrayList<>();
         }
 
         public static synchronized  MetricReport getReport()  {
@@ -32,10 +52,11 @@ public class MetricReport {
 
     /**
      * get all tests in report
-     * @return  list of all test metrics
+     * @return snapshot of all test metrics in the order they were added. Changing the list does not change the report
      */
+    @JsonProperty("tests")
     public ArrayList<TestMetric> getTests() {
-        return tests;
+        return new ArrayList<>(testsInOrder.values());
     }
 
     /**
@@ -44,59 +65,91 @@ public class MetricReport {
      * @param test the test metric to add to the report
      * @author tzvika.sela
      */
-    public synchronized void addTest(TestMetric test){
-
-            String methodName = test.getMethodName();
-            String className = test.getClassName();
-            long count = getTests().stream().filter(t->t.getMethodName().equals(methodName) && t.getClassName().equals(className)).count();
+    public void addTest(TestMetric test){
+        testsByClassAndMethod.compute(getClassAndMethodKey(test), (key, tests) -> {
+            if (tests == null)
+                tests = new ArrayList<>();
             //if duplicate found remove all except the last appearance
-            if (count==1 && test.getAttempt()>1) {
-                TestMetric testMetricToRemove = getTests().stream().filter(t -> t.getMethodName().equals(methodName) && t.getClassName().equals(className)).findFirst().get();
-                removeTest(testMetricToRemove);
-            }
-
-             tests.add(test);
-        }
+            if (tests.size() == 1 && test.getAttempt() > 1)
+                unindex(tests.remove(0), tests);
+
+            tests.add(test);
+            long testSequence = sequence.incrementAndGet();
+            sequences.put(test, testSequence);
+            testsInOrder.put(testSequence, test);
+            testsById.putIfAbsent(String.valueOf(test.getTestId()), test);
+            testsByMethodName.computeIfAbsent(String.valueOf(test.getMethodName()), name -> ConcurrentHashMap.newKeySet()).add(test);
+            return tests;
+        });
+    }
 
     /**
      * get test metric object by id
      * @param id - the contextExtension unique Id
      */
-    public synchronized TestMetric getTest(String id){
-        List<TestMetric> testMetricList = new ArrayList<>();
-        if (tests!=null)
-            testMetricList = tests.stream().filter(t->t.getTestId().equals(id)).collect(Collectors.toList());
-        if (testMetricList.stream().findFirst().isPresent())
-            return testMetricList.stream().findFirst().get();
-
-        return  null;
+    public TestMetric getTest(String id){
+        return testsById.get(String.valueOf(id));
     }
 
     /**
-     * remove test metric from ArrayList
+     * remove test metric from the report
      * @param testMetric - the testMetric to remove
      */
-    public synchronized void removeTest(TestMetric testMetric){
-        tests.remove(testMetric);
+    public void removeTest(TestMetric testMetric){
+        testsByClassAndMethod.computeIfPresent(getClassAndMethodKey(testMetric), (key, tests) -> {
+            if (tests.remove(testMetric))
+                unindex(testMetric, tests);
+            return tests.isEmpty() ? null : tests;
+        });
     }
 
     /**
      * does test methodname already exist with SUCCESS or FAIL status
      */
 
-    public synchronized boolean doesTestHaveFiniteStatus(String methodName){
-        List<TestMetric> testMetricList = new ArrayList<>();
-        if (tests!=null)
-            testMetricList = tests.stream().filter(t->t.getMethodName().equals(methodName)).collect(Collectors.toList());
+    public boolean doesTestHaveFiniteStatus(String methodName){
+        Set<TestMetric> tests = testsByMethodName.get(String.valueOf(methodName));
+        if (tests == null)
+            return false;
 
-        for (TestMetric test : testMetricList){
-            if (test.getTestResult().equalsIgnoreCase("SUCCESSFUL") || test.getTestResult().equalsIgnoreCase("FAILED"))
+        for (TestMetric test : tests){
+            if ("SUCCESSFUL".equalsIgnoreCase(test.getTestResult()) || "FAILED".equalsIgnoreCase(test.getTestResult()))
                 return true;
         }
 
         return  false;
     }
 
+    private static String getClassAndMethodKey(TestMetric test){
+        return test.getClassName() + "#" + test.getMethodName();
+    }
+
+    /**
+     * Remove a test from the order and the id and method name indexes. Called while its class#method entry is locked
+     * @param test the removed test
+     * @param remainingTests the remaining tests of the same class#method
+     */
+    private void unindex(TestMetric test, List<TestMetric> remainingTests){
+        Long testSequence = sequences.remove(test);
+        if (testSequence != null)
+            testsInOrder.remove(testSequence);
+
+        //a test with the same id that was added later is now the first one
+        String id = String.valueOf(test.getTestId());
+        if (testsById.remove(id, test)) {
+            for (TestMetric remaining : remainingTests) {
+                if (id.equals(String.valueOf(remaining.getTestId()))) {
+                    testsById.putIfAbsent(id, remaining);
+                    break;
+                }
+            }
+        }
+
+        Set<TestMetric> sameName = testsByMethodName.get(String.valueOf(test.getMethodName()));
+        if (sameName != null)
+            sameName.remove(test);
+    }
+
     /**
      * Add start of run time to all tests. (format: yyyy-MM-ddTHH:mm:ss)
      * @since 27.04.23
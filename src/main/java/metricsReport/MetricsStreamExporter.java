@@ -0,0 +1,163 @@
+package metricsReport;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import constantsUtils.CommonConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import secretsManager.Secret;
+import secretsManager.SecretUtils;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static listeners.ElasticMetricsListener.testPlanStartTime;
+import static propertyUtils.PropertyUtils.getGlobalProperty;
+
+/**
+ * Singleton that streams every finished test metric as one line of JSON (NDJSON) to report/metricsReport.ndjson,
+ * so a run that crashes keeps the metrics of the tests that finished.<br>
+ * Lines are written through a buffered writer that is flushed every second and when the run ends.<br>
+ * When ELASTIC_METRICS_INDEX and ELASTIC_METRICS_ENVIRONMENT are set in the global properties, the lines are also shipped
+ * to that Elastic index during the run (see {@link ElasticBulkShipper}).<br>
+ * A repeated test writes a line per attempt - the last line of a test id holds its final result.
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class MetricsStreamExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsStreamExporter.class);
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+    private static final Duration SHIPPING_CLOSE_TIMEOUT = Duration.ofSeconds(60);
+
+    private static MetricsStreamExporter instance = null;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "metrics-stream-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private BufferedWriter writer = null;
+    private ElasticBulkShipper shipper = null;
+    private boolean closed = false;
+
+    private MetricsStreamExporter() {
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        flushScheduler.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "metrics-stream-close"));
+        initElasticShipping();
+    }
+
+    public static synchronized MetricsStreamExporter getExporter() {
+        if (instance == null)
+            instance = new MetricsStreamExporter();
+        return instance;
+    }
+
+    /**
+     * Write the test metric as a line to the NDJSON file and queue it for shipping
+     * @param testMetric the finished test's metric
+     */
+    public void export(TestMetric testMetric) {
+        if (testMetric == null)
+            return;
+
+        //the run start time is known already, the end time only in the final report
+        testMetric.setRunStartTime(testPlanStartTime);
+        String line;
+        try {
+            line = objectMapper.writeValueAsString(testMetric);
+        } catch (IOException e) {
+            logger.warn("Failed to serialize test metric of " + testMetric.getMethodName() + ": " + e.getMessage());
+            return;
+        }
+
+        synchronized (this) {
+            if (closed)
+                return;
+            try {
+                getWriter().write(line);
+                writer.newLine();
+            } catch (IOException e) {
+                logger.warn("Failed to write test metric to " + CommonConstants.EnvironmentParams.METRIC_STREAM_REPORT_PATH + ": " + e.getMessage());
+            }
+        }
+
+        if (shipper != null)
+            shipper.ship(line);
+    }
+
+    /**
+     * Flush the written lines to the file
+     */
+    public synchronized void flush() {
+        if (writer == null)
+            return;
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            logger.warn("Failed to flush the metrics stream: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Flush and close the file and ship the queued metrics. Called once the test plan is finished
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            flushScheduler.shutdown();
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    logger.warn("Failed to close the metrics stream: " + e.getMessage());
+                }
+            }
+        }
+        if (shipper != null)
+            shipper.close(SHIPPING_CLOSE_TIMEOUT);
+    }
+
+    /**
+     * @return the writer, the file is created (or truncated) on the first metric of the run
+     */
+    private BufferedWriter getWriter() throws IOException {
+        if (writer == null) {
+            File file = new File(CommonConstants.EnvironmentParams.METRIC_STREAM_REPORT_PATH);
+            if (file.getParentFile() != null)
+                file.getParentFile().mkdirs();
+            writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        }
+        return writer;
+    }
+
+    private void initElasticShipping() {
+        try {
+            String index = getGlobalProperty("ELASTIC_METRICS_INDEX");
+            String environment = getGlobalProperty("ELASTIC_METRICS_ENVIRONMENT");
+            if (index == null || index.isBlank() || environment == null || environment.isBlank())
+                return;
+
+            Secret elasticSecret = SecretUtils.getElasticSecret(environment);
+            shipper = new ElasticBulkShipper("https://" + getGlobalProperty("ELASTIC_URI") + ":443", index,
+                    elasticSecret.getUsername(), elasticSecret.getPassword());
+            logger.info("Shipping tests metrics to Elastic index " + index);
+        } catch (Throwable t) {
+            logger.warn("Failed to start shipping tests metrics to Elastic, metrics are only written to file: " + t.getMessage());
+        }
+    }
+}
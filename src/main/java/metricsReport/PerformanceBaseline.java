@@ -0,0 +1,161 @@
+package metricsReport;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static propertyUtils.PropertyUtils.getGlobalProperty;
+
+/**
+ * The stored timings of @Performance tests, which later runs are compared to.<br>
+ * The baselines are kept in a JSON file, performanceBaselineFile in the global properties (relative to the working directory).
+ * A missing baseline is created from the first measurement. Set updatePerformanceBaseline=true to replace the baselines with the new measurements.<br>
+ * A measurement is a regression when its percentile exceeds the baseline's by more than the tolerance and its mean is
+ * significantly higher than the baseline's (one sided Welch's t-test, 95% confidence). Both need at least two iterations to be tested,
+ * a measurement or baseline with a single iteration is never a regression.<br>
+ * The compared baselines are kept in memory and written by {@link #save()} - once per test class, and at JVM shutdown.
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class PerformanceBaseline {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceBaseline.class);
+
+    //One sided 95% critical values of Student's t distribution for 1 to 30 degrees of freedom
+    private static final double[] T_CRITICAL_95 = {6.314, 2.920, 2.353, 2.132, 2.015, 1.943, 1.895, 1.860, 1.833, 1.812,
+            1.796, 1.782, 1.771, 1.761, 1.753, 1.746, 1.740, 1.734, 1.729, 1.725,
+            1.721, 1.717, 1.714, 1.711, 1.708, 1.706, 1.703, 1.701, 1.699, 1.697};
+    private static final double T_CRITICAL_95_LARGE = 1.645;
+
+    private static PerformanceBaseline instance = null;
+
+    private final File file;
+    private final boolean update;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, PerformanceSummary> baselines;
+    private boolean changed = false;
+
+    private PerformanceBaseline(File file, boolean update) {
+        this.file = file;
+        this.update = update;
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.baselines = load();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::save, "PerformanceBaselineSave"));
+    }
+
+    public static synchronized PerformanceBaseline getBaseline() {
+        if (instance == null)
+            instance = new PerformanceBaseline(new File(System.getProperty("user.dir"), readProperty("performanceBaselineFile", "performanceBaseline.json")),
+                    Boolean.parseBoolean(readProperty("updatePerformanceBaseline", "false")));
+        return instance;
+    }
+
+    /**
+     * Compare a measurement to its baseline and mark it as a regression if it is one.
+     * Stores the measurement as the baseline if there is none, or if the baselines are updated. The file is written by {@link #save()}
+     * @param key the baseline key - test class, method and step
+     * @param summary the measurement
+     * @param percentile the compared percentile, between 50 and 100
+     * @param tolerance the allowed relative increase, e.g. 0.2 for 20%
+     * @return true if the measurement is a regression
+     */
+    public synchronized boolean compare(String key, PerformanceSummary summary, double percentile, double tolerance) {
+        PerformanceSummary.validatePercentile(percentile);
+        PerformanceSummary baseline = baselines.get(key);
+        summary.setPercentile(percentile);
+        boolean regression = false;
+        if (baseline != null) {
+            double baselineMillis = baseline.getPercentileMillis(percentile);
+            summary.setBaselineMillis(baselineMillis);
+            regression = summary.getPercentileMillis(percentile) > baselineMillis * (1 + tolerance) && isSignificantlySlower(summary, baseline);
+            summary.setRegression(regression);
+        }
+        if (baseline == null || update) {
+            baselines.put(key, copy(summary));
+            changed = true;
+        }
+        return regression;
+    }
+
+    /**
+     * One sided Welch's t-test of the means. With less than two iterations on either side there is no variance to test, so nothing is significant
+     */
+    private static boolean isSignificantlySlower(PerformanceSummary current, PerformanceSummary baseline) {
+        int n1 = current.getIterations();
+        int n0 = baseline.getIterations();
+        if (n1 < 2 || n0 < 2) {
+            logger.warn(String.format("%s cannot be tested against its baseline with %d iterations and %d baseline iterations",
+                    current.getName(), n1, n0));
+            return false;
+        }
+        double v1 = current.getStdDevMillis() * current.getStdDevMillis() / n1;
+        double v0 = baseline.getStdDevMillis() * baseline.getStdDevMillis() / n0;
+        double difference = current.getMeanMillis() - baseline.getMeanMillis();
+        if (v1 + v0 == 0)
+            return difference > 0;
+        double t = difference / Math.sqrt(v1 + v0);
+        //Welch-Satterthwaite degrees of freedom
+        double df = (v1 + v0) * (v1 + v0) / (v1 * v1 / (n1 - 1) + v0 * v0 / (n0 - 1));
+        int degrees = (int) Math.max(1, Math.floor(df));
+        double critical = degrees <= T_CRITICAL_95.length ? T_CRITICAL_95[degrees - 1] : T_CRITICAL_95_LARGE;
+        return t > critical;
+    }
+
+    private Map<String, PerformanceSummary> load() {
+        if (!file.exists())
+            return new TreeMap<>();
+        try {
+            return new TreeMap<>(objectMapper.readValue(file, new TypeReference<Map<String, PerformanceSummary>>() {}));
+        } catch (IOException e) {
+            logger.error(String.format("Failed to read the performance baseline %s: %s", file.getAbsolutePath(), e.getMessage()));
+            return new TreeMap<>();
+        }
+    }
+
+    /**
+     * Write the baselines file if a baseline was added or updated since the last save
+     */
+    public synchronized void save() {
+        if (!changed)
+            return;
+        changed = false;
+        try {
+            if (file.getParentFile() != null)
+                file.getParentFile().mkdirs();
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, baselines);
+        } catch (IOException e) {
+            logger.error(String.format("Failed to write the performance baseline %s: %s", file.getAbsolutePath(), e.getMessage()));
+        }
+    }
+
+    private static PerformanceSummary copy(PerformanceSummary summary) {
+        return new PerformanceSummary()
+                .setName(summary.getName())
+                .setIterations(summary.getIterations())
+                .setMeanMillis(summary.getMeanMillis())
+                .setStdDevMillis(summary.getStdDevMillis())
+                .setP50Millis(summary.getP50Millis())
+                .setP90Millis(summary.getP90Millis())
+                .setP99Millis(summary.getP99Millis())
+                .setMaxMillis(summary.getMaxMillis());
+    }
+
+    private static String readProperty(String key, String defaultValue) {
+        try {
+            String value = getGlobalProperty(key);
+            return value == null || value.isBlank() ? defaultValue : value.trim();
+        } catch (Throwable t) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package metricsReport;
+
+/**
+ * Timing summary of a @Performance test, or of one of its named steps (see {@link PerformanceTimer}).
+ * Exported with the test's metric to the Elastic report, and stored as the baseline of later runs
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class PerformanceSummary {
+    private String name;
+    private int iterations;
+    private double meanMillis;
+    private double stdDevMillis;
+    private double p50Millis;
+    private double p90Millis;
+    private double p99Millis;
+    private double maxMillis;
+    //the compared percentile and its baseline value, 0 if there was no baseline
+    private double percentile;
+    private double baselineMillis;
+    private boolean regression;
+
+    public String getName() {
+        return name;
+    }
+
+    public PerformanceSummary setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public PerformanceSummary setIterations(int iterations) {
+        this.iterations = iterations;
+        return this;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public PerformanceSummary setMeanMillis(double meanMillis) {
+        this.meanMillis = meanMillis;
+        return this;
+    }
+
+    public double getStdDevMillis() {
+        return stdDevMillis;
+    }
+
+    public PerformanceSummary setStdDevMillis(double stdDevMillis) {
+        this.stdDevMillis = stdDevMillis;
+        return this;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public PerformanceSummary setP50Millis(double p50Millis) {
+        this.p50Millis = p50Millis;
+        return this;
+    }
+
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    public PerformanceSummary setP90Millis(double p90Millis) {
+        this.p90Millis = p90Millis;
+        return this;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public PerformanceSummary setP99Millis(double p99Millis) {
+        this.p99Millis = p99Millis;
+        return this;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public PerformanceSummary setMaxMillis(double maxMillis) {
+        this.maxMillis = maxMillis;
+        return this;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public PerformanceSummary setPercentile(double percentile) {
+        this.percentile = percentile;
+        return this;
+    }
+
+    public double getBaselineMillis() {
+        return baselineMillis;
+    }
+
+    public PerformanceSummary setBaselineMillis(double baselineMillis) {
+        this.baselineMillis = baselineMillis;
+        return this;
+    }
+
+    public boolean isRegression() {
+        return regression;
+    }
+
+    public PerformanceSummary setRegression(boolean regression) {
+        this.regression = regression;
+        return this;
+    }
+
+    /**
+     * The stored percentiles are p50, p90, p99 and max (p100). Other percentiles are interpolated linearly between the two
+     * stored percentiles around them, e.g. p95 is between p90 and p99. Percentiles below 50 are not stored and cannot be interpolated
+     * @param percentile a percentile between 50 and 100
+     * @return the value of the percentile in milliseconds
+     * @throws Error if the percentile is not between 50 and 100
+     */
+    public double getPercentileMillis(double percentile) {
+        validatePercentile(percentile);
+        if (percentile <= 90)
+            return p50Millis + (p90Millis - p50Millis) * (percentile - 50) / 40;
+        if (percentile <= 99)
+            return p90Millis + (p99Millis - p90Millis) * (percentile - 90) / 9;
+        return p99Millis + (maxMillis - p99Millis) * (percentile - 99);
+    }
+
+    /**
+     * @param percentile a percentile to compare by
+     * @throws Error if the percentile is not between 50 and 100, the range {@link #getPercentileMillis(double)} supports
+     */
+    public static void validatePercentile(double percentile) {
+        if (!(percentile >= 50 && percentile <= 100))
+            throw new Error(String.format("Percentile %s is not supported. The performance summaries support percentiles between 50 and 100", percentile));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: iterations=%d, mean=%.2fms, stdDev=%.2fms, p50=%.2fms, p90=%.2fms, p99=%.2fms, max=%.2fms",
+                name, iterations, meanMillis, stdDevMillis, p50Millis, p90Millis, p99Millis, maxMillis);
+    }
+}
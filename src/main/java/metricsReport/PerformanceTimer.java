@@ -0,0 +1,140 @@
+package metricsReport;
+
+import Store.Store;
+import Store.StoreManager;
+import Store.StoreType;
+import collectionUtils.NumericAccumulator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static enumerations.TestMetricsEnum.PERFORMANCE_STATISTICS;
+
+/**
+ * Timings of the test running on the current thread - the whole test method and its named steps.<br>
+ * Time a step inside a test with {@link #step(String, Runnable)}. In a @Performance test every iteration adds a sample
+ * of each step, the warmup iterations are not recorded (see extensions.PerformanceExtension).
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class PerformanceTimer {
+
+    //The samples of the whole test method
+    public static final String TEST = "test";
+
+    //The samples are accumulated as primitives, recording a sample does not box it
+    private final Map<String, NumericAccumulator> samples = new LinkedHashMap<>();
+    private volatile boolean recording = true;
+    private List<PerformanceSummary> summaries = null;
+
+    /**
+     * Get the timer of the test running on the current thread. Creates it if it does not exist yet
+     * @return the timer of the current test
+     */
+    public static PerformanceTimer getCurrentTestTimer() {
+        Store store = StoreManager.getStore(StoreType.LOCAL_THREAD);
+        synchronized (store) {
+            PerformanceTimer timer = store.getValueFromStore(PERFORMANCE_STATISTICS);
+            if (timer == null) {
+                timer = new PerformanceTimer();
+                store.putValueInStore(PERFORMANCE_STATISTICS, timer);
+            }
+            return timer;
+        }
+    }
+
+    /**
+     * Start a new timer for the test running on the current thread
+     * @return the new timer
+     */
+    public static PerformanceTimer resetCurrentTestTimer() {
+        PerformanceTimer timer = new PerformanceTimer();
+        StoreManager.getStore(StoreType.LOCAL_THREAD).putValueInStore(PERFORMANCE_STATISTICS, timer);
+        return timer;
+    }
+
+    /**
+     * Time a named step of the current test
+     * @param name the step's name
+     * @param step the step
+     */
+    public static void step(String name, Runnable step) {
+        step(name, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    /**
+     * Time a named step of the current test
+     * @param name the step's name
+     * @param step the step
+     * @return the step's result
+     */
+    public static <T> T step(String name, Supplier<T> step) {
+        PerformanceTimer timer = getCurrentTestTimer();
+        long start = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            timer.record(name, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Record a sample. Ignored while the timer is not recording (during warmup)
+     * @param name the test or step name
+     * @param nanos the duration
+     */
+    public synchronized void record(String name, long nanos) {
+        if (recording)
+            samples.computeIfAbsent(name, n -> new NumericAccumulator()).add(nanos);
+    }
+
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * @return the names of the test and steps that have samples, in the order they were first recorded
+     */
+    public synchronized List<String> getNames() {
+        return new ArrayList<>(samples.keySet());
+    }
+
+    /**
+     * Summarize the samples of a test or step
+     * @param name the test or step name
+     * @return the summary, or null if there are no samples
+     */
+    public synchronized PerformanceSummary summarize(String name) {
+        NumericAccumulator accumulator = samples.get(name);
+        if (accumulator == null || accumulator.getCount() == 0)
+            return null;
+        double[] percentiles = accumulator.getPercentiles(50, 90, 99);
+
+        return new PerformanceSummary()
+                .setName(name)
+                .setIterations((int) accumulator.getCount())
+                .setMeanMillis(accumulator.getMean() / 1e6)
+                .setStdDevMillis(accumulator.getStdDev() / 1e6)
+                .setP50Millis(percentiles[0] / 1e6)
+                .setP90Millis(percentiles[1] / 1e6)
+                .setP99Millis(percentiles[2] / 1e6)
+                .setMaxMillis(accumulator.getMax() / 1e6);
+    }
+
+    /**
+     * @return the summaries compared to the baseline by the extension, or null if the test is not a @Performance test
+     */
+    public List<PerformanceSummary> getSummaries() {
+        return summaries;
+    }
+
+    public void setSummaries(List<PerformanceSummary> summaries) {
+        this.summaries = summaries;
+    }
+}
@@ -67,6 +67,15 @@ public class TestMetric {
     private String bugSeverityForSomeBugs;
     private String bugDateCreationForSomeBugs;
     private String openBugDays;
+    //number of attempts that followed a failed attempt, see waitUtils.RetryPolicy
+    private int retryCount = 0;
+    //time spent on failed attempts and on the delays between them, in milliseconds
+    private long retryTimeLost = 0;
+    //WebDriver command latencies per command type and of the slowest locators, see listeners.WebDriverPerformanceLogger
+    private List<CommandLatencySummary> commandLatencies;
+    private long slowCommandCount = 0;
+    //timings of a @Performance test and its steps, see extensions.PerformanceExtension
+    private List<PerformanceSummary> performanceTimings;
 
     public List<String> getTags() {
         return tags;
@@ -92,6 +101,51 @@ public class TestMetric {
         return this;
     }
 
+    public int getRetryCount() {
+        return retryCount;
+    }
+
+    public TestMetric setRetryCount(int retryCount) {
+        this.retryCount = retryCount;
+        return this;
+    }
+
+    public long getRetryTimeLost() {
+        return retryTimeLost;
+    }
+
+    public TestMetric setRetryTimeLost(long retryTimeLost) {
+        this.retryTimeLost = retryTimeLost;
+        return this;
+    }
+
+    public List<CommandLatencySummary> getCommandLatencies() {
+        return commandLatencies;
+    }
+
+    public TestMetric setCommandLatencies(List<CommandLatencySummary> commandLatencies) {
+        this.commandLatencies = commandLatencies;
+        return this;
+    }
+
+    public long getSlowCommandCount() {
+        return slowCommandCount;
+    }
+
+    public TestMetric setSlowCommandCount(long slowCommandCount) {
+        this.slowCommandCount = slowCommandCount;
+        return this;
+    }
+
+    public List<PerformanceSummary> getPerformanceTimings() {
+        return performanceTimings;
+    }
+
+    public TestMetric setPerformanceTimings(List<PerformanceSummary> performanceTimings) {
+        this.performanceTimings = performanceTimings;
+        return this;
+    }
+
     public String getOpenBugDays() {
         return openBugDays;
     }
@@ -0,0 +1,203 @@
+package objectsUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The fields of a class with precomputed accessors, resolved once per class.
+ * Used by the utilities that read or compare objects field by field, so comparing many objects of the same class
+ * does not look up and open the fields again for each object.<br>
+ * The accessors are built from VarHandles, so reading a field is close to a direct field access,
+ * and primitive fields are compared without boxing
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> cache = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+    private volatile List<FieldAccessor> declaredFields;
+    private volatile List<FieldAccessor> publicFields;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * @param type the class
+     * @return the cached metadata of the class
+     */
+    public static ClassMetadata of(Class<?> type) {
+        return cache.get(type);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the fields declared in the class, of any access, in the order of Class.getDeclaredFields
+     */
+    public List<FieldAccessor> getDeclaredFields() {
+        List<FieldAccessor> fields = declaredFields;
+        if (fields == null) {
+            fields = toAccessors(type.getDeclaredFields());
+            declaredFields = fields;
+        }
+        return fields;
+    }
+
+    /**
+     * @return the public fields of the class, including the inherited ones, in the order of Class.getFields
+     */
+    public List<FieldAccessor> getPublicFields() {
+        List<FieldAccessor> fields = publicFields;
+        if (fields == null) {
+            fields = toAccessors(type.getFields());
+            publicFields = fields;
+        }
+        return fields;
+    }
+
+    /**
+     * Compare 2 objects of the class field by field
+     * @param first the first object
+     * @param second the second object
+     * @param fields the fields to compare, e.g. {@link #getPublicFields()}
+     * @return the fields whose values are not equal, in the order of the given fields
+     */
+    public List<FieldAccessor> getDifferentFields(Object first, Object second, List<FieldAccessor> fields) {
+        List<FieldAccessor> differentFields = new ArrayList<>();
+        for (FieldAccessor field : fields)
+            if (!field.areValuesEqual(first, second))
+                differentFields.add(field);
+        return differentFields;
+    }
+
+    private List<FieldAccessor> toAccessors(Field[] fields) {
+        List<FieldAccessor> accessors = new ArrayList<>(fields.length);
+        for (Field field : fields)
+            accessors.add(new FieldAccessor(field));
+        return Collections.unmodifiableList(accessors);
+    }
+
+    /**
+     * Reads one field of objects of the class. The getter is a MethodHandle of type (Object)Object for any field,
+     * and a primitive typed getter (Object)primitive for primitive fields
+     */
+    public static final class FieldAccessor {
+        private final Field field;
+        private final Class<?> fieldType;
+        private final MethodHandle getter;
+        private final MethodHandle primitiveGetter;
+
+        private FieldAccessor(Field field) {
+            this.field = field;
+            this.fieldType = field.getType();
+
+            MethodHandle typedGetter = createGetter(field);
+            //Static fields have no receiver - ignore the given object
+            if (Modifier.isStatic(field.getModifiers()))
+                typedGetter = MethodHandles.dropArguments(typedGetter, 0, Object.class);
+            else
+                typedGetter = typedGetter.asType(typedGetter.type().changeParameterType(0, Object.class));
+
+            this.getter = typedGetter.asType(MethodType.methodType(Object.class, Object.class));
+            this.primitiveGetter = fieldType.isPrimitive() ? typedGetter : null;
+        }
+
+        private static MethodHandle createGetter(Field field) {
+            try {
+                VarHandle varHandle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup()).unreflectVarHandle(field);
+                return varHandle.toMethodHandle(VarHandle.AccessMode.GET);
+            }
+            catch (IllegalAccessException | IllegalArgumentException e) {
+                //The class is in a module that is not open to this one, fall back to an accessible reflected field
+                try {
+                    field.setAccessible(true);
+                    return MethodHandles.lookup().unreflectGetter(field);
+                }
+                catch (IllegalAccessException | RuntimeException ex) {
+                    throw new Error(String.format("Failed to access field '%s' of class %s<br>Error: %s", field.getName(), field.getDeclaringClass().getName(), ex.getMessage()));
+                }
+            }
+        }
+
+        public String getName() {
+            return field.getName();
+        }
+
+        public Class<?> getFieldType() {
+            return fieldType;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * @param object the object to read from, ignored for static fields
+         * @return the field value, primitives are boxed
+         */
+        public Object get(Object object) {
+            try {
+                return (Object) getter.invokeExact(object);
+            }
+            catch (Throwable e) {
+                throw new Error(String.format("Failed to read field '%s' of %s<br>Error: %s", field.getName(), field.getDeclaringClass().getName(), e));
+            }
+        }
+
+        /**
+         * Compare the field value in 2 objects. Primitive values are compared without boxing, the same way their wrappers' equals does.
+         * Other values are compared with Objects.equals
+         * @param first the first object
+         * @param second the second object
+         * @return true if the values are equal
+         */
+        public boolean areValuesEqual(Object first, Object second) {
+            if (primitiveGetter == null)
+                return Objects.equals(get(first), get(second));
+
+            try {
+                if (fieldType == int.class)
+                    return (int) primitiveGetter.invokeExact(first) == (int) primitiveGetter.invokeExact(second);
+                if (fieldType == long.class)
+                    return (long) primitiveGetter.invokeExact(first) == (long) primitiveGetter.invokeExact(second);
+                if (fieldType == double.class)
+                    return Double.doubleToLongBits((double) primitiveGetter.invokeExact(first)) == Double.doubleToLongBits((double) primitiveGetter.invokeExact(second));
+                if (fieldType == boolean.class)
+                    return (boolean) primitiveGetter.invokeExact(first) == (boolean) primitiveGetter.invokeExact(second);
+                if (fieldType == float.class)
+                    return Float.floatToIntBits((float) primitiveGetter.invokeExact(first)) == Float.floatToIntBits((float) primitiveGetter.invokeExact(second));
+                if (fieldType == char.class)
+                    return (char) primitiveGetter.invokeExact(first) == (char) primitiveGetter.invokeExact(second);
+                if (fieldType == short.class)
+                    return (short) primitiveGetter.invokeExact(first) == (short) primitiveGetter.invokeExact(second);
+                return (byte) primitiveGetter.invokeExact(first) == (byte) primitiveGetter.invokeExact(second);
+            }
+            catch (Throwable e) {
+                throw new Error(String.format("Failed to read field '%s' of %s<br>Error: %s", field.getName(), field.getDeclaringClass().getName(), e));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return field.toString();
+        }
+    }
+}
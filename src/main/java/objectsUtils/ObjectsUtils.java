@@ -13,9 +13,12 @@ import org.slf4j.LoggerFactory;
 import tableUtils.PrettyPrintTable;
 
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static reportUtils.Report.reportAndLog;
 
@@ -28,6 +31,14 @@ public class ObjectsUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(ObjectsUtils.class);
 
+    //The constructors resolved by newInstance, per class and the argument types
+    private static final ClassValue<Map<List<Class<?>>, MethodHandle>> constructorsCache = new ClassValue<>() {
+        @Override
+        protected Map<List<Class<?>>, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /**
      * Creates a new instance of the desired object.
      * The method searches all the object's constructors and find the matching one to create the object with.
@@ -43,24 +54,53 @@ public class ObjectsUtils {
      * @since 24.11.2021
      * @author Dafna Genosar
      * @since 06.10.2024
+     * @since 19.10.2026
      */
     public static <T, P> T newInstance(Class<T> classType, @Nullable P... params) {
 
+        Object[] arguments = params == null ? new Object[0] : params;
+
+        //The constructor is resolved once per class and argument types, then invoked through a bound MethodHandle
+        Class<?>[] argumentTypes = new Class<?>[arguments.length];
+        for (int i = 0; i < arguments.length; i++)
+            argumentTypes[i] = arguments[i].getClass();
+
+        MethodHandle constructor = constructorsCache.get(classType)
+                .computeIfAbsent(Arrays.asList(argumentTypes), types -> resolveConstructor(classType, argumentTypes));
+
+        try {
+            return (T) (Object) constructor.invokeExact(arguments);
+        }
+        catch (Throwable e) {
+            throw new Error(String.format("Failed to create a new instance of class %s<br>Error: %s", classType, e.getMessage()));
+        }
+    }
+
+    /**
+     * Find the constructor of the class that matches the argument types, and bind it as a MethodHandle of type (Object[])Object
+     * @param classType the class type
+     * @param argumentTypes the classes of the arguments
+     * @return the constructor MethodHandle
+     * @since 19.10.2026
+     */
+    private static MethodHandle resolveConstructor(Class<?> classType, Class<?>[] argumentTypes) {
 
         //Get all the class's constructors
         Constructor<?>[] classConstructors = classType.getConstructors();
 
         logger.info(String.format("Number of class constructors: %d", classConstructors.length));
 
-        for (int i=0; i < classConstructors.length; i++) {
+        for (Constructor<?> classConstructor : classConstructors) {
 
-            //if the correct constructor was found, create a new instance
-            if(isMatchingConstructor(classConstructors[i], params)) {
+            //if the correct constructor was found, bind it
+            if (isMatchingConstructor(classConstructor, argumentTypes)) {
                 try {
-                    logger.info(String.format("Create new instance of %s with Param: %s", classType,params));
-                    return (T) classConstructors[i].newInstance(params);
+                    logger.info(String.format("Resolved constructor of %s for params: %s", classType, Arrays.toString(argumentTypes)));
+                    return MethodHandles.lookup().unreflectConstructor(classConstructor)
+                            .asType(MethodType.genericMethodType(argumentTypes.length))
+                            .asSpreader(Object[].class, argumentTypes.length);
                 }
-                catch (Throwable e) {
+                catch (IllegalAccessException e) {
                     throw new Error(String.format("Failed to create a new instance of class %s<br>Error: %s", classType, e.getMessage()));
                 }
             }
@@ -69,30 +109,22 @@ public class ObjectsUtils {
         throw new Error(String.format("Could not create a new instance of '%s'. No matching constructor was found",classType));
     }
 
-    private static <P> boolean isMatchingConstructor(Constructor<?> constructor, @Nullable P... param){
-
-        LinkedList<P> receivedParamsList = new LinkedList<>();
-
-        if(param != null)
-            receivedParamsList = new LinkedList<>(Arrays.asList(param));
-
-        LinkedList<Class<?>> constructorParameterTypes = new LinkedList<>(Arrays.asList((constructor.getParameterTypes())));
+    private static boolean isMatchingConstructor(Constructor<?> constructor, Class<?>[] receivedParamTypes){
 
-        //Check if the number of received params matches the number of the current checked constructor
-        boolean numberOfConstructorParamsMatchesReceivedParams = constructorParameterTypes.size() == receivedParamsList.size();
+        Class<?>[] constructorParameterTypes = constructor.getParameterTypes();
 
         //Check if the constructor's number of parameters matches the received parames
-        if(!numberOfConstructorParamsMatchesReceivedParams)
+        if(constructorParameterTypes.length != receivedParamTypes.length)
             return false;
 
         //Go over the constructor params and check they match the received params
-        for(int i=0; i< constructorParameterTypes.size(); i++){
+        for(int i=0; i< constructorParameterTypes.length; i++){
 
-            Class<?> constructorParameterType = constructorParameterTypes.get(i);
-            P receivedParam = receivedParamsList.get(i);
+            Class<?> constructorParameterType = constructorParameterTypes[i];
+            Class<?> receivedParamType = receivedParamTypes[i];
 
             //Check if the param types match
-            if(!receivedParam.getClass().equals(constructorParameterType)){
+            if(!receivedParamType.equals(constructorParameterType)){
 
                 boolean bothParamsDriver = false;
                 boolean bothParamsElement = false;
@@ -100,21 +132,21 @@ public class ObjectsUtils {
                 boolean paramExtendsConstructorParam = false;
 
                 //Check if the received param (current checked param) is a WebDriver TesnetWebDriver
-                if(receivedParam.getClass().equals(WebDriver.class) || receivedParam.getClass().equals(TesnetWebDriver.class)) {
+                if(receivedParamType.equals(WebDriver.class) || receivedParamType.equals(TesnetWebDriver.class)) {
                     if(constructorParameterType.equals(WebDriver.class))
                         bothParamsDriver = true;
                 }
                 //Check if the received param (current checked param) is a WebElement or TesnetWebElement
-                else if(receivedParam.getClass().equals(WebElement.class) || receivedParam.getClass().equals(TesnetWebElement.class)){
+                else if(receivedParamType.equals(WebElement.class) || receivedParamType.equals(TesnetWebElement.class)){
                     if(constructorParameterType.equals(WebElement.class))
                         bothParamsElement = true;
                 }
                 //Check if the received param (current checked param) and the current constructor are Strings
-                else if(receivedParam.getClass().equals(String.class) && constructorParameterType.equals(String.class)) {
+                else if(receivedParamType.equals(String.class) && constructorParameterType.equals(String.class)) {
                     bothParamsString = true;
                 }
                 //Check if the received param (current checked param) and the current constructor are Strings
-                else if(constructorParameterType.isAssignableFrom(receivedParam.getClass())){
+                else if(constructorParameterType.isAssignableFrom(receivedParamType)){
                     paramExtendsConstructorParam = true;
                 }
 
@@ -209,6 +241,7 @@ public class ObjectsUtils {
      * @throws IllegalAccessException IllegalAccessException
      * @author Yael Rozenfeld
      * @since 2/10/2022
+     * @since 19.10.2026
      */
     public static List<HashMap<String,String>> getDifferenceBetweenObjects(Object firstObject,Object secondObject) throws IllegalAccessException  {
 
@@ -223,34 +256,16 @@ public class ObjectsUtils {
             return diffValues;
         }
 
-        Field[] objectFields =  firstObject.getClass().getFields();
-        for (Field field : objectFields) {
+        //The fields accessors are resolved once per class
+        ClassMetadata metadata = ClassMetadata.of(firstObject.getClass());
+        for (ClassMetadata.FieldAccessor field : metadata.getDifferentFields(firstObject, secondObject, metadata.getPublicFields())) {
             HashMap<String,String> itemDif= new HashMap<>();
-            //Indicates that the reflected object should suppress checks for Java language access control when it is used.
-            field.setAccessible(true);
             Object value1 = field.get(firstObject);
             Object value2 = field.get(secondObject);
-           if (value1 != null && value2 != null) {
-                if (!java.util.Objects.equals(value1, value2)) {
-                    itemDif.put("fieldName",field.getName());
-                    itemDif.put("firstObjectValue",String.valueOf(value1));
-                    itemDif.put("secondObjectValue",String.valueOf(value2));
-                    diffValues.add(itemDif);
-                }
-            }
-            else if (value1 != null && value2 == null) {
-                itemDif.put("fieldName",field.getName());
-                itemDif.put("firstObjectValue",String.valueOf(value1));
-                itemDif.put("secondObjectValue","Null");
-                diffValues.add(itemDif);
-            }
-            else if(value1 == null && value2 != null) {
-                itemDif.put("fieldName", field.getName());
-                itemDif.put("firstObjectValue", "Null");
-                itemDif.put("secondObjectValue", String.valueOf(value2));
-                diffValues.add(itemDif);
-            }
-
+            itemDif.put("fieldName", field.getName());
+            itemDif.put("firstObjectValue", value1 == null ? "Null" : String.valueOf(value1));
+            itemDif.put("secondObjectValue", value2 == null ? "Null" : String.valueOf(value2));
+            diffValues.add(itemDif);
         }
         return diffValues;
     }
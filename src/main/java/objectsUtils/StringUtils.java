@@ -3,7 +3,6 @@ package objectsUtils;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.text.WordUtils;
-import org.apache.commons.text.diff.StringsComparator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -156,31 +155,35 @@ public class StringUtils extends WordUtils{
      * @return hashMap with keys "left" and "right" that represent the differences
      * @author Genosar.dafna
      * @since 11.01.2024
+     * @since 19.10.2026
      */
     public static HashMap<String, String> getStringsDifferences(String str1, String str2) {
 
-        char[] str1Arr = str1.toCharArray();
-        char[] str2Arr = str2.toCharArray();
-
-        str1 = "";
-        for (char c: str1Arr) {
-            str1 = String.format("%s%sא", str1, c);
-        }
-
-        str2 = "";
-        for (char c: str2Arr) {
-            str2 = String.format("%s%sא", str2, c);
+        StringBuilder left = new StringBuilder(str1.length() + 16);
+        StringBuilder right = new StringBuilder(str2.length() + 16);
+
+        for (TextDiff.Edit edit : TextDiff.diffCharacters(str1, str2)) {
+            String text = edit.getText();
+            switch (edit.getOperation()) {
+                case EQUAL -> {
+                    left.append(text);
+                    right.append(text);
+                }
+                case DELETE -> {
+                    for (int i = 0; i < text.length(); i++)
+                        left.append("{{").append(text.charAt(i)).append("}}");
+                }
+                case INSERT -> {
+                    for (int i = 0; i < text.length(); i++)
+                        right.append("((").append(text.charAt(i)).append("))");
+                }
+            }
         }
 
-        StringsComparator comparator = new StringsComparator(str1, str2);
-        StringCommandsVisitor stringCommandsVisitor = new StringCommandsVisitor();
-
-        comparator.getScript().visit(stringCommandsVisitor);
-
         HashMap<String, String> diffs = new HashMap<>();
 
-        diffs.put("left", stringCommandsVisitor.left.replace("{{א}}", "").replace("א", ""));
-        diffs.put("right", stringCommandsVisitor.right.replace("((א))", "").replace("א", ""));
+        diffs.put("left", left.toString());
+        diffs.put("right", right.toString());
 
         return diffs;
     }
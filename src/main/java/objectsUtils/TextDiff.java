@@ -0,0 +1,278 @@
+package objectsUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The differences between 2 texts, by characters or by words, with Myers' O(ND) diff algorithm in linear space
+ * (the "middle snake" divide and conquer).<br>
+ * The result is a minimal edit script: the runs of text that are equal in both texts, deleted from the first or inserted to the second,
+ * in the order of the texts. The time is O((N+M)D) where D is the number of different tokens, so texts that differ in a few places
+ * are compared in about linear time regardless of their length
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public final class TextDiff {
+
+    /**
+     * Above this number of different tokens in a compared section, the section is reported as replaced entirely
+     * instead of searching further for a minimal script. Keeps completely different long texts from taking O(N*M)
+     */
+    private static final int MAX_EDIT_DISTANCE = 5_000;
+
+    public enum Operation {EQUAL, DELETE, INSERT}
+
+    private TextDiff() {
+    }
+
+    /**
+     * Compare 2 texts character by character
+     * @param first the first text
+     * @param second the second text
+     * @return the edit runs, adjacent runs of the same operation are merged
+     */
+    public static List<Edit> diffCharacters(String first, String second) {
+        int[] firstTokens = new int[first.length()];
+        for (int i = 0; i < firstTokens.length; i++)
+            firstTokens[i] = first.charAt(i);
+        int[] secondTokens = new int[second.length()];
+        for (int i = 0; i < secondTokens.length; i++)
+            secondTokens[i] = second.charAt(i);
+
+        return diff(first, second, firstTokens, secondTokens, null, null);
+    }
+
+    /**
+     * Compare 2 texts word by word. A word is a run of non whitespace characters, the whitespace between the words is compared as a token as well
+     * @param first the first text
+     * @param second the second text
+     * @return the edit runs, adjacent runs of the same operation are merged
+     */
+    public static List<Edit> diffWords(String first, String second) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<Integer> firstStarts = new ArrayList<>();
+        List<Integer> secondStarts = new ArrayList<>();
+        int[] firstTokens = tokenizeWords(first, ids, firstStarts);
+        int[] secondTokens = tokenizeWords(second, ids, secondStarts);
+
+        return diff(first, second, firstTokens, secondTokens, toOffsets(firstStarts, first.length()), toOffsets(secondStarts, second.length()));
+    }
+
+    private static int[] tokenizeWords(String text, Map<String, Integer> ids, List<Integer> starts) {
+        List<Integer> tokens = new ArrayList<>();
+        int start = 0;
+        while (start < text.length()) {
+            boolean whitespace = Character.isWhitespace(text.charAt(start));
+            int end = start + 1;
+            while (end < text.length() && Character.isWhitespace(text.charAt(end)) == whitespace)
+                end++;
+            String token = text.substring(start, end);
+            Integer id = ids.get(token);
+            if (id == null) {
+                id = ids.size();
+                ids.put(token, id);
+            }
+            tokens.add(id);
+            starts.add(start);
+            start = end;
+        }
+        return tokens.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] toOffsets(List<Integer> starts, int length) {
+        int[] offsets = new int[starts.size() + 1];
+        for (int i = 0; i < starts.size(); i++)
+            offsets[i] = starts.get(i);
+        offsets[starts.size()] = length;
+        return offsets;
+    }
+
+    /**
+     * @param firstOffsets the start index in the text of every token, and the text length at the end. null when every token is 1 character
+     */
+    private static List<Edit> diff(String first, String second, int[] firstTokens, int[] secondTokens, int[] firstOffsets, int[] secondOffsets) {
+        boolean[] deleted = new boolean[firstTokens.length];
+        boolean[] inserted = new boolean[secondTokens.length];
+        new Comparison(firstTokens, secondTokens, deleted, inserted).compare(0, firstTokens.length, 0, secondTokens.length);
+
+        //Walk both texts once and merge the tokens into runs
+        List<Edit> edits = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < deleted.length || j < inserted.length) {
+            if (i < deleted.length && deleted[i]) {
+                int start = i;
+                while (i < deleted.length && deleted[i])
+                    i++;
+                edits.add(new Edit(Operation.DELETE, substring(first, firstOffsets, start, i)));
+            }
+            else if (j < inserted.length && inserted[j]) {
+                int start = j;
+                while (j < inserted.length && inserted[j])
+                    j++;
+                edits.add(new Edit(Operation.INSERT, substring(second, secondOffsets, start, j)));
+            }
+            else {
+                int start = i;
+                while (i < deleted.length && j < inserted.length && !deleted[i] && !inserted[j]) {
+                    i++;
+                    j++;
+                }
+                edits.add(new Edit(Operation.EQUAL, substring(first, firstOffsets, start, i)));
+            }
+        }
+        return edits;
+    }
+
+    private static String substring(String text, int[] offsets, int fromToken, int toToken) {
+        return offsets == null ? text.substring(fromToken, toToken) : text.substring(offsets[fromToken], offsets[toToken]);
+    }
+
+    /**
+     * Marks the tokens that are not in the longest common subsequence of the 2 token arrays
+     */
+    private static class Comparison {
+        private final int[] a;
+        private final int[] b;
+        private final boolean[] deleted;
+        private final boolean[] inserted;
+
+        private Comparison(int[] a, int[] b, boolean[] deleted, boolean[] inserted) {
+            this.a = a;
+            this.b = b;
+            this.deleted = deleted;
+            this.inserted = inserted;
+        }
+
+        private void compare(int aStart, int aEnd, int bStart, int bEnd) {
+            //The common prefix and suffix are equal, no need to search them
+            while (aStart < aEnd && bStart < bEnd && a[aStart] == b[bStart]) {
+                aStart++;
+                bStart++;
+            }
+            while (aStart < aEnd && bStart < bEnd && a[aEnd - 1] == b[bEnd - 1]) {
+                aEnd--;
+                bEnd--;
+            }
+
+            if (aStart == aEnd)
+                Arrays.fill(inserted, bStart, bEnd, true);
+            else if (bStart == bEnd)
+                Arrays.fill(deleted, aStart, aEnd, true);
+            else {
+                int[] split = middleSnake(aStart, aEnd, bStart, bEnd);
+                if (split == null) {
+                    Arrays.fill(deleted, aStart, aEnd, true);
+                    Arrays.fill(inserted, bStart, bEnd, true);
+                }
+                else {
+                    compare(aStart, split[0], bStart, split[1]);
+                    compare(split[0], aEnd, split[1], bEnd);
+                }
+            }
+        }
+
+        /**
+         * Search forward from the start and backward from the end at the same time, until the paths overlap
+         * @return the point {a index, b index} the optimal path passes through, or null if no common token was found within the edit limit
+         */
+        private int[] middleSnake(int aStart, int aEnd, int bStart, int bEnd) {
+            int n = aEnd - aStart;
+            int m = bEnd - bStart;
+            int maxD = Math.min((n + m + 1) / 2, MAX_EDIT_DISTANCE);
+            int offset = maxD + 1;
+            int length = 2 * offset + 1;
+            //the furthest x reached on every diagonal k = x - y, forward and backward
+            int[] forward = new int[length];
+            int[] backward = new int[length];
+            Arrays.fill(forward, -1);
+            Arrays.fill(backward, -1);
+            forward[offset + 1] = 0;
+            backward[offset + 1] = 0;
+            int delta = n - m;
+            //when the delta is odd the paths overlap on a forward step, when even on a backward step
+            boolean oddDelta = (delta & 1) != 0;
+            //diagonals that went off the edit graph are not extended anymore
+            int forwardStart = 0;
+            int forwardEnd = 0;
+            int backwardStart = 0;
+            int backwardEnd = 0;
+
+            for (int d = 0; d < maxD; d++) {
+                for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) {
+                    int index = offset + k;
+                    int x = k == -d || (k != d && forward[index - 1] < forward[index + 1]) ? forward[index + 1] : forward[index - 1] + 1;
+                    int y = x - k;
+                    while (x < n && y < m && a[aStart + x] == b[bStart + y]) {
+                        x++;
+                        y++;
+                    }
+                    forward[index] = x;
+                    if (x > n)
+                        forwardEnd += 2;
+                    else if (y > m)
+                        forwardStart += 2;
+                    else if (oddDelta) {
+                        int backwardIndex = offset + delta - k;
+                        if (backwardIndex >= 0 && backwardIndex < length && backward[backwardIndex] != -1 && x >= n - backward[backwardIndex])
+                            return new int[]{aStart + x, bStart + y};
+                    }
+                }
+
+                for (int k = -d + backwardStart; k <= d - backwardEnd; k += 2) {
+                    int index = offset + k;
+                    int x = k == -d || (k != d && backward[index - 1] < backward[index + 1]) ? backward[index + 1] : backward[index - 1] + 1;
+                    int y = x - k;
+                    while (x < n && y < m && a[aEnd - x - 1] == b[bEnd - y - 1]) {
+                        x++;
+                        y++;
+                    }
+                    backward[index] = x;
+                    if (x > n)
+                        backwardEnd += 2;
+                    else if (y > m)
+                        backwardStart += 2;
+                    else if (!oddDelta) {
+                        int forwardIndex = offset + delta - k;
+                        if (forwardIndex >= 0 && forwardIndex < length && forward[forwardIndex] != -1) {
+                            int forwardX = forward[forwardIndex];
+                            int forwardY = forwardX - (forwardIndex - offset);
+                            if (forwardX >= n - x)
+                                return new int[]{aStart + forwardX, bStart + forwardY};
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A run of text and what happened to it
+     */
+    public static class Edit {
+        private final Operation operation;
+        private final String text;
+
+        public Edit(Operation operation, String text) {
+            this.operation = operation;
+            this.text = text;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public String toString() {
+            return operation + ": \"" + text + "\"";
+        }
+    }
+}
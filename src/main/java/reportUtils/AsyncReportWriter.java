@@ -0,0 +1,168 @@
+package reportUtils;
+
+import com.relevantcodes.extentreports.ExtentTest;
+import enumerations.MessageLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static propertyUtils.PropertyUtils.getGlobalProperty;
+
+/**
+ * Writes the messages of {@link Report#reportAndLog} to the Extent report and to the log on a background thread.<br>
+ * Enabled by asyncReport=true in the global properties. Each test thread has its own lock-free queue, so the messages
+ * of a test keep their order. A test thread writes its own queued messages before it accesses its report directly
+ * ({@link Managers.ReportInstanceManager#getCurrentTestReport()}), and the queues are written at afterEach and afterAll.<br>
+ * The log lines are prefixed with the name of the test thread that reported them.
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class AsyncReportWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncReportWriter.class);
+
+    private static final boolean enabled = Boolean.parseBoolean(readEnabledProperty());
+    private static final Map<Long, ThreadQueue> queues = new ConcurrentHashMap<>();
+    private static final BlockingQueue<ThreadQueue> pendingQueues = new LinkedBlockingQueue<>();
+
+    static {
+        if (enabled) {
+            Thread writer = new Thread(AsyncReportWriter::writeLoop, "async-report-writer");
+            writer.setDaemon(true);
+            writer.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(AsyncReportWriter::flushAll, "async-report-flush"));
+        }
+    }
+
+    private AsyncReportWriter(){}
+
+    /**
+     * @return true if the report messages are written asynchronously
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queue a message of the current test thread
+     * @param msg the message, may contain html
+     * @param ml the message level
+     * @param testReport the test's report, or null to only log the message
+     */
+    static void enqueue(String msg, MessageLevel ml, @Nullable ExtentTest testReport) {
+        Thread thread = Thread.currentThread();
+        ThreadQueue queue = queues.computeIfAbsent(thread.getId(), id -> new ThreadQueue());
+        queue.messages.add(new ReportMessage(msg, ml, testReport, thread.getName()));
+        if (queue.pending.compareAndSet(false, true))
+            pendingQueues.add(queue);
+    }
+
+    /**
+     * Write the queued messages of the current thread, on the current thread
+     */
+    public static void flushCurrentThread() {
+        if (!enabled)
+            return;
+        ThreadQueue queue = queues.get(Thread.currentThread().getId());
+        if (queue != null && !queue.messages.isEmpty())
+            queue.write();
+    }
+
+    /**
+     * Write the queued messages of the current thread, on the current thread, and release its queue.
+     * Called when the thread's test ends, so the queues of finished test threads are not kept
+     */
+    public static void flushAndReleaseCurrentThread() {
+        if (!enabled)
+            return;
+        //only the current thread adds to its queue, so nothing is added between the removal and the write
+        ThreadQueue queue = queues.remove(Thread.currentThread().getId());
+        if (queue != null)
+            queue.write();
+    }
+
+    /**
+     * Write the queued messages of all the threads, on the current thread
+     */
+    public static void flushAll() {
+        if (!enabled)
+            return;
+        for (ThreadQueue queue : queues.values())
+            queue.write();
+    }
+
+    private static void writeLoop() {
+        while (true) {
+            try {
+                ThreadQueue queue = pendingQueues.take();
+                queue.pending.set(false);
+                queue.write();
+            } catch (InterruptedException e) {
+                return;
+            } catch (Throwable t) {
+                logger.warn("Failed to write report messages: " + t.getMessage());
+            }
+        }
+    }
+
+    private static String readEnabledProperty() {
+        try {
+            return getGlobalProperty("asyncReport");
+        } catch (Throwable t) {
+            return "false";
+        }
+    }
+
+    /**
+     * Messages of one test thread. The lock keeps the background writer and a flushing test thread from interleaving
+     */
+    private static class ThreadQueue {
+        private final Queue<ReportMessage> messages = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean pending = new AtomicBoolean();
+        private final ReentrantLock writeLock = new ReentrantLock();
+
+        private void write() {
+            writeLock.lock();
+            try {
+                ReportMessage message;
+                while ((message = messages.poll()) != null)
+                    message.write();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private static class ReportMessage {
+        private final String msg;
+        private final MessageLevel ml;
+        private final ExtentTest testReport;
+        private final String threadName;
+
+        private ReportMessage(String msg, MessageLevel ml, ExtentTest testReport, String threadName) {
+            this.msg = msg;
+            this.ml = ml;
+            this.testReport = testReport;
+            this.threadName = threadName;
+        }
+
+        private void write() {
+            try {
+                //the test thread that flushes its own messages does not need the prefix
+                String prefix = Thread.currentThread().getName().equals(threadName) ? null : threadName;
+                Report.write(msg, ml, testReport, prefix);
+            } catch (Throwable t) {
+                logger.warn("Failed to write report message: " + t.getMessage());
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package reportUtils;
 
 import Managers.ReportInstanceManager;
 import Managers.WebDriverInstanceManager;
+import com.relevantcodes.extentreports.ExtentTest;
 import com.relevantcodes.extentreports.LogStatus;
 import dateTimeUtils.DateTime;
 import enumerations.BugSeverityEnum;
@@ -63,45 +64,82 @@ public class Report {
      */
     public static void reportAndLog(String msg, MessageLevel ml){
 
-        String reportMsg = msg.replace("/n", "<br/>").replace("\n", "<br/>");
-        String logMsg = removeHtmlTagsForLog(msg);
+        ExtentTest testReport = ReportInstanceManager.peekCurrentTestReport();
+        if (AsyncReportWriter.isEnabled())
+            AsyncReportWriter.enqueue(msg, ml, testReport);
+        else
+            write(msg, ml, testReport);
+    }
+
+    /**
+     * Write a message to the log and to the test's report.
+     * The html of the report and the log formatting are only built when they are written
+     * @param msg message to print both to log and report
+     * @param ml the message level from the MessageLevel Enumerator
+     * @param testReport the test's report, or null to only log the message
+     */
+    static void write(String msg, MessageLevel ml, @Nullable ExtentTest testReport){
+        write(msg, ml, testReport, null);
+    }
+
+    /**
+     * Write a message to the log and to the test's report.
+     * The html of the report and the log formatting are only built when they are written
+     * @param msg message to print both to log and report
+     * @param ml the message level from the MessageLevel Enumerator
+     * @param testReport the test's report, or null to only log the message
+     * @param threadName the name of the thread that reported the message, to prefix the log line with when it is written by another thread. null for no prefix
+     */
+    static void write(String msg, MessageLevel ml, @Nullable ExtentTest testReport, @Nullable String threadName){
 
         switch (ml) {
 
             case INFO:
-                logger.info(logMsg);
-                if (ReportInstanceManager.getCurrentTestReport() != null)
-                    ExtentReportUtils.extentLogger(LogStatus.INFO, reportMsg);
+                if (logger.isInfoEnabled())
+                    logger.info(toLogMessage(msg, threadName));
+                if (testReport != null)
+                    testReport.log(LogStatus.INFO, toReportMessage(msg));
                 break;
 
             case WARN:
-                logger.warn(logMsg);
-                if (ReportInstanceManager.getCurrentTestReport() != null) {
-                    ExtentReportUtils.extentLogger(LogStatus.WARNING, reportMsg);
-                }
+                if (logger.isWarnEnabled())
+                    logger.warn(toLogMessage(msg, threadName));
+                if (testReport != null)
+                    testReport.log(LogStatus.WARNING, toReportMessage(msg));
                 break;
 
             case ERROR:
-                logger.error(logMsg);
-                if (ReportInstanceManager.getCurrentTestReport() != null) {
-                    ExtentReportUtils.extentLogger(LogStatus.ERROR, reportMsg);
-                }
+                if (logger.isErrorEnabled())
+                    logger.error(toLogMessage(msg, threadName));
+                if (testReport != null)
+                    testReport.log(LogStatus.ERROR, toReportMessage(msg));
                 break;
 
             case FAIL:
-                logger.error(logMsg);
-                if (ReportInstanceManager.getCurrentTestReport() != null)
-                    ExtentReportUtils.extentLogger(LogStatus.FAIL, reportMsg);
+                if (logger.isErrorEnabled())
+                    logger.error(toLogMessage(msg, threadName));
+                if (testReport != null)
+                    testReport.log(LogStatus.FAIL, toReportMessage(msg));
                 break;
             case DEBUG:
-                logger.debug(logMsg);
-                if (ReportInstanceManager.getCurrentTestReport() != null)
-                    ExtentReportUtils.extentLogger(LogStatus.INFO, reportMsg);
+                if (logger.isDebugEnabled())
+                    logger.debug(toLogMessage(msg, threadName));
+                if (testReport != null)
+                    testReport.log(LogStatus.INFO, toReportMessage(msg));
                 break;
         }
 
     }
 
+    private static String toLogMessage(String msg, @Nullable String threadName){
+        String logMessage = removeHtmlTagsForLog(msg);
+        return threadName == null ? logMessage : "[" + threadName + "] " + logMessage;
+    }
+
+    private static String toReportMessage(String msg){
+        return msg.replace("/n", "<br/>").replace("\n", "<br/>");
+    }
+
     /**
      * Take a screenshot and add it to the log if needed (regardless to failures)
      * @param ml the message level from the MessageLevel Enumerator
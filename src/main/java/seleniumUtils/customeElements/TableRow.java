@@ -27,6 +27,9 @@ public class TableRow extends TesnetWebElement {
 
     private static final Logger logger = LoggerFactory.getLogger(TableRow.class);
 
+    //The row's cells - its th and td children. Table.getDataSet selects the cells of all rows with the same expression
+    static final String CELLS_XPATH = "./*[contains(local-name(), 'th') or contains(local-name(), 'td')]";
+
     protected Table parentTable;
     private List<WebElement> cellsElements = null;
 
@@ -179,12 +182,13 @@ public class TableRow extends TesnetWebElement {
      * @author Dafna Genosar
      * @since 07.03.2022
      * @since 13.10.2024
+     * @since 19.10.2026
      */
     public List<WebElement> getCells()
     {
         if(cellsElements == null){
             logger.info("Get all row's cells");
-            cellsElements = findElements(By.xpath("./*[contains(local-name(), 'th') or contains(local-name(), 'td')]"));
+            cellsElements = findElements(By.xpath(CELLS_XPATH));
         }
 
         return cellsElements;
@@ -208,6 +212,7 @@ public class TableRow extends TesnetWebElement {
      * @author Dafna Genosar
      * @since 19.02.2024
      * @since 13.10.2024
+     * @since 19.10.2026
      */
     public WebElement getCell(int index)
     {
@@ -225,7 +230,7 @@ public class TableRow extends TesnetWebElement {
                 throw new Error(String.format("The row element is stale. Cannot return the cell in index %d", index));
 
             try{
-                cell = findElement(By.xpath(String.format("./*[contains(local-name(), 'th') or contains(local-name(), 'td')][%d]", index+1)));
+                cell = findElement(By.xpath(String.format("%s[%d]", CELLS_XPATH, index+1)));
             }
             catch (Exception e){
                 cell = null;
@@ -0,0 +1,905 @@
+package tableUtils;
+
+import collectionUtils.NumericAccumulator;
+import collectionUtils.NumericSummary;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * An immutable in-memory table stored by columns, shared by the readers of DB query results, Excel sheets, CSV files and UI tables.<br>
+ * Column names are interned. Text columns are dictionary encoded - every distinct value is kept once and the rows hold int codes,
+ * so repeating values (statuses, types, countries) cost 4 bytes per row and are compared as ints when filtering, grouping and joining.
+ * A column whose values are all whole numbers or all decimal numbers is stored in a primitive array instead.
+ * A column is typed only if every value converts back to the same text, so reading a value as a String always returns the original text.<br>
+ * The operators (select, filter, groupBy, join) return new DataSets. Unchanged columns are shared, not copied.
+ * Example:
+ * <pre>
+ * DataSet orders = CsvUtils.readAsDataSet("orders.csv");
+ * DataSet open = orders.filterEquals("Status", "Open").select("Id", "Customer", "Amount");
+ * NumericSummary amounts = open.getNumericSummary("Amount");
+ * </pre>
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public final class DataSet {
+
+    public enum ColumnType {STRING, LONG, DOUBLE}
+
+    private final String[] columnNames;
+    private final Map<String, Integer> columnIndexes;
+    private final Column[] columns;
+    private final int rowsCount;
+
+    private DataSet(String[] columnNames, Column[] columns, int rowsCount) {
+        this.columnNames = columnNames;
+        this.columns = columns;
+        this.rowsCount = rowsCount;
+        this.columnIndexes = new HashMap<>(columnNames.length * 2);
+        for (int i = 0; i < columnNames.length; i++) {
+            if (columnIndexes.put(columnNames[i], i) != null)
+                throw new Error(String.format("Column '%s' appears more than once in the data set", columnNames[i]));
+        }
+    }
+
+    /**
+     * @param columnNames the columns names, in order. A repeating name gets the appendix "1", like the DB query results
+     * @return a builder of a data set with the given columns
+     */
+    public static Builder builder(List<String> columnNames) {
+        return new Builder(columnNames);
+    }
+
+    /**
+     * @param columnNames the columns names, in order. A repeating name gets the appendix "1", like the DB query results
+     * @return a builder of a data set with the given columns
+     */
+    public static Builder builder(String... columnNames) {
+        return new Builder(Arrays.asList(columnNames));
+    }
+
+    /**
+     * Create a data set from a list of maps, e.g. the result of the existing Excel / CSV / DB readers.
+     * The columns are the keys of the first map, in its order, followed by keys that only appear in later maps
+     * @param rows the rows
+     * @return the data set
+     */
+    public static DataSet fromMaps(List<? extends Map<String, ?>> rows) {
+        LinkedHashSet<String> names = new LinkedHashSet<>();
+        for (Map<String, ?> row : rows)
+            names.addAll(row.keySet());
+        Builder builder = new Builder(new ArrayList<>(names));
+        for (Map<String, ?> row : rows)
+            builder.addRow(row);
+        return builder.build();
+    }
+
+    public int getRowsCount() {
+        return rowsCount;
+    }
+
+    public int getColumnsCount() {
+        return columnNames.length;
+    }
+
+    /**
+     * @return the columns names, in order
+     */
+    public List<String> getColumnNames() {
+        return Collections.unmodifiableList(Arrays.asList(columnNames));
+    }
+
+    public boolean hasColumn(String columnName) {
+        return columnIndexes.containsKey(columnName);
+    }
+
+    /**
+     * @param columnName the column name
+     * @return the column index
+     */
+    public int getColumnIndex(String columnName) {
+        Integer index = columnIndexes.get(columnName);
+        if (index == null)
+            throw new Error(String.format("Column '%s' does not exist in the data set. Columns: %s", columnName, Arrays.toString(columnNames)));
+        return index;
+    }
+
+    public ColumnType getColumnType(String columnName) {
+        return columns[getColumnIndex(columnName)].getType();
+    }
+
+    /**
+     * @param row the row index, starting at 0
+     * @param columnName the column name
+     * @return the value as text, null if the value is null
+     */
+    public String getString(int row, String columnName) {
+        return columns[getColumnIndex(columnName)].getString(checkRow(row));
+    }
+
+    /**
+     * @param row the row index, starting at 0
+     * @param columnName the column name
+     * @return the value as a long. A text value is parsed
+     */
+    public long getLong(int row, String columnName) {
+        return columns[getColumnIndex(columnName)].getLong(checkRow(row), columnName);
+    }
+
+    /**
+     * @param row the row index, starting at 0
+     * @param columnName the column name
+     * @return the value as a double. A text value is parsed
+     */
+    public double getDouble(int row, String columnName) {
+        return columns[getColumnIndex(columnName)].getDouble(checkRow(row), columnName);
+    }
+
+    public boolean isNull(int row, String columnName) {
+        return columns[getColumnIndex(columnName)].isNull(checkRow(row));
+    }
+
+    /**
+     * @param columnName the column name
+     * @return the values of the column as text, in the rows order
+     */
+    public List<String> getColumnValues(String columnName) {
+        Column column = columns[getColumnIndex(columnName)];
+        List<String> values = new ArrayList<>(rowsCount);
+        for (int row = 0; row < rowsCount; row++)
+            values.add(column.getString(row));
+        return values;
+    }
+
+    /**
+     * @param columnName the column name
+     * @return the distinct values of the column as text, in the order they first appear
+     */
+    public Set<String> getDistinctValues(String columnName) {
+        Column column = columns[getColumnIndex(columnName)];
+        LinkedHashSet<String> values = new LinkedHashSet<>();
+        for (int row = 0; row < rowsCount; row++)
+            values.add(column.getString(row));
+        return values;
+    }
+
+    /**
+     * Summary statistics of a numeric column. Null values are skipped, text values are parsed
+     * @param columnName the column name
+     * @return the count, sum, minimum, maximum, mean and standard deviation of the column
+     */
+    public NumericSummary getNumericSummary(String columnName) {
+        Column column = columns[getColumnIndex(columnName)];
+        NumericAccumulator accumulator = new NumericAccumulator(false);
+        for (int row = 0; row < rowsCount; row++) {
+            if (!column.isNull(row))
+                accumulator.add(column.getDouble(row, columnName));
+        }
+        return accumulator.toSummary();
+    }
+
+    /**
+     * @param row the row index, starting at 0
+     * @return the row as a map of column name and text value
+     */
+    public LinkedHashMap<String, String> getRow(int row) {
+        checkRow(row);
+        LinkedHashMap<String, String> map = new LinkedHashMap<>(columnNames.length * 2);
+        for (int i = 0; i < columnNames.length; i++)
+            map.put(columnNames[i], columns[i].getString(row));
+        return map;
+    }
+
+    /**
+     * @return the rows as maps of column name and text value, in the format of the existing DB / CSV readers
+     */
+    public LinkedList<LinkedHashMap<String, String>> toMaps() {
+        LinkedList<LinkedHashMap<String, String>> rows = new LinkedList<>();
+        for (int row = 0; row < rowsCount; row++)
+            rows.add(getRow(row));
+        return rows;
+    }
+
+    /**
+     * Projection
+     * @param columnNames the columns to keep, in the new order
+     * @return a data set with the given columns. The columns are shared with this data set
+     */
+    public DataSet select(String... columnNames) {
+        Column[] selected = new Column[columnNames.length];
+        String[] names = new String[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            int index = getColumnIndex(columnNames[i]);
+            selected[i] = columns[index];
+            names[i] = this.columnNames[index];
+        }
+        return new DataSet(names, selected, rowsCount);
+    }
+
+    /**
+     * Keep the rows that match a condition
+     * @param condition the condition. The given Row is a cursor that moves to the next row after the condition returns - do not keep it
+     * @return a data set with the matching rows, in the same order
+     */
+    public DataSet filter(Predicate<Row> condition) {
+        Row cursor = new Row();
+        int[] matching = new int[rowsCount];
+        int count = 0;
+        for (int row = 0; row < rowsCount; row++) {
+            cursor.index = row;
+            if (condition.test(cursor))
+                matching[count++] = row;
+        }
+        return take(Arrays.copyOf(matching, count));
+    }
+
+    /**
+     * Keep the rows in which the column value equals the given text.
+     * On a text column the value is looked up in the dictionary once and the rows are matched by their int codes
+     * @param columnName the column name
+     * @param value the value as text, or null to keep the rows with null values
+     * @return a data set with the matching rows, in the same order
+     */
+    public DataSet filterEquals(String columnName, String value) {
+        Column column = columns[getColumnIndex(columnName)];
+        int[] matching = new int[rowsCount];
+        int count = 0;
+        if (column instanceof StringColumn) {
+            StringColumn stringColumn = (StringColumn) column;
+            int code = value == null ? -1 : stringColumn.getCode(value);
+            if (value != null && code == -1)
+                return take(new int[0]);
+            for (int row = 0; row < rowsCount; row++) {
+                if (stringColumn.codes[row] == code)
+                    matching[count++] = row;
+            }
+        }
+        else {
+            for (int row = 0; row < rowsCount; row++) {
+                if (Objects.equals(column.getString(row), value))
+                    matching[count++] = row;
+            }
+        }
+        return take(Arrays.copyOf(matching, count));
+    }
+
+    /**
+     * Split the rows into groups by the values of key columns
+     * @param keyColumns the key columns
+     * @return the groups by their keys values as text, in the order the keys first appear. The rows keep their order in each group
+     */
+    public LinkedHashMap<List<String>, DataSet> groupBy(String... keyColumns) {
+        LinkedHashMap<List<String>, DataSet> result = new LinkedHashMap<>();
+        for (Map.Entry<List<String>, IndexList> group : getGroups(getColumns(keyColumns)).entrySet())
+            result.put(group.getKey(), take(group.getValue().toArray()));
+        return result;
+    }
+
+    /**
+     * @param keyColumns the key columns
+     * @return the number of rows of each key, in the order the keys first appear
+     */
+    public LinkedHashMap<List<String>, Integer> countBy(String... keyColumns) {
+        LinkedHashMap<List<String>, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<List<String>, IndexList> group : getGroups(getColumns(keyColumns)).entrySet())
+            counts.put(group.getKey(), group.getValue().size);
+        return counts;
+    }
+
+    /**
+     * Inner hash join. The other data set is hashed by its keys once, and the rows of this data set look up their matches
+     * @param other the other data set
+     * @param keyColumns the key columns, with the same names in both data sets. Values are matched by their text
+     * @return a data set with the columns of this data set followed by the non-key columns of the other one.
+     * A name that already exists gets the appendix "1". The rows are in the order of this data set, then of the other one
+     */
+    public DataSet join(DataSet other, String... keyColumns) {
+        return join(other, false, keyColumns);
+    }
+
+    /**
+     * Left outer hash join - like {@link #join(DataSet, String...)}, but a row without a match is kept once with null values in the columns of the other data set
+     * @param other the other data set
+     * @param keyColumns the key columns, with the same names in both data sets. Values are matched by their text
+     * @return the joined data set
+     */
+    public DataSet leftJoin(DataSet other, String... keyColumns) {
+        return join(other, true, keyColumns);
+    }
+
+    private DataSet join(DataSet other, boolean keepUnmatched, String... keyColumns) {
+        Column[] leftKeys = getColumns(keyColumns);
+        Column[] rightKeys = other.getColumns(keyColumns);
+
+        HashMap<List<String>, IndexList> rightRows = new HashMap<>(other.rowsCount * 2);
+        for (int row = 0; row < other.rowsCount; row++)
+            rightRows.computeIfAbsent(getKey(rightKeys, row), key -> new IndexList()).add(row);
+
+        IndexList leftIndexes = new IndexList();
+        IndexList rightIndexes = new IndexList();
+        for (int row = 0; row < rowsCount; row++) {
+            IndexList matches = rightRows.get(getKey(leftKeys, row));
+            if (matches != null) {
+                for (int i = 0; i < matches.size; i++) {
+                    leftIndexes.add(row);
+                    rightIndexes.add(matches.values[i]);
+                }
+            }
+            else if (keepUnmatched) {
+                leftIndexes.add(row);
+                rightIndexes.add(-1);
+            }
+        }
+
+        Set<String> keys = new HashSet<>(Arrays.asList(keyColumns));
+        List<String> names = new ArrayList<>(Arrays.asList(columnNames));
+        List<Column> joined = new ArrayList<>();
+        int[] left = leftIndexes.toArray();
+        int[] right = rightIndexes.toArray();
+        for (Column column : columns)
+            joined.add(column.take(left));
+        for (int i = 0; i < other.columnNames.length; i++) {
+            if (keys.contains(other.columnNames[i]))
+                continue;
+            names.add(other.columnNames[i]);
+            joined.add(other.columns[i].take(right));
+        }
+        return new DataSet(uniqueNames(names), joined.toArray(new Column[0]), left.length);
+    }
+
+    /**
+     * @param rows the rows indexes, -1 for a row of nulls
+     * @return a data set of the given rows of this data set
+     */
+    private DataSet take(int[] rows) {
+        Column[] taken = new Column[columns.length];
+        for (int i = 0; i < columns.length; i++)
+            taken[i] = columns[i].take(rows);
+        return new DataSet(columnNames, taken, rows.length);
+    }
+
+    private Column[] getColumns(String[] names) {
+        Column[] result = new Column[names.length];
+        for (int i = 0; i < names.length; i++)
+            result[i] = columns[getColumnIndex(names[i])];
+        return result;
+    }
+
+    /**
+     * The rows of each key, in the order the keys first appear.
+     * A single text key column is grouped by its int codes, without looking up a key per row
+     */
+    private LinkedHashMap<List<String>, IndexList> getGroups(Column[] keys) {
+        LinkedHashMap<List<String>, IndexList> groups = new LinkedHashMap<>();
+        if (keys.length == 1 && keys[0] instanceof StringColumn) {
+            StringColumn column = (StringColumn) keys[0];
+            //index 0 is the null value, code c is at index c + 1
+            IndexList[] groupsByCode = new IndexList[column.dictionary.length + 1];
+            for (int row = 0; row < rowsCount; row++) {
+                int code = column.codes[row] + 1;
+                IndexList group = groupsByCode[code];
+                if (group == null) {
+                    group = new IndexList();
+                    groupsByCode[code] = group;
+                    groups.put(Collections.singletonList(column.getString(row)), group);
+                }
+                group.add(row);
+            }
+            return groups;
+        }
+        for (int row = 0; row < rowsCount; row++)
+            groups.computeIfAbsent(getKey(keys, row), key -> new IndexList()).add(row);
+        return groups;
+    }
+
+    private static List<String> getKey(Column[] keys, int row) {
+        if (keys.length == 1)
+            return Collections.singletonList(keys[0].getString(row));
+        String[] key = new String[keys.length];
+        for (int i = 0; i < keys.length; i++)
+            key[i] = keys[i].getString(row);
+        return Arrays.asList(key);
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= rowsCount)
+            throw new Error(String.format("Row %d does not exist in the data set. Number of rows: %d", row, rowsCount));
+        return row;
+    }
+
+    //A repeating name gets the appendix "1", like the DB query results
+    private static String[] uniqueNames(List<String> names) {
+        String[] unique = new String[names.size()];
+        Set<String> used = new HashSet<>();
+        for (int i = 0; i < unique.length; i++) {
+            String name = names.get(i) == null ? "" : names.get(i);
+            while (!used.add(name))
+                name += "1";
+            unique[i] = name.intern();
+        }
+        return unique;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DataSet of %d rows and %d columns %s", rowsCount, columnNames.length, Arrays.toString(columnNames));
+    }
+
+    /**
+     * A cursor over the rows of the data set, used by {@link #filter(Predicate)}
+     */
+    public final class Row {
+        private int index;
+
+        private Row() {
+        }
+
+        /**
+         * @return the index of the row in the data set being filtered
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public String getString(String columnName) {
+            return columns[getColumnIndex(columnName)].getString(index);
+        }
+
+        public long getLong(String columnName) {
+            return columns[getColumnIndex(columnName)].getLong(index, columnName);
+        }
+
+        public double getDouble(String columnName) {
+            return columns[getColumnIndex(columnName)].getDouble(index, columnName);
+        }
+
+        public boolean isNull(String columnName) {
+            return columns[getColumnIndex(columnName)].isNull(index);
+        }
+    }
+
+    /**
+     * Encodes the rows into the columns as they are added - the rows and their values are not kept.
+     * A column holds whole numbers in a long array or decimal numbers in a double array while all its values are numbers of that kind,
+     * and is dictionary encoded once a value is not, so a repeating text is kept once however many rows hold it
+     */
+    public static final class Builder {
+        private final String[] names;
+        private final Map<String, Integer> indexes;
+        private final ColumnBuilder[] columns;
+        private int rowsCount = 0;
+
+        private Builder(List<String> columnNames) {
+            this.names = uniqueNames(columnNames);
+            this.indexes = new HashMap<>(names.length * 2);
+            this.columns = new ColumnBuilder[names.length];
+            for (int i = 0; i < names.length; i++) {
+                indexes.put(names[i], i);
+                columns[i] = new ColumnBuilder();
+            }
+        }
+
+        /**
+         * @return the columns names, after the repeating names got their appendix
+         */
+        public List<String> getColumnNames() {
+            return Collections.unmodifiableList(Arrays.asList(names));
+        }
+
+        /**
+         * Add a row by the columns order. Missing values at the end are null, extra values are ignored
+         * @param rowValues Strings, Numbers or null. Other objects are added as their toString
+         * @return this builder
+         */
+        public Builder addRow(Object... rowValues) {
+            for (int i = 0; i < columns.length; i++)
+                columns[i].add(i < rowValues.length ? rowValues[i] : null);
+            rowsCount++;
+            return this;
+        }
+
+        /**
+         * Add a row by the columns names. Missing columns are null, unknown columns are ignored
+         * @param row the values by column name
+         * @return this builder
+         */
+        public Builder addRow(Map<String, ?> row) {
+            Object[] rowValues = new Object[names.length];
+            for (Map.Entry<String, ?> entry : row.entrySet()) {
+                Integer index = indexes.get(entry.getKey());
+                if (index != null)
+                    rowValues[index] = entry.getValue();
+            }
+            return addRow(rowValues);
+        }
+
+        public int getRowsCount() {
+            return rowsCount;
+        }
+
+        public DataSet build() {
+            Column[] built = new Column[names.length];
+            for (int i = 0; i < names.length; i++)
+                built[i] = columns[i].build();
+            return new DataSet(names, built, rowsCount);
+        }
+    }
+
+    /**
+     * Encodes the values of one column as they are added.
+     * The type is the narrowest type that every value converts to and back to the same text: the first value sets it,
+     * and a value that does not fit turns the column into text. A number converts back to its original text, so the values
+     * added before are encoded from the primitive array
+     */
+    private static final class ColumnBuilder {
+        //null until the first value that is not null
+        private ColumnType type = null;
+        private long[] longs;
+        private double[] doubles;
+        //the codes of null rows are set when the column is built
+        private int[] codes;
+        private HashMap<String, Integer> codesByValue;
+        private List<String> dictionary;
+        private final BitSet nulls = new BitSet();
+        private int size = 0;
+
+        void add(Object value) {
+            if (value == null) {
+                nulls.set(size);
+            }
+            else {
+                if (type == null)
+                    start(typeOf(value));
+                if (type == ColumnType.LONG && !isLongValue(value))
+                    toStringColumn();
+                else if (type == ColumnType.DOUBLE && !isDoubleValue(value))
+                    toStringColumn();
+
+                ensureCapacity();
+                if (type == ColumnType.LONG)
+                    longs[size] = isIntegralNumber(value) ? ((Number) value).longValue() : Long.parseLong(value.toString());
+                else if (type == ColumnType.DOUBLE)
+                    doubles[size] = value instanceof Double ? (Double) value : Double.parseDouble(value.toString());
+                else
+                    codes[size] = encode(toText(value));
+            }
+            size++;
+        }
+
+        Column build() {
+            if (type == null)
+                start(ColumnType.STRING);
+            if (type == ColumnType.LONG)
+                return new LongColumn(Arrays.copyOf(longs, size), nulls);
+            if (type == ColumnType.DOUBLE)
+                return new DoubleColumn(Arrays.copyOf(doubles, size), nulls);
+
+            int[] built = Arrays.copyOf(codes, size);
+            for (int row = nulls.nextSetBit(0); row >= 0 && row < size; row = nulls.nextSetBit(row + 1))
+                built[row] = -1;
+            return new StringColumn(dictionary.toArray(new String[0]), codesByValue, built);
+        }
+
+        private void start(ColumnType columnType) {
+            type = columnType;
+            int capacity = Math.max(16, size);
+            if (type == ColumnType.LONG)
+                longs = new long[capacity];
+            else if (type == ColumnType.DOUBLE)
+                doubles = new double[capacity];
+            else
+                startDictionary(capacity);
+        }
+
+        private void startDictionary(int capacity) {
+            codes = new int[capacity];
+            codesByValue = new HashMap<>();
+            dictionary = new ArrayList<>();
+        }
+
+        //Encode the numbers added so far as their text
+        private void toStringColumn() {
+            ColumnType previousType = type;
+            startDictionary(Math.max(16, size));
+            for (int row = 0; row < size; row++) {
+                if (!nulls.get(row))
+                    codes[row] = encode(previousType == ColumnType.LONG ? Long.toString(longs[row]) : Double.toString(doubles[row]));
+            }
+            longs = null;
+            doubles = null;
+            type = ColumnType.STRING;
+        }
+
+        private int encode(String text) {
+            Integer code = codesByValue.get(text);
+            if (code == null) {
+                code = dictionary.size();
+                codesByValue.put(text, code);
+                dictionary.add(text);
+            }
+            return code;
+        }
+
+        //Null rows are not written, so the size may pass the arrays length by more than one
+        private void ensureCapacity() {
+            if (type == ColumnType.LONG && size >= longs.length)
+                longs = Arrays.copyOf(longs, size * 2);
+            else if (type == ColumnType.DOUBLE && size >= doubles.length)
+                doubles = Arrays.copyOf(doubles, size * 2);
+            else if (type == ColumnType.STRING && size >= codes.length)
+                codes = Arrays.copyOf(codes, size * 2);
+        }
+    }
+
+    private static ColumnType typeOf(Object value) {
+        if (isLongValue(value))
+            return ColumnType.LONG;
+        if (isDoubleValue(value))
+            return ColumnType.DOUBLE;
+        return ColumnType.STRING;
+    }
+
+    private static boolean isLongValue(Object value) {
+        return isIntegralNumber(value) || (!(value instanceof Double) && isLongText(value.toString()));
+    }
+
+    private static boolean isDoubleValue(Object value) {
+        return value instanceof Double || (!isIntegralNumber(value) && isDoubleText(value.toString()));
+    }
+
+    private static boolean isIntegralNumber(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    //"12" but not "012", "+12" or "12.0"
+    private static boolean isLongText(String text) {
+        int start = text.startsWith("-") ? 1 : 0;
+        if (text.length() == start || text.length() > 20)
+            return false;
+        for (int i = start; i < text.length(); i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9')
+                return false;
+        }
+        try {
+            return Long.toString(Long.parseLong(text)).equals(text);
+        }
+        catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    //"12.5" and "12.0" but not "12", "12.50" or "1e3"
+    private static boolean isDoubleText(String text) {
+        if (text.isEmpty() || (!Character.isDigit(text.charAt(0)) && text.charAt(0) != '-'))
+            return false;
+        try {
+            return Double.toString(Double.parseDouble(text)).equals(text);
+        }
+        catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String toText(Object value) {
+        return value instanceof String ? (String) value : value.toString();
+    }
+
+    private static long parseLong(String text, String columnName) {
+        try {
+            return Long.parseLong(text.trim());
+        }
+        catch (NumberFormatException e) {
+            throw new Error(String.format("Value '%s' of column '%s' is not a whole number", text, columnName));
+        }
+    }
+
+    private static double parseDouble(String text, String columnName) {
+        try {
+            return Double.parseDouble(text.trim());
+        }
+        catch (NumberFormatException e) {
+            throw new Error(String.format("Value '%s' of column '%s' is not a number", text, columnName));
+        }
+    }
+
+    private static Error nullValueError(String columnName) {
+        return new Error(String.format("Value of column '%s' is null", columnName));
+    }
+
+    private abstract static class Column {
+        abstract ColumnType getType();
+
+        abstract boolean isNull(int row);
+
+        abstract String getString(int row);
+
+        abstract long getLong(int row, String columnName);
+
+        abstract double getDouble(int row, String columnName);
+
+        /**
+         * @param rows the rows to take, -1 for a null value
+         * @return a column of the given rows
+         */
+        abstract Column take(int[] rows);
+    }
+
+    private static final class StringColumn extends Column {
+        private final String[] dictionary;
+        private final Map<String, Integer> codesByValue;
+        //-1 is null
+        private final int[] codes;
+
+        private StringColumn(String[] dictionary, Map<String, Integer> codesByValue, int[] codes) {
+            this.dictionary = dictionary;
+            this.codesByValue = codesByValue;
+            this.codes = codes;
+        }
+
+        /**
+         * @return the code of the value, -1 if the value is not in the dictionary
+         */
+        int getCode(String value) {
+            Integer code = codesByValue.get(value);
+            return code == null ? -1 : code;
+        }
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.STRING;
+        }
+
+        @Override
+        boolean isNull(int row) {
+            return codes[row] == -1;
+        }
+
+        @Override
+        String getString(int row) {
+            int code = codes[row];
+            return code == -1 ? null : dictionary[code];
+        }
+
+        @Override
+        long getLong(int row, String columnName) {
+            if (codes[row] == -1)
+                throw nullValueError(columnName);
+            return parseLong(dictionary[codes[row]], columnName);
+        }
+
+        @Override
+        double getDouble(int row, String columnName) {
+            if (codes[row] == -1)
+                throw nullValueError(columnName);
+            return parseDouble(dictionary[codes[row]], columnName);
+        }
+
+        //The dictionary is shared, it may hold values that no taken row uses
+        @Override
+        Column take(int[] rows) {
+            int[] taken = new int[rows.length];
+            for (int i = 0; i < rows.length; i++)
+                taken[i] = rows[i] == -1 ? -1 : codes[rows[i]];
+            return new StringColumn(dictionary, codesByValue, taken);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        private final long[] values;
+        private final BitSet nulls;
+
+        private LongColumn(long[] values, BitSet nulls) {
+            this.values = values;
+            this.nulls = nulls;
+        }
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.LONG;
+        }
+
+        @Override
+        boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        @Override
+        String getString(int row) {
+            return nulls.get(row) ? null : Long.toString(values[row]);
+        }
+
+        @Override
+        long getLong(int row, String columnName) {
+            if (nulls.get(row))
+                throw nullValueError(columnName);
+            return values[row];
+        }
+
+        @Override
+        double getDouble(int row, String columnName) {
+            return getLong(row, columnName);
+        }
+
+        @Override
+        Column take(int[] rows) {
+            long[] taken = new long[rows.length];
+            BitSet takenNulls = new BitSet();
+            for (int i = 0; i < rows.length; i++) {
+                if (rows[i] == -1 || nulls.get(rows[i]))
+                    takenNulls.set(i);
+                else
+                    taken[i] = values[rows[i]];
+            }
+            return new LongColumn(taken, takenNulls);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        private final double[] values;
+        private final BitSet nulls;
+
+        private DoubleColumn(double[] values, BitSet nulls) {
+            this.values = values;
+            this.nulls = nulls;
+        }
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.DOUBLE;
+        }
+
+        @Override
+        boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        @Override
+        String getString(int row) {
+            return nulls.get(row) ? null : Double.toString(values[row]);
+        }
+
+        @Override
+        long getLong(int row, String columnName) {
+            double value = getDouble(row, columnName);
+            if (value != Math.rint(value))
+                throw new Error(String.format("Value '%s' of column '%s' is not a whole number", value, columnName));
+            return (long) value;
+        }
+
+        @Override
+        double getDouble(int row, String columnName) {
+            if (nulls.get(row))
+                throw nullValueError(columnName);
+            return values[row];
+        }
+
+        @Override
+        Column take(int[] rows) {
+            double[] taken = new double[rows.length];
+            BitSet takenNulls = new BitSet();
+            for (int i = 0; i < rows.length; i++) {
+                if (rows[i] == -1 || nulls.get(rows[i]))
+                    takenNulls.set(i);
+                else
+                    taken[i] = values[rows[i]];
+            }
+            return new DoubleColumn(taken, takenNulls);
+        }
+    }
+
+    //A growing int array, to collect rows indexes without boxing
+    private static final class IndexList {
+        private int[] values = new int[4];
+        private int size = 0;
+
+        void add(int value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
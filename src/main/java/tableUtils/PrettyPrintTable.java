@@ -1,6 +1,7 @@
 package tableUtils;
 
 import objectsUtils.StringUtils;
+import objectsUtils.TextDiff;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -313,6 +314,7 @@ public class PrettyPrintTable {
      * @author genosar.dafna
      * @since 01.05.2022
      * @since 08.01.2025
+     * @since 19.10.2026
      */
     public static List<String> highlightStringsDifferences(@Nullable String a, @Nullable String b) {
 
@@ -327,44 +329,8 @@ public class PrettyPrintTable {
             newFirstText = a.equals("") ? "Empty space displays" : a;
             newSecondText = "<mark>No value</mark>";
         }
-        else {
-            int stringLengthCompare = StringUtils.compareStringsLength(a, b);
-
-            String first;
-            String second;
-            boolean didVarsSwapOrder = false;
-            if (stringLengthCompare < 0) {
-                first = a;
-                second = b;
-            } else {
-                first = b;
-                second = a;
-                didVarsSwapOrder = true;
-            }
-
-            for (int i = 0; i < first.length(); i++) {
-
-                char charToCompare1 = first.charAt(i);
-                char charToCompare2 = second.charAt(i);
-                if (charToCompare1 != charToCompare2) {
-                    newFirstText = String.format("%s<mark>%s</mark>", newFirstText, charToCompare1);
-                    newSecondText = String.format("%s<mark>%s</mark>", newSecondText, charToCompare2);
-                } else {
-                    newFirstText = String.format("%s%s", newFirstText, charToCompare1);
-                    newSecondText = String.format("%s%s", newSecondText, charToCompare2);
-                }
-            }
-            second = second.substring(first.length());
-            for (int i = 0; i < second.length(); i++) {
-                if (second.charAt(i) == ' ')
-                    newSecondText = String.format("%s<mark>&nbsp;</mark>", newSecondText);
-                else
-                    newSecondText = String.format("%s<mark>%s</mark>", newSecondText, second.charAt(i));
-            }
-
-            if (didVarsSwapOrder)
-                return Arrays.asList(newSecondText, newFirstText);
-        }
+        else
+            return highlightDifferences(TextDiff.diffCharacters(a, b), a.length(), b.length());
 
         return Arrays.asList(newFirstText, newSecondText);
     }
@@ -400,62 +366,49 @@ public class PrettyPrintTable {
      * @return the 2 Strings with html highlighted different word
      * @author genosar.dafna
      * @since 08.06.2022
+     * @since 19.10.2026
      */
     public static List<String> highlightWordsDifferences(String a, String b) {
+        return highlightDifferences(TextDiff.diffWords(a, b), a.length(), b.length());
+    }
 
-        String newFirstText = "";
-        String newSecondText = "";
-
-        String[] arrA = a.split(" ");
-        String[] arrB = b.split(" ");
-        int stringLengthCompare = arrA.length - arrB.length;
-
-        String[] shortArray;
-        String[] longArray;
-        boolean didVarsSwapOrder = false;
-        if(stringLengthCompare < 0)
-        {
-            shortArray = arrA;
-            longArray = arrB;
-        }
-        else
-        {
-            shortArray = arrB;
-            longArray = arrA;
-            didVarsSwapOrder = true;
-        }
-
-        List<String> listShort = new ArrayList<>(Arrays.asList(shortArray));
-        List<String> listLong = new ArrayList<>(Arrays.asList(longArray));
-
-        List<String> listToRemove = new ArrayList<>();
-
-        for (int i = 0; i < listShort.size(); i++) {
+    /**
+     * Build the 2 highlighted Strings of a diff in a single pass.
+     * The deleted runs are highlighted in the first String, the inserted runs in the second
+     * @param edits the diff runs
+     * @param firstLength the first String length, to size the builder
+     * @param secondLength the second String length, to size the builder
+     * @return the 2 Strings with html highlighted differences
+     * @since 19.10.2026
+     */
+    private static List<String> highlightDifferences(List<TextDiff.Edit> edits, int firstLength, int secondLength) {
 
-            String strToCompare1 = listShort.get(i);
-            String strToCompare2 = listLong.get(i);
+        StringBuilder first = new StringBuilder(firstLength + 32);
+        StringBuilder second = new StringBuilder(secondLength + 32);
 
-            //Is the word is not equal, highlight in yellow
-            if (!strToCompare1.equals(strToCompare2)) {
-                newFirstText = String.format("%s<mark>%s</mark> ", newFirstText, strToCompare1);
-                newSecondText = String.format("%s<mark>%s</mark> ", newSecondText, strToCompare2);
-            } else {
-                newFirstText = String.format("%s%s ", newFirstText, strToCompare1);
-                newSecondText = String.format("%s%s ", newSecondText, strToCompare2);
+        for (TextDiff.Edit edit : edits) {
+            switch (edit.getOperation()) {
+                case EQUAL -> {
+                    first.append(edit.getText());
+                    second.append(edit.getText());
+                }
+                case DELETE -> appendMarked(first, edit.getText());
+                case INSERT -> appendMarked(second, edit.getText());
             }
-            listToRemove.add(strToCompare2);
         }
+        return Arrays.asList(first.toString(), second.toString());
+    }
 
-        //Remove the items the times that were checks from the 2 list (the longer list)
-        listLong.removeAll(listToRemove);
-
-        for (String word: listLong) {
-            newSecondText = String.format("%s<mark>%s</mark> ", newSecondText, word);
+    //Marked spaces are written as &nbsp; so a highlighted space is visible
+    private static void appendMarked(StringBuilder builder, String text) {
+        builder.append("<mark>");
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ' ')
+                builder.append("&nbsp;");
+            else
+                builder.append(c);
         }
-
-        if(didVarsSwapOrder)
-            return Arrays.asList(newSecondText, newFirstText);
-
-        return Arrays.asList(newFirstText, newSecondText);
+        builder.append("</mark>");
     }
 }
@@ -2,8 +2,12 @@ package verificationsUtils;
 
 import AssertionsWithReport.AssertsWithReport;
 import AssertionsWithReport.SoftAssertsWithReport;
+import apiUtils.JsonDiff;
 import collectionUtils.ListUtils;
 import collectionUtils.MapUtils;
+import collectionUtils.MapsListReconciler;
+import collectionUtils.MultisetDiff;
+import collectionUtils.SortOrderVerifier;
 import com.google.common.base.Stopwatch;
 import com.relevantcodes.extentreports.LogStatus;
 import dateTimeUtils.DateTime;
@@ -39,6 +43,10 @@ import static reportUtils.ReportStyle.getSuccessMessage;
 public class CommonVerifications {
 
     private static final Logger logger = LoggerFactory.getLogger(CommonVerifications.class);
+    //Differences of reconciled lists are reported in lines of up to 200 rows, up to 2000 rows
+    private static final int RECONCILIATION_ROWS_PER_REPORT_LINE = 200;
+    private static final int RECONCILIATION_MAX_REPORTED_ROWS = 2000;
+    private static final int JSON_MAX_REPORTED_DIFFERENCES = 200;
 
     /**
      * Verify the status code received from the browser's matches the received status code
@@ -1359,6 +1367,63 @@ public class CommonVerifications {
         return match;
     }
 
+    /**
+     * Verify the values are sorted, e.g. the values of a table column after sorting it in the UI.
+     * The list is checked in one pass, without copying and sorting it
+     * @param values the values in their displayed order
+     * @param sortOrderVerifier the sort order to verify - the sort key, comparator and direction. For example SortOrderVerifier.dates("dd/MM/yyyy").setOrder(AscDescEnum.DESC)
+     * @param listName the name of the values for the report
+     * @param softAssertsWithReport a SoftAssertsWithReport or null if you wish to use AssertsWithReport
+     * @return the result, with the first violations
+     * @since 19.10.2026
+     */
+    public static <T> SortOrderVerifier.Result<T> verifySortOrder(List<T> values, SortOrderVerifier<T, ?> sortOrderVerifier, String listName, @Nullable SoftAssertsWithReport softAssertsWithReport)
+    {
+        SortOrderVerifier.Result<T> result = sortOrderVerifier.verify(values);
+
+        String successMessage = ReportStyle.getSuccessMessage(String.format("%s is sorted - %d values", listName, result.getItemsCount()));
+        String errorMessage = ReportStyle.getFailureMessage(String.format("%s is not sorted<br>%s", listName, result));
+
+        if(softAssertsWithReport == null)
+            AssertsWithReport.assertTrue(result.isSorted(), successMessage, errorMessage);
+        else
+            softAssertsWithReport.assertTrue(result.isSorted(), successMessage, errorMessage);
+
+        return result;
+    }
+
+    /**
+     * Verify the actual JSON matches the expected JSON structurally. The documents are compared side by side without converting them to maps
+     * @param actualJson the actual JSON, e.g. an API response body
+     * @param expectedJson the expected JSON
+     * @param jsonDiff the comparison settings - ignored paths, array keys and numeric tolerance. null to compare everything exactly
+     * @param softAssertsWithReport a SoftAssertsWithReport or null if you wish to use AssertsWithReport
+     * @return the patch entries that turn the expected JSON into the actual JSON. Empty if they match
+     * @since 19.10.2026
+     */
+    public static List<JsonDiff.PatchEntry> verifyJsonDocuments(String actualJson, String expectedJson, @Nullable JsonDiff jsonDiff, @Nullable SoftAssertsWithReport softAssertsWithReport)
+    {
+        reportAndLog("Compare the actual JSON to the expected JSON", MessageLevel.INFO);
+
+        List<JsonDiff.PatchEntry> differences = (jsonDiff == null ? new JsonDiff() : jsonDiff).compare(expectedJson, actualJson);
+
+        StringBuilder reportedDifferences = new StringBuilder();
+        for (JsonDiff.PatchEntry difference : differences.subList(0, Math.min(differences.size(), JSON_MAX_REPORTED_DIFFERENCES)))
+            reportedDifferences.append("<br>").append(difference);
+        if (differences.size() > JSON_MAX_REPORTED_DIFFERENCES)
+            reportedDifferences.append(String.format("<br>... and %d more", differences.size() - JSON_MAX_REPORTED_DIFFERENCES));
+
+        String successMessage = ReportStyle.getSuccessMessage("The actual JSON matches the expected JSON");
+        String errorMessage = ReportStyle.getFailureMessage(String.format("The actual JSON does not match the expected JSON - %d differences%s", differences.size(), reportedDifferences));
+
+        if(softAssertsWithReport == null)
+            AssertsWithReport.assertTrue(differences.isEmpty(), successMessage, errorMessage);
+        else
+            softAssertsWithReport.assertTrue(differences.isEmpty(), successMessage, errorMessage);
+
+        return differences;
+    }
+
     /**
      * Verify actual list of maps matches the expected data. Will not compare the content if the lists are not the same size
      * @param list1 the actual data
@@ -1401,22 +1466,53 @@ public class CommonVerifications {
                 verifyComparisonOfMaps(list1.get(i), list2.get(i), data1_name_forReport, data2_name_forReport, softAssertsWithReport);
             }
         }
+        else if(columnOfUniqueValueToDisplayInReport != null){
+            //Join the rows on the unique column and report the rows of one list only and the changed rows
+            MapsListReconciler.Result<K, V> result = new MapsListReconciler<K, V>(List.of((K) columnOfUniqueValueToDisplayInReport)).reconcile(list1, list2);
+            reportAndLog(String.format("Rows by %s: %s", columnOfUniqueValueToDisplayInReport, result), MessageLevel.INFO);
+            result.writeHtml(data1_name, data2_name, RECONCILIATION_ROWS_PER_REPORT_LINE, RECONCILIATION_MAX_REPORTED_ROWS, line -> reportAndLog(line, MessageLevel.ERROR));
+        }
         else{
-            logger.info("Create sets");
-            Set<T> set1 = new HashSet<>(list1);
-            Set<T> set2 = new HashSet<>(list2);
+            //Report the rows that are in one list only
+            HashMap<Integer, List<T>> differences = MultisetDiff.of(list1, list2).toDifferencesMap();
+            ListUtils.printListsDifferences(list1, list2, differences, data1_name, data2_name, MessageLevel.ERROR);
+        }
+    }
 
-            logger.info("Items in list1 but not in list2");
-            // Items in list1 but not in list2
-            Set<T> onlyInList1 = new HashSet<>(set1);
-            onlyInList1.removeAll(set2);
+    /**
+     * Verify 2 lists of maps contain the same rows, joined on key columns - the order of the rows does not matter.
+     * Reports the changed rows column by column and the rows that are in one list only
+     * @param actualData the actual data
+     * @param expectedData the expected data
+     * @param keyColumns the columns that identify a row in both lists
+     * @param data1_name the name of the actual data, displayed in the report
+     * @param data2_name the name of the expected data, displayed in the report
+     * @param compareAsStrings true to compare the values as trimmed Strings (e.g. DB values against UI text), false to compare them as they are
+     * @param softAssertsWithReport a SoftAssertsWithReport or null if you wish to use AssertsWithReport
+     * @return the reconciliation result
+     * @since 19.10.2026
+     */
+    public static <K, V, T extends Map<K, V>> MapsListReconciler.Result<K, V> verifyReconciliationOfHashMapsLists(List<T> actualData, List<T> expectedData, List<K> keyColumns, String data1_name, String data2_name, boolean compareAsStrings, @Nullable SoftAssertsWithReport softAssertsWithReport)
+    {
+        reportAndLog(String.format("Reconcile Map lists '%s' and '%s' by %s", data1_name, data2_name, keyColumns), MessageLevel.INFO);
 
-            logger.info("Items in list2 but not in list1");
-            // Items in list2 but not in list1
-            Set<T> onlyInList2 = new HashSet<>(set2);
-            onlyInList2.removeAll(set1);
+        MapsListReconciler.Result<K, V> result = new MapsListReconciler<K, V>(keyColumns)
+                .setCompareAsStrings(compareAsStrings)
+                .setParallel(true)
+                .reconcile(actualData, expectedData);
 
-        }
+        if (!result.isMatch())
+            result.writeHtml(data1_name, data2_name, RECONCILIATION_ROWS_PER_REPORT_LINE, RECONCILIATION_MAX_REPORTED_ROWS, line -> reportAndLog(line, MessageLevel.ERROR));
+
+        String successMessage = ReportStyle.getSuccessMessage(String.format("%s matches %s - %d rows", data1_name, data2_name, result.getMatched().size()));
+        String errorMessage = ReportStyle.getFailureMessage(String.format("%s does not match %s<br>%s", data1_name, data2_name, result));
+
+        if(softAssertsWithReport == null)
+            AssertsWithReport.assertTrue(result.isMatch(), successMessage, errorMessage);
+        else
+            softAssertsWithReport.assertTrue(result.isMatch(), successMessage, errorMessage);
+
+        return result;
     }
 
     /**
@@ -2,12 +2,14 @@ package waitUtils;
 
 import org.openqa.selenium.WebDriver;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Retry a logic, until something defined will happen<br>
  * or logic was retried several times according to count class parameter
- * use anonymous inner class for specified what needs to be retried
+ * use anonymous inner class for specified what needs to be retried<br>
+ * For exponential backoff, jitter, a time budget or async retries use {@link RetryPolicy}
  * @author: Yael
  * @since 28.6.2021
  * <b>Example</b><br>
@@ -79,21 +81,17 @@ public class Retry {
      * @since 28.6.2021
      */
     public void attempt(Attemptable attemptable) {
-        for (int i = 0; i < count; i++) {
-            try {
-                attemptable.attempt();
-                return;
-            } catch (Throwable e) {
-                if (i == count - 1) {
-                    throw new IllegalStateException(e);
-                }
-                    attemptable.onAttemptFail();
-                }
-                try {
-                    unit.sleep(interval);
-                } catch (InterruptedException e) {
-                    throw new IllegalStateException(e);
-                }
+        if (count < 1)
+            return;
+
+        RetryPolicy retryPolicy = new RetryPolicy()
+                .setMaxAttempts((int) count)
+                .setFixedDelay(Duration.ofNanos(unit.toNanos(interval)))
+                .onRetry((attempt, t) -> attemptable.onAttemptFail());
+        try {
+            retryPolicy.run(attemptable::attempt);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
         }
     }
 }
@@ -0,0 +1,328 @@
+package waitUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Retry policy with exponential backoff, full jitter, a time budget and classification of retryable failures.<br>
+ * The delay before attempt n+1 is min(maxDelay, initialDelay * multiplier^(n-1)). With jitter, a random delay between 0 and
+ * that value is used, so parallel tests that fail together do not retry together.<br>
+ * Every execution is recorded in the {@link RetryStatistics} of the calling test.<br>
+ * <b>Example</b><br>
+ * <pre>{@code
+ *      RetryPolicy policy = new RetryPolicy()
+ *              .setMaxAttempts(5)
+ *              .setInitialDelay(Duration.ofMillis(200))
+ *              .setMaxElapsedTime(Duration.ofSeconds(30))
+ *              .retryOn(StaleElementReferenceException.class, TimeoutException.class);
+ *
+ *      String text = policy.call(() -> driver.findElement(By.id("status")).getText());
+ *      CompletableFuture<Response> response = policy.callAsync(() -> restApi.get(url));
+ * }</pre>
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class RetryPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryPolicy.class);
+
+    private static final ScheduledExecutorService asyncExecutor = Executors.newScheduledThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors() / 2), runnable -> {
+                Thread thread = new Thread(runnable, "retry-policy");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private int maxAttempts = 3;
+    private Duration initialDelay = Duration.ofSeconds(1);
+    private double multiplier = 2;
+    private Duration maxDelay = Duration.ofSeconds(30);
+    private Duration maxElapsedTime = null;
+    private boolean jitter = true;
+    private boolean recordStatistics = true;
+    private final List<Class<? extends Throwable>> retryOn = new ArrayList<>();
+    private final List<Class<? extends Throwable>> abortOn = new ArrayList<>();
+    private Predicate<Throwable> retryIf = t -> true;
+    private BiConsumer<Integer, Throwable> onRetry = (attempt, t) -> {};
+
+    /**
+     * An action to retry. Any Throwable it throws counts as a failed attempt
+     */
+    @FunctionalInterface
+    public interface RetryableAction {
+        void run() throws Throwable;
+    }
+
+    /**
+     * @param maxAttempts the maximum number of attempts, including the first one
+     */
+    public RetryPolicy setMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1)
+            throw new IllegalArgumentException("Max attempts must be at least 1");
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * @param initialDelay the delay before the second attempt
+     */
+    public RetryPolicy setInitialDelay(Duration initialDelay) {
+        this.initialDelay = initialDelay;
+        return this;
+    }
+
+    /**
+     * @param multiplier the factor the delay grows by after every failed attempt. 1 means a fixed delay
+     */
+    public RetryPolicy setMultiplier(double multiplier) {
+        if (multiplier < 1)
+            throw new IllegalArgumentException("Multiplier must be at least 1");
+        this.multiplier = multiplier;
+        return this;
+    }
+
+    /**
+     * @param maxDelay the upper limit of a single delay
+     */
+    public RetryPolicy setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+    /**
+     * @param maxElapsedTime the time budget of all the attempts. No attempt starts after the budget is used. Null means no budget
+     */
+    public RetryPolicy setMaxElapsedTime(Duration maxElapsedTime) {
+        this.maxElapsedTime = maxElapsedTime;
+        return this;
+    }
+
+    /**
+     * @param jitter true to wait a random time between 0 and the backoff delay (full jitter) / false to wait the exact delay
+     */
+    public RetryPolicy setJitter(boolean jitter) {
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * @param recordStatistics true to record the retries in the statistics of the test running on the calling thread (default) /
+     *                         false for a policy used by background threads that do not run a test, so nothing is added to their thread store
+     */
+    public RetryPolicy setRecordStatistics(boolean recordStatistics) {
+        this.recordStatistics = recordStatistics;
+        return this;
+    }
+
+    /**
+     * Set a fixed delay between the attempts, without jitter
+     * @param delay the delay
+     */
+    public RetryPolicy setFixedDelay(Duration delay) {
+        this.initialDelay = delay;
+        this.maxDelay = delay;
+        this.multiplier = 1;
+        this.jitter = false;
+        return this;
+    }
+
+    /**
+     * Retry only failures of the given types (or their subtypes). If not set, all failures are retried
+     * @param types the retryable types
+     */
+    @SafeVarargs
+    public final RetryPolicy retryOn(Class<? extends Throwable>... types) {
+        for (Class<? extends Throwable> type : types)
+            retryOn.add(type);
+        return this;
+    }
+
+    /**
+     * Never retry failures of the given types (or their subtypes). Takes precedence over {@link #retryOn(Class[])}
+     * @param types the non retryable types
+     */
+    @SafeVarargs
+    public final RetryPolicy abortOn(Class<? extends Throwable>... types) {
+        for (Class<? extends Throwable> type : types)
+            abortOn.add(type);
+        return this;
+    }
+
+    /**
+     * @param retryIf additional condition a failure must meet to be retried
+     */
+    public RetryPolicy retryIf(Predicate<Throwable> retryIf) {
+        this.retryIf = retryIf;
+        return this;
+    }
+
+    /**
+     * @param onRetry called after a failed attempt that is going to be retried, with the attempt number and the failure
+     */
+    public RetryPolicy onRetry(BiConsumer<Integer, Throwable> onRetry) {
+        this.onRetry = onRetry;
+        return this;
+    }
+
+    /**
+     * Run the action until it succeeds or until the policy gives up
+     * @param action the action
+     * @throws RuntimeException or Error - the last failure if it is unchecked. A checked failure is wrapped in an Error
+     */
+    public void run(RetryableAction action) {
+        call(() -> {
+            try {
+                action.run();
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new ExecutionException(t);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Call the callable until it succeeds or until the policy gives up
+     * @param callable the callable
+     * @return the result of the successful attempt
+     * @throws RuntimeException or Error - the last failure if it is unchecked. A checked failure is wrapped in an Error
+     */
+    public <T> T call(Callable<T> callable) {
+        RetryStatistics statistics = getStatistics();
+        long start = System.nanoTime();
+
+        for (int attempt = 1; ; attempt++) {
+            long attemptStart = System.nanoTime();
+            try {
+                T result = callable.call();
+                statistics.record(attempt, attemptStart - start, true);
+                return result;
+            } catch (Throwable t) {
+                long delayNanos = getDelayBeforeNextAttempt(attempt, t, start);
+                if (delayNanos < 0) {
+                    statistics.record(attempt, System.nanoTime() - start, false);
+                    Throwable failure = unwrap(t);
+                    if (failure instanceof RuntimeException)
+                        throw (RuntimeException) failure;
+                    throw toError(failure, attempt);
+                }
+                onRetry.accept(attempt, t);
+                logger.debug(String.format("Attempt %d failed (%s). Retrying in %d ms", attempt, t, delayNanos / 1_000_000));
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delayNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    statistics.record(attempt, System.nanoTime() - start, false);
+                    throw new Error("Interrupted while waiting to retry", t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Call the callable asynchronously until it succeeds or until the policy gives up.
+     * No thread is blocked during the delays - the next attempt is scheduled on a shared scheduler
+     * @param callable the callable
+     * @return a future of the result of the successful attempt. It completes exceptionally with the last failure if the policy gives up
+     */
+    public <T> CompletableFuture<T> callAsync(Callable<T> callable) {
+        return callAsync(callable, asyncExecutor);
+    }
+
+    /**
+     * Call the callable asynchronously on the given scheduler until it succeeds or until the policy gives up
+     * @param callable the callable
+     * @param executor the scheduler to run the attempts on
+     * @return a future of the result of the successful attempt. It completes exceptionally with the last failure if the policy gives up
+     */
+    public <T> CompletableFuture<T> callAsync(Callable<T> callable, ScheduledExecutorService executor) {
+        //Take the statistics of the calling test, the attempts run on other threads
+        RetryStatistics statistics = getStatistics();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long start = System.nanoTime();
+        executor.execute(() -> attemptAsync(callable, executor, future, statistics, 1, start));
+        return future;
+    }
+
+    private <T> void attemptAsync(Callable<T> callable, ScheduledExecutorService executor, CompletableFuture<T> future,
+                                  RetryStatistics statistics, int attempt, long start) {
+        if (future.isDone())
+            return;
+
+        long attemptStart = System.nanoTime();
+        try {
+            T result = callable.call();
+            statistics.record(attempt, attemptStart - start, true);
+            future.complete(result);
+        } catch (Throwable t) {
+            long delayNanos = getDelayBeforeNextAttempt(attempt, t, start);
+            if (delayNanos < 0) {
+                statistics.record(attempt, System.nanoTime() - start, false);
+                future.completeExceptionally(t);
+                return;
+            }
+            onRetry.accept(attempt, t);
+            logger.debug(String.format("Async attempt %d failed (%s). Retrying in %d ms", attempt, t, delayNanos / 1_000_000));
+            executor.schedule(() -> attemptAsync(callable, executor, future, statistics, attempt + 1, start), delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @return the delay before the next attempt in nanoseconds, or -1 if the failure should not be retried
+     */
+    private long getDelayBeforeNextAttempt(int attempt, Throwable t, long start) {
+        if (attempt >= maxAttempts || !isRetryable(t))
+            return -1;
+
+        double backoff = initialDelay.toNanos() * Math.pow(multiplier, attempt - 1);
+        long delayNanos = (long) Math.min(backoff, maxDelay.toNanos());
+        if (jitter && delayNanos > 0)
+            delayNanos = ThreadLocalRandom.current().nextLong(delayNanos + 1);
+
+        if (maxElapsedTime != null && System.nanoTime() - start + delayNanos > maxElapsedTime.toNanos()) {
+            logger.debug(String.format("Retry budget of %d ms is used. Not retrying", maxElapsedTime.toMillis()));
+            return -1;
+        }
+        return delayNanos;
+    }
+
+    private boolean isRetryable(Throwable t) {
+        Throwable failure = unwrap(t);
+
+        for (Class<? extends Throwable> type : abortOn) {
+            if (type.isInstance(failure))
+                return false;
+        }
+        if (!retryOn.isEmpty() && retryOn.stream().noneMatch(type -> type.isInstance(failure)))
+            return false;
+
+        return retryIf.test(failure);
+    }
+
+    //Statistics that are not recorded in a test's store are counted into a discarded instance
+    private RetryStatistics getStatistics() {
+        return recordStatistics ? RetryStatistics.getCurrentTestStatistics() : new RetryStatistics();
+    }
+
+    //Unwrap the failure of a RetryableAction
+    private static Throwable unwrap(Throwable t) {
+        return (t instanceof ExecutionException && t.getCause() != null) ? t.getCause() : t;
+    }
+
+    /**
+     * @return the failure if it is an Error, otherwise an Error that wraps the checked failure
+     */
+    private static Error toError(Throwable failure, int attempts) {
+        if (failure instanceof Error)
+            return (Error) failure;
+        return new Error(String.format("Failed after %d attempt(s): %s", attempts, failure.getMessage()), failure);
+    }
+}
@@ -0,0 +1,90 @@
+package waitUtils;
+
+import Store.Store;
+import Store.StoreManager;
+import Store.StoreType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static enumerations.TestMetricsEnum.RETRY_STATISTICS;
+
+/**
+ * Counters of the retries that took place during a single test.
+ * The counters are kept in the test thread's store, so the Elastic metrics report can attach them to the test.
+ * They are atomic, since async retries update them from other threads
+ * @since 19.10.2026
+ */
+@SuppressWarnings("unused")
+public class RetryStatistics {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final AtomicInteger retries = new AtomicInteger();
+    private final AtomicInteger exhausted = new AtomicInteger();
+    private final AtomicLong timeLostNanos = new AtomicLong();
+
+    /**
+     * Get the retry statistics of the test running on the current thread. Creates them if they do not exist yet
+     * @return the retry statistics of the current test
+     */
+    public static RetryStatistics getCurrentTestStatistics() {
+        Store store = StoreManager.getStore(StoreType.LOCAL_THREAD);
+        synchronized (store) {
+            RetryStatistics statistics = store.getValueFromStore(RETRY_STATISTICS);
+            if (statistics == null) {
+                statistics = new RetryStatistics();
+                store.putValueInStore(RETRY_STATISTICS, statistics);
+            }
+            return statistics;
+        }
+    }
+
+    /**
+     * Start new retry statistics for the test running on the current thread
+     */
+    public static void resetCurrentTestStatistics() {
+        StoreManager.getStore(StoreType.LOCAL_THREAD).putValueInStore(RETRY_STATISTICS, new RetryStatistics());
+    }
+
+    /**
+     * Record a retried operation
+     * @param attemptsCount the number of attempts the operation took
+     * @param timeLostNanos the time spent on failed attempts and on the delays between the attempts
+     * @param succeeded false if the retries were exhausted without success
+     */
+    void record(int attemptsCount, long timeLostNanos, boolean succeeded) {
+        attempts.addAndGet(attemptsCount);
+        retries.addAndGet(Math.max(0, attemptsCount - 1));
+        this.timeLostNanos.addAndGet(timeLostNanos);
+        if (!succeeded)
+            exhausted.incrementAndGet();
+    }
+
+    /**
+     * @return the number of attempts of all the retried operations
+     */
+    public int getAttempts() {
+        return attempts.get();
+    }
+
+    /**
+     * @return the number of attempts that followed a failed attempt
+     */
+    public int getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * @return the number of operations that failed after all their attempts
+     */
+    public int getExhausted() {
+        return exhausted.get();
+    }
+
+    /**
+     * @return the time spent on failed attempts and delays, in milliseconds
+     */
+    public long getTimeLostInMillis() {
+        return timeLostNanos.get() / 1_000_000;
+    }
+}